@@ -0,0 +1,97 @@
+package com.hubspot.algebra.benchmarks;
+
+import com.hubspot.algebra.Attempt;
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.StacklessException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the error path of wrapping throwing code: a plain try/catch around a regular
+ * exception against {@link Attempt} with regular, stackless and preallocated exceptions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AttemptBenchmark {
+
+  private enum LookupError {
+    NOT_FOUND,
+    UNKNOWN,
+  }
+
+  private static final class NotFoundException extends RuntimeException {
+
+    private NotFoundException() {
+      super("not found");
+    }
+  }
+
+  private static final class StacklessNotFoundException extends StacklessException {
+
+    private static final StacklessNotFoundException INSTANCE =
+      new StacklessNotFoundException();
+
+    private StacklessNotFoundException() {
+      super("not found");
+    }
+  }
+
+  private static final Attempt<LookupError> ATTEMPT = Attempt
+    .<LookupError>builder()
+    .map(NotFoundException.class, e -> LookupError.NOT_FOUND)
+    .map(StacklessNotFoundException.class, e -> LookupError.NOT_FOUND)
+    .orElse(e -> LookupError.UNKNOWN)
+    .build();
+
+  private int depth = 10;
+
+  @Benchmark
+  public Result<String, LookupError> tryCatch() {
+    try {
+      return Result.ok(lookup(depth, NotFoundException::new));
+    } catch (NotFoundException e) {
+      return Result.err(LookupError.NOT_FOUND);
+    }
+  }
+
+  @Benchmark
+  public Result<String, LookupError> attempt() {
+    return ATTEMPT.get(() -> lookup(depth, NotFoundException::new));
+  }
+
+  @Benchmark
+  public Result<String, LookupError> attemptStackless() {
+    return ATTEMPT.get(() -> lookup(depth, StacklessNotFoundException::new));
+  }
+
+  @Benchmark
+  public Result<String, LookupError> attemptPreallocated() {
+    return ATTEMPT.get(() -> lookup(depth, () -> StacklessNotFoundException.INSTANCE));
+  }
+
+  /**
+   * Throws from a few frames down, like a real lookup would.
+   */
+  private static String lookup(
+    int depth,
+    Supplier<? extends RuntimeException> failure
+  ) {
+    if (depth == 0) {
+      throw failure.get();
+    }
+    return lookup(depth - 1, failure);
+  }
+}
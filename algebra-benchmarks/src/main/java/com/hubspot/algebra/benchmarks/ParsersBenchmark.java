@@ -0,0 +1,109 @@
+package com.hubspot.algebra.benchmarks;
+
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.parse.ParseError;
+import com.hubspot.algebra.parse.Parsers;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares rejecting invalid input with {@link Parsers} against catching the exceptions
+ * thrown by the JDK parsers, and parsing a valid id out of a path with and without a
+ * substring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ParsersBenchmark {
+
+  private final String invalidInt = "12345x";
+  private final String invalidUuid = "123e4567-e89b-12d3-a456-42661417400g";
+  private final String invalidEnum = "WEEKS";
+  private final String invalidDate = "2023-02-30";
+  private final String path = "/users/1234567/profile";
+
+  @Benchmark
+  public int invalidIntWithException() {
+    try {
+      return Integer.parseInt(invalidInt);
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  @Benchmark
+  public Result<Integer, ParseError> invalidIntWithResult() {
+    return Parsers.parseInt(invalidInt);
+  }
+
+  @Benchmark
+  public int invalidIntWithFallback() {
+    return Parsers.parseIntOr(invalidInt, -1);
+  }
+
+  @Benchmark
+  public UUID invalidUuidWithException() {
+    try {
+      return UUID.fromString(invalidUuid);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Result<UUID, ParseError> invalidUuidWithResult() {
+    return Parsers.parseUuid(invalidUuid);
+  }
+
+  @Benchmark
+  public TimeUnit invalidEnumWithException() {
+    try {
+      return TimeUnit.valueOf(invalidEnum);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Result<TimeUnit, ParseError> invalidEnumWithResult() {
+    return Parsers.parseEnum(TimeUnit.class, invalidEnum);
+  }
+
+  @Benchmark
+  public LocalDate invalidDateWithException() {
+    try {
+      return LocalDate.parse(invalidDate);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Result<LocalDate, ParseError> invalidDateWithResult() {
+    return Parsers.parseIsoDate(invalidDate);
+  }
+
+  @Benchmark
+  public long pathIdWithSubstring() {
+    return Long.parseLong(path.substring(7, path.indexOf('/', 7)));
+  }
+
+  @Benchmark
+  public long pathIdInPlace() {
+    return Parsers.parseLongOr(path, 7, path.indexOf('/', 7), -1);
+  }
+}
@@ -0,0 +1,98 @@
+package com.hubspot.algebra.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.ResultBatch;
+import com.hubspot.algebra.ResultModule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a list of Results with a {@link ResultBatch} of the same Results, where most
+ * elements are one of a few errors, as in a partially failed fan-out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResultBatchBenchmark {
+
+  private static final int SIZE = 1000;
+  private static final String[] ERRORS = {
+    "upstream service rate limited the request",
+    "upstream service timed out after 500 ms",
+    "object was not found",
+  };
+
+  private static final TypeReference<List<Result<Long, String>>> LIST_TYPE =
+    new TypeReference<List<Result<Long, String>>>() {};
+  private static final TypeReference<ResultBatch<Long, String>> BATCH_TYPE =
+    new TypeReference<ResultBatch<Long, String>>() {};
+
+  private List<Result<Long, String>> results;
+  private ResultBatch<Long, String> batch;
+
+  private ObjectWriter listWriter;
+  private ObjectReader listReader;
+  private ObjectWriter batchWriter;
+  private ObjectReader batchReader;
+
+  private byte[] listJson;
+  private byte[] batchJson;
+
+  @Setup
+  public void setup() throws Exception {
+    results = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      results.add(
+        i % 5 == 0 ? Result.ok((long) i) : Result.err(new String(ERRORS[i % 3]))
+      );
+    }
+    batch = ResultBatch.of(results);
+
+    ObjectMapper mapper = new ObjectMapper().registerModule(new ResultModule());
+    listWriter = mapper.writerFor(LIST_TYPE);
+    listReader = mapper.readerFor(LIST_TYPE);
+    batchWriter = mapper.writerFor(BATCH_TYPE);
+    batchReader = mapper.readerFor(BATCH_TYPE);
+
+    listJson = listWriter.writeValueAsBytes(results);
+    batchJson = batchWriter.writeValueAsBytes(batch);
+  }
+
+  @Benchmark
+  public byte[] encodeList() throws Exception {
+    return listWriter.writeValueAsBytes(results);
+  }
+
+  @Benchmark
+  public byte[] encodeBatch() throws Exception {
+    return batchWriter.writeValueAsBytes(batch);
+  }
+
+  @Benchmark
+  public List<Result<Long, String>> decodeList() throws Exception {
+    return listReader.readValue(listJson);
+  }
+
+  @Benchmark
+  public ResultBatch<Long, String> decodeBatch() throws Exception {
+    return batchReader.readValue(batchJson);
+  }
+}
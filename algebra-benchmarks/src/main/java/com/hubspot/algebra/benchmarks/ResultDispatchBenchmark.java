@@ -0,0 +1,95 @@
+package com.hubspot.algebra.benchmarks;
+
+import com.hubspot.algebra.Result;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the ways of branching on a Result over a mix of Oks and Errs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResultDispatchBenchmark {
+
+  private static final int SIZE = 1024;
+
+  private Result<Integer, String>[] results;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    results = new Result[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      results[i] = i % 4 == 0 ? Result.err("error" + i) : Result.ok(i);
+    }
+  }
+
+  @Benchmark
+  public int match() {
+    int sum = 0;
+    for (Result<Integer, String> result : results) {
+      sum += result.match(String::length, ok -> ok);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int switchOnCase() {
+    int sum = 0;
+    for (Result<Integer, String> result : results) {
+      switch (result.getCase()) {
+        case OK:
+          sum += result.unwrapOrElseThrow();
+          break;
+        case ERR:
+          sum += result.unwrapErrOrElseThrow().length();
+          break;
+        default:
+          throw new IllegalStateException();
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int isOkThenUnwrap() {
+    int sum = 0;
+    for (Result<Integer, String> result : results) {
+      if (result.isOk()) {
+        sum += result.unwrapOrElseThrow();
+      } else {
+        sum += result.unwrapErrOrElseThrow().length();
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int mapOkChain() {
+    int sum = 0;
+    for (Result<Integer, String> result : results) {
+      sum +=
+        result
+          .mapOk(i -> i + 1)
+          .mapOk(i -> i * 2)
+          .mapOk(i -> i - 1)
+          .flatMapOk(i -> i % 3 == 0 ? Result.err("multiple of three") : Result.ok(i))
+          .mapErr(String::length)
+          .match(err -> err, ok -> ok);
+    }
+    return sum;
+  }
+}
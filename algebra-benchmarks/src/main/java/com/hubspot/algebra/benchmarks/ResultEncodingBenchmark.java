@@ -0,0 +1,113 @@
+package com.hubspot.algebra.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.StringValue;
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.ResultModule;
+import com.hubspot.algebra.protobuf.MessageCodecs;
+import com.hubspot.algebra.protobuf.ResultProtoCodec;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares encoding and decoding a Result with {@link ResultProtoCodec} against
+ * {@link ResultModule} with JSON and Smile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResultEncodingBenchmark {
+
+  private static final TypeReference<Result<String, Long>> JACKSON_TYPE =
+    new TypeReference<Result<String, Long>>() {};
+
+  private static final ResultProtoCodec<StringValue, Int64Value> PROTO_CODEC =
+    ResultProtoCodec.of(
+      MessageCodecs.forMessage(StringValue.parser()),
+      MessageCodecs.forMessage(Int64Value.parser())
+    );
+
+  @Param({ "true", "false" })
+  public boolean ok;
+
+  private Result<String, Long> jacksonResult;
+  private Result<StringValue, Int64Value> protoResult;
+
+  private ObjectWriter jsonWriter;
+  private ObjectReader jsonReader;
+  private ObjectWriter smileWriter;
+  private ObjectReader smileReader;
+
+  private byte[] json;
+  private byte[] smile;
+  private byte[] proto;
+
+  @Setup
+  public void setup() throws Exception {
+    String value = "a moderately sized string value for an Ok result";
+    long err = 1234567890L;
+    jacksonResult = ok ? Result.ok(value) : Result.err(err);
+    protoResult =
+      ok ? Result.ok(StringValue.of(value)) : Result.err(Int64Value.of(err));
+
+    ObjectMapper jsonMapper = new ObjectMapper().registerModule(new ResultModule());
+    ObjectMapper smileMapper = new SmileMapper().registerModule(new ResultModule());
+    jsonWriter = jsonMapper.writerFor(JACKSON_TYPE);
+    jsonReader = jsonMapper.readerFor(JACKSON_TYPE);
+    smileWriter = smileMapper.writerFor(JACKSON_TYPE);
+    smileReader = smileMapper.readerFor(JACKSON_TYPE);
+
+    json = jsonWriter.writeValueAsBytes(jacksonResult);
+    smile = smileWriter.writeValueAsBytes(jacksonResult);
+    proto = encodeProto();
+  }
+
+  @Benchmark
+  public byte[] encodeJson() throws Exception {
+    return jsonWriter.writeValueAsBytes(jacksonResult);
+  }
+
+  @Benchmark
+  public byte[] encodeSmile() throws Exception {
+    return smileWriter.writeValueAsBytes(jacksonResult);
+  }
+
+  @Benchmark
+  public byte[] encodeProto() throws Exception {
+    return PROTO_CODEC.toByteArray(protoResult);
+  }
+
+  @Benchmark
+  public Result<String, Long> decodeJson() throws Exception {
+    return jsonReader.readValue(json);
+  }
+
+  @Benchmark
+  public Result<String, Long> decodeSmile() throws Exception {
+    return smileReader.readValue(smile);
+  }
+
+  @Benchmark
+  public Result<StringValue, Int64Value> decodeProto() throws Exception {
+    return PROTO_CODEC.read(CodedInputStream.newInstance(proto));
+  }
+}
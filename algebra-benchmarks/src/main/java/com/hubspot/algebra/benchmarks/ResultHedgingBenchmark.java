@@ -0,0 +1,92 @@
+package com.hubspot.algebra.benchmarks;
+
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.resilience.HedgePolicy;
+import com.hubspot.algebra.resilience.ResultHedger;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Samples call latency against a simulated backend that answers in 1ms, except for one
+ * call in twenty that takes 30ms. Compare the p99 of the plain call with the hedged ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ResultHedgingBenchmark {
+
+  private ScheduledExecutorService backendScheduler;
+  private ScheduledExecutorService hedgeScheduler;
+  private ResultHedger<String> fixedDelayHedger;
+  private ResultHedger<String> percentileHedger;
+
+  @Setup
+  public void setup() {
+    backendScheduler = Executors.newScheduledThreadPool(2);
+    hedgeScheduler = Executors.newSingleThreadScheduledExecutor();
+    fixedDelayHedger =
+      new ResultHedger<>(
+        HedgePolicy.<String>builder().setHedgeDelay(Duration.ofMillis(3)).build(),
+        hedgeScheduler
+      );
+    percentileHedger =
+      new ResultHedger<>(
+        HedgePolicy
+          .<String>builder()
+          .setHedgeDelay(Duration.ofMillis(3))
+          .setDelayPercentile(90)
+          .build(),
+        hedgeScheduler
+      );
+  }
+
+  @TearDown
+  public void tearDown() {
+    backendScheduler.shutdownNow();
+    hedgeScheduler.shutdownNow();
+  }
+
+  @Benchmark
+  public Result<String, String> unhedged() {
+    return slowBackend().join();
+  }
+
+  @Benchmark
+  public Result<String, String> fixedDelay() {
+    return fixedDelayHedger.callAsync(this::slowBackend).join();
+  }
+
+  @Benchmark
+  public Result<String, String> percentileDelay() {
+    return percentileHedger.callAsync(this::slowBackend).join();
+  }
+
+  private CompletableFuture<Result<String, String>> slowBackend() {
+    long millis = ThreadLocalRandom.current().nextInt(20) == 0 ? 30 : 1;
+    CompletableFuture<Result<String, String>> future = new CompletableFuture<>();
+    backendScheduler.schedule(
+      () -> future.complete(Result.ok("user")),
+      millis,
+      TimeUnit.MILLISECONDS
+    );
+    return future;
+  }
+}
@@ -0,0 +1,92 @@
+package com.hubspot.algebra.benchmarks;
+
+import com.hubspot.algebra.HashedResult;
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.ResultInterner;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Looks up Results with list payloads in a hash map, keyed by the Results themselves and
+ * by {@link HashedResult}s, and interns Errs with a {@link ResultInterner}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResultInternerBenchmark {
+
+  private static final int SIZE = 1024;
+
+  private final ResultInterner interner = ResultInterner.weak();
+  private Map<Result<List<String>, String>, Integer> resultMap;
+  private Map<HashedResult<List<String>, String>, Integer> hashedMap;
+  private List<Result<List<String>, String>> resultProbes;
+  private List<HashedResult<List<String>, String>> hashedProbes;
+  private List<Result<List<String>, String>> errs;
+
+  @Setup
+  public void setup() {
+    resultMap = new HashMap<>();
+    hashedMap = new HashMap<>();
+    resultProbes = new ArrayList<>(SIZE);
+    hashedProbes = new ArrayList<>(SIZE);
+    errs = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      resultMap.put(key(i), i);
+      hashedMap.put(HashedResult.of(key(i)), i);
+      resultProbes.add(key(i));
+      hashedProbes.add(HashedResult.of(key(i)));
+      errs.add(Result.err(new String("missing " + (i % 16))));
+    }
+  }
+
+  @Benchmark
+  public int resultKeys() {
+    int sum = 0;
+    for (Result<List<String>, String> probe : resultProbes) {
+      sum += resultMap.get(probe);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int hashedKeys() {
+    int sum = 0;
+    for (HashedResult<List<String>, String> probe : hashedProbes) {
+      sum += hashedMap.get(probe);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int intern() {
+    int sum = 0;
+    for (Result<List<String>, String> err : errs) {
+      sum += System.identityHashCode(interner.intern(err));
+    }
+    return sum;
+  }
+
+  private static Result<List<String>, String> key(int i) {
+    return Result.ok(
+      Arrays.asList("tenant-" + (i % 7), "user-" + i, "region-" + (i % 3))
+    );
+  }
+}
@@ -0,0 +1,84 @@
+package com.hubspot.algebra.benchmarks;
+
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.ResultPipeline;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a ten step chain of Result operations with the same steps in a
+ * {@link ResultPipeline}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResultPipelineBenchmark {
+
+  private static final int SIZE = 1024;
+
+  private static final ResultPipeline<Integer, String, Integer, String> PIPELINE = Result
+    .<Integer, String>pipeline()
+    .mapOk(i -> i + 1)
+    .mapOk(i -> i * 3)
+    .filter(i -> i % 7 != 0, i -> "multiple of seven")
+    .mapOk(i -> i - 2)
+    .mapOk(i -> i / 2)
+    .flatMapOk(i -> i % 11 == 0 ? Result.err("multiple of eleven") : Result.ok(i))
+    .mapOk(i -> i + 5)
+    .mapOk(i -> i * 2)
+    .mapOk(i -> i - 1)
+    .mapErr(String::toUpperCase);
+
+  private Result<Integer, String>[] inputs;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    inputs = new Result[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      inputs[i] = Result.ok(i);
+    }
+  }
+
+  @Benchmark
+  public int chained() {
+    int sum = 0;
+    for (Result<Integer, String> input : inputs) {
+      sum +=
+        input
+          .mapOk(i -> i + 1)
+          .mapOk(i -> i * 3)
+          .flatMapOk(i -> i % 7 != 0 ? Result.ok(i) : Result.err("multiple of seven"))
+          .mapOk(i -> i - 2)
+          .mapOk(i -> i / 2)
+          .flatMapOk(i -> i % 11 == 0 ? Result.err("multiple of eleven") : Result.ok(i))
+          .mapOk(i -> i + 5)
+          .mapOk(i -> i * 2)
+          .mapOk(i -> i - 1)
+          .mapErr(String::toUpperCase)
+          .match(String::length, ok -> ok);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int pipeline() {
+    int sum = 0;
+    for (Result<Integer, String> input : inputs) {
+      sum += PIPELINE.run(input).match(String::length, ok -> ok);
+    }
+    return sum;
+  }
+}
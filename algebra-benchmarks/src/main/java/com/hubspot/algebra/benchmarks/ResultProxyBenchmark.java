@@ -0,0 +1,89 @@
+package com.hubspot.algebra.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hubspot.algebra.LazyValue;
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.ResultModule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading a Result and writing it back, as a proxy does, with the Ok value bound
+ * to its type and with it kept as a {@link LazyValue}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResultProxyBenchmark {
+
+  private static final int SIZE = 100;
+
+  private static final TypeReference<Result<List<Item>, String>> BOUND_TYPE =
+    new TypeReference<Result<List<Item>, String>>() {};
+  private static final TypeReference<Result<LazyValue<List<Item>>, String>> LAZY_TYPE =
+    new TypeReference<Result<LazyValue<List<Item>>, String>>() {};
+
+  private ObjectReader boundReader;
+  private ObjectWriter boundWriter;
+  private ObjectReader lazyReader;
+  private ObjectWriter lazyWriter;
+
+  private byte[] json;
+
+  @Setup
+  public void setup() throws Exception {
+    List<Item> items = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      Item item = new Item();
+      item.id = i;
+      item.name = "item number " + i;
+      item.price = i * 1.25;
+      item.tags = new ArrayList<>();
+      item.tags.add("tag" + i % 7);
+      item.tags.add("tag" + i % 11);
+      items.add(item);
+    }
+
+    ObjectMapper mapper = new ObjectMapper().registerModule(new ResultModule());
+    boundReader = mapper.readerFor(BOUND_TYPE);
+    boundWriter = mapper.writerFor(BOUND_TYPE);
+    lazyReader = mapper.readerFor(LAZY_TYPE);
+    lazyWriter = mapper.writerFor(LAZY_TYPE);
+    json = boundWriter.writeValueAsBytes(Result.ok(items));
+  }
+
+  @Benchmark
+  public byte[] proxyBound() throws Exception {
+    return boundWriter.writeValueAsBytes(boundReader.readValue(json));
+  }
+
+  @Benchmark
+  public byte[] proxyLazy() throws Exception {
+    return lazyWriter.writeValueAsBytes(lazyReader.readValue(json));
+  }
+
+  public static class Item {
+
+    public long id;
+    public String name;
+    public double price;
+    public List<String> tags;
+  }
+}
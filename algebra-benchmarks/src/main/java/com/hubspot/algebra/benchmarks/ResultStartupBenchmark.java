@@ -0,0 +1,48 @@
+package com.hubspot.algebra.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.ResultModule;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time from a cold JVM to the first serialized Result. Each fork measures
+ * exactly one call, so the result includes class loading and Jackson introspection.
+ *
+ * <p>{@link #main} does the same once and prints the elapsed time, so it can be compiled
+ * with {@code native-image} and compared against the JVM numbers.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(10)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class ResultStartupBenchmark {
+
+  @Benchmark
+  public String firstSerializedResult() throws Exception {
+    return serializeFirstResult();
+  }
+
+  public static void main(String[] args) throws Exception {
+    long start = System.nanoTime();
+    String json = serializeFirstResult();
+    long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+    System.out.println(json);
+    System.out.println("first serialized Result after " + elapsedMicros + "us");
+  }
+
+  static String serializeFirstResult() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new ResultModule());
+    Result<Object, String> result = Result.ok(Collections.singletonMap("key", "value"));
+    return objectMapper.writeValueAsString(result);
+  }
+}
@@ -0,0 +1,79 @@
+package com.hubspot.algebra.benchmarks;
+
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.ResultStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares mapping a {@code Stream<Result<T, E>>} stage by stage with the same stages
+ * in a {@link ResultStream}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResultStreamBenchmark {
+
+  private static final int SIZE = 1024;
+
+  private List<Result<Integer, String>> inputs;
+
+  @Setup
+  public void setup() {
+    inputs = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      inputs.add(i % 100 == 0 ? Result.err("err " + i) : Result.ok(i));
+    }
+  }
+
+  @Benchmark
+  public List<Result<Integer, String>> resultPerStage() {
+    return inputs
+      .stream()
+      .map(r -> r.mapOk(i -> i + 1))
+      .map(r -> r.mapOk(i -> i * 3))
+      .map(r ->
+        r.flatMapOk(i -> i % 7 == 0 ? Result.<Integer, String>err("seven") : Result.ok(i))
+      )
+      .map(r -> r.mapOk(i -> i - 2))
+      .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public List<Result<Integer, String>> resultStream() {
+    return ResultStream
+      .<Integer, String>of(inputs.stream())
+      .mapOk(i -> i + 1)
+      .mapOk(i -> i * 3)
+      .flatMapOk(i -> i % 7 == 0 ? Result.<Integer, String>err("seven") : Result.ok(i))
+      .mapOk(i -> i - 2)
+      .stream()
+      .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public ResultStream.Partition<Integer, String> resultStreamPartition() {
+    return ResultStream
+      .<Integer, String>of(inputs.stream())
+      .mapOk(i -> i + 1)
+      .mapOk(i -> i * 3)
+      .flatMapOk(i -> i % 7 == 0 ? Result.<Integer, String>err("seven") : Result.ok(i))
+      .mapOk(i -> i - 2)
+      .partition();
+  }
+}
@@ -0,0 +1,85 @@
+package com.hubspot.algebra.benchmarks;
+
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.tracing.ResultSpan;
+import com.hubspot.algebra.tracing.ResultTracer;
+import com.hubspot.algebra.tracing.ResultTracing;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares an untraced call with the same call through a disabled {@link ResultTracing}
+ * and through a tracer whose spans do nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResultTracingBenchmark {
+
+  private static final ResultTracing DISABLED = ResultTracing.disabled();
+  private static final ResultTracing ENABLED = new ResultTracing(new NoopTracer());
+
+  private final Result<String, String> err = Result.err("missing");
+
+  @Benchmark
+  public Result<String, String> untraced() {
+    return lookup();
+  }
+
+  @Benchmark
+  public Result<String, String> disabled() {
+    return DISABLED.traced("lookup", this::lookup);
+  }
+
+  @Benchmark
+  public Result<String, String> noopSpans() {
+    return ENABLED.traced("lookup", this::lookup);
+  }
+
+  private Result<String, String> lookup() {
+    return err;
+  }
+
+  private static class NoopTracer implements ResultTracer {
+
+    @Override
+    public ResultSpan startSpan(String name) {
+      return NoopSpan.INSTANCE;
+    }
+  }
+
+  private enum NoopSpan implements ResultSpan {
+    INSTANCE;
+
+    @Override
+    public Scope makeCurrent() {
+      return () -> {};
+    }
+
+    @Override
+    public void setAttribute(String key, String value) {}
+
+    @Override
+    public void setAttribute(String key, long value) {}
+
+    @Override
+    public void setError(String description) {}
+
+    @Override
+    public void recordException(Throwable throwable) {}
+
+    @Override
+    public void end() {}
+  }
+}
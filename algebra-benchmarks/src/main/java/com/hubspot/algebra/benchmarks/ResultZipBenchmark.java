@@ -0,0 +1,105 @@
+package com.hubspot.algebra.benchmarks;
+
+import com.hubspot.algebra.Result;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares combining four independent Results with nested {@code flatMapOk} calls against
+ * {@link Result#map4}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResultZipBenchmark {
+
+  private static final int SIZE = 1024;
+
+  private Result<Integer, String>[] firsts;
+  private Result<Integer, String>[] seconds;
+  private Result<Integer, String>[] thirds;
+  private Result<Integer, String>[] fourths;
+
+  @Setup
+  public void setup() {
+    firsts = inputs(0);
+    seconds = inputs(1);
+    thirds = inputs(2);
+    fourths = inputs(3);
+  }
+
+  @Benchmark
+  public int nestedFlatMap() {
+    int sum = 0;
+    for (int i = 0; i < SIZE; i++) {
+      Result<Integer, String> b = seconds[i];
+      Result<Integer, String> c = thirds[i];
+      Result<Integer, String> d = fourths[i];
+      sum +=
+        firsts[i]
+          .flatMapOk(w ->
+            b.flatMapOk(x -> c.flatMapOk(y -> d.mapOk(z -> w + x + y + z)))
+          )
+          .match(String::length, ok -> ok);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int map4() {
+    int sum = 0;
+    for (int i = 0; i < SIZE; i++) {
+      sum +=
+        Result
+          .map4(
+            firsts[i],
+            seconds[i],
+            thirds[i],
+            fourths[i],
+            (w, x, y, z) -> w + x + y + z
+          )
+          .match(String::length, ok -> ok);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int map4Accumulating() {
+    int sum = 0;
+    for (int i = 0; i < SIZE; i++) {
+      sum +=
+        Result
+          .map4(
+            firsts[i],
+            seconds[i],
+            thirds[i],
+            fourths[i],
+            (w, x, y, z) -> w + x + y + z,
+            String::concat
+          )
+          .match(String::length, ok -> ok);
+    }
+    return sum;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Result<Integer, String>[] inputs(int offset) {
+    Result<Integer, String>[] inputs = new Result[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      inputs[i] = (i + offset) % 13 == 0 ? Result.err("err" + offset) : Result.ok(i);
+    }
+    return inputs;
+  }
+}
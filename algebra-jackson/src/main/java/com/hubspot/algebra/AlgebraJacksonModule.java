@@ -1,11 +1,58 @@
 package com.hubspot.algebra;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.AbstractModule;
+import com.google.inject.Binder;
+import com.google.inject.BindingAnnotation;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.TypeLiteral;
 import com.google.inject.multibindings.Multibinder;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Set;
 
 public class AlgebraJacksonModule extends AbstractModule {
 
+  private static final TypeLiteral<TypeReference<?>> PREWARMED_TYPE =
+    new TypeLiteral<TypeReference<?>>() {};
+  private static final Key<Set<TypeReference<?>>> PREWARMED_TYPES_KEY = Key.get(
+    new TypeLiteral<Set<TypeReference<?>>>() {},
+    PrewarmedTypes.class
+  );
+
+  /**
+   * Returns a module that installs this one and adds {@code types} to the Result types
+   * that {@link PrewarmedResultCodecs} is built for. It can be installed any number of
+   * times, and the codecs are still built once, for all of the types.
+   */
+  public static AbstractModule withPrewarmedTypes(TypeReference<?>... types) {
+    TypeReference<?>[] prewarmedTypes = types.clone();
+    return new AbstractModule() {
+      @Override
+      protected void configure() {
+        install(new AlgebraJacksonModule());
+        Multibinder<TypeReference<?>> typesBinder = prewarmedTypesBinder(binder());
+        for (TypeReference<?> type : prewarmedTypes) {
+          typesBinder.addBinding().toInstance(type);
+        }
+      }
+    };
+  }
+
+  /**
+   * Binds {@link PrewarmedResultCodecs} as an eager singleton, built from the bound
+   * {@link ObjectMapper}, and returns the binder for the types it is built for.
+   */
+  public static Multibinder<TypeReference<?>> prewarmedTypesBinder(Binder binder) {
+    binder.install(new PrewarmedResultCodecsModule());
+    return Multibinder
+      .newSetBinder(binder, PREWARMED_TYPE, PrewarmedTypes.class)
+      .permitDuplicates();
+  }
+
   @Override
   protected void configure() {
     Multibinder
@@ -23,4 +70,33 @@ public class AlgebraJacksonModule extends AbstractModule {
   public int hashCode() {
     return getClass().hashCode();
   }
+
+  @BindingAnnotation
+  @Retention(RetentionPolicy.RUNTIME)
+  private @interface PrewarmedTypes {}
+
+  private static final class PrewarmedResultCodecsModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+      Provider<ObjectMapper> objectMapperProvider = getProvider(ObjectMapper.class);
+      Provider<Set<TypeReference<?>>> typesProvider = getProvider(PREWARMED_TYPES_KEY);
+      bind(PrewarmedResultCodecs.class)
+        .toProvider(
+          (Provider<PrewarmedResultCodecs>) () ->
+            PrewarmedResultCodecs.warmUp(objectMapperProvider.get(), typesProvider.get())
+        )
+        .asEagerSingleton();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o != null && getClass().equals(o.getClass());
+    }
+
+    @Override
+    public int hashCode() {
+      return getClass().hashCode();
+    }
+  }
 }
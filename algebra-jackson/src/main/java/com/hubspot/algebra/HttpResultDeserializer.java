@@ -0,0 +1,86 @@
+package com.hubspot.algebra;
+
+import static com.hubspot.algebra.ResultModule.HTTP_ERROR_FIELD_NAME;
+import static com.hubspot.algebra.ResultModule.HTTP_OK_FIELD_NAME;
+import static com.hubspot.algebra.ResultModule.HTTP_STATUS_CODE_FIELD_NAME;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+
+/**
+ * Reads the {@link HttpResultWrapper} JSON shape straight off the parser, without going
+ * through a tree or the Immutables builder.
+ */
+public class HttpResultDeserializer extends StdDeserializer<HttpResult<?, ?>> {
+
+  private final JavaType okType;
+  private final JavaType errType;
+
+  public HttpResultDeserializer(JavaType valueType) {
+    super(valueType);
+    this.okType = valueType.getBindings().getBoundType(0);
+    this.errType = valueType.getBindings().getBoundType(1);
+  }
+
+  @Override
+  public HttpResult<?, ?> deserialize(JsonParser p, DeserializationContext ctxt)
+    throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = p.nextToken();
+    } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+      return (HttpResult<?, ?>) ctxt.handleUnexpectedToken(handledType(), p);
+    }
+
+    Object ok = null;
+    Object err = null;
+    int statusCode = 200;
+    for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+      String fieldName = p.currentName();
+      JsonToken valueToken = p.nextToken();
+      if (HTTP_OK_FIELD_NAME.equals(fieldName)) {
+        ok = readNullable(p, ctxt, valueToken, okType);
+      } else if (HTTP_ERROR_FIELD_NAME.equals(fieldName)) {
+        err = readNullable(p, ctxt, valueToken, errType);
+      } else if (HTTP_STATUS_CODE_FIELD_NAME.equals(fieldName)) {
+        statusCode = p.getValueAsInt();
+      } else {
+        handleUnknownProperty(p, ctxt, handledType(), fieldName);
+      }
+    }
+
+    if (ok != null && err == null) {
+      return HttpResult.of(Results.ok(ok), statusCode);
+    } else if (err != null && ok == null) {
+      return HttpResult.of(Results.err(err), statusCode);
+    } else if (ok == null && okType.getRawClass() == NullValue.class) {
+      // NullValue serializes as null, so an absent value is indistinguishable from it
+      return HttpResult.of(Results.ok(NullValue.get()), statusCode);
+    } else if (ok == null && errType.getRawClass() == NullValue.class) {
+      return HttpResult.of(Results.err(NullValue.get()), statusCode);
+    }
+
+    return ctxt.reportInputMismatch(
+      this,
+      "Exactly one of %s/%s must be present",
+      HTTP_OK_FIELD_NAME,
+      HTTP_ERROR_FIELD_NAME
+    );
+  }
+
+  private static Object readNullable(
+    JsonParser p,
+    DeserializationContext ctxt,
+    JsonToken token,
+    JavaType type
+  ) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return ctxt.readValue(p, type);
+  }
+}
@@ -0,0 +1,42 @@
+package com.hubspot.algebra;
+
+import static com.hubspot.algebra.ResultModule.HTTP_ERROR_FIELD_NAME;
+import static com.hubspot.algebra.ResultModule.HTTP_OK_FIELD_NAME;
+import static com.hubspot.algebra.ResultModule.HTTP_STATUS_CODE_FIELD_NAME;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+public class HttpResultSerializer extends StdSerializer<HttpResult<?, ?>> {
+
+  HttpResultSerializer(JavaType type) {
+    super(type);
+  }
+
+  @Override
+  public void serialize(
+    HttpResult<?, ?> value,
+    JsonGenerator gen,
+    SerializerProvider provider
+  ) throws IOException {
+    Result<?, ?> result = value.unwrap();
+
+    gen.writeStartObject();
+    if (result.isOk()) {
+      provider.defaultSerializeField(HTTP_OK_FIELD_NAME, result.unwrapOrElseThrow(), gen);
+      provider.defaultSerializeField(HTTP_ERROR_FIELD_NAME, null, gen);
+    } else {
+      provider.defaultSerializeField(HTTP_OK_FIELD_NAME, null, gen);
+      provider.defaultSerializeField(
+        HTTP_ERROR_FIELD_NAME,
+        result.unwrapErrOrElseThrow(),
+        gen
+      );
+    }
+    gen.writeNumberField(HTTP_STATUS_CODE_FIELD_NAME, value.getHttpStatusCode());
+    gen.writeEndObject();
+  }
+}
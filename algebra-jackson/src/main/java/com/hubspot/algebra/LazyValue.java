@@ -0,0 +1,257 @@
+package com.hubspot.algebra;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.JavaType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A value that {@link ResultModule} keeps as the JSON it was read from until
+ * {@link #get()} is called. Declaring the Ok or Err type of a Result as
+ * {@code LazyValue<T>} skips binding {@code T} on read, and a LazyValue that was never
+ * accessed is written back with {@link JsonGenerator#writeRawValue} instead of being
+ * serialized again:
+ *
+ * <pre>
+ * Result&lt;LazyValue&lt;Order&gt;, Error&gt; result = mapper.readValue(json, type);
+ * return mapper.writeValueAsBytes(result); // the Order JSON is copied as is
+ * </pre>
+ *
+ * Values inlined next to {@code @result} stay inlined. The JSON is kept as compact UTF-8,
+ * so whitespace and string escapes may differ from the input. It is not re-escaped on
+ * write, so generator features such as {@code ESCAPE_NON_ASCII} do not apply to it, and
+ * formats other than JSON receive the value token by token.
+ */
+public final class LazyValue<T> {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final Object UNBOUND = new Object();
+
+  // The captured values are stored back to back, the i-th one between bounds[i] and
+  // bounds[i + 1]. There is one value unless fieldNames is set, in which case they are
+  // the fields of an object that was written inline.
+  private final byte[] json;
+  private final int[] bounds;
+  private final String[] fieldNames;
+  private final ObjectCodec codec;
+  private final JavaType type;
+
+  private volatile Object value;
+
+  private LazyValue(
+    byte[] json,
+    int[] bounds,
+    String[] fieldNames,
+    ObjectCodec codec,
+    JavaType type,
+    Object value
+  ) {
+    this.json = json;
+    this.bounds = bounds;
+    this.fieldNames = fieldNames;
+    this.codec = codec;
+    this.type = type;
+    this.value = value;
+  }
+
+  public static <T> LazyValue<T> of(T value) {
+    return new LazyValue<>(null, null, null, null, null, value);
+  }
+
+  /**
+   * Binds the JSON on first call. Once called, the value is serialized normally, since
+   * it may have been changed.
+   *
+   * @throws UncheckedIOException if the JSON can't be bound to the declared type
+   */
+  @SuppressWarnings("unchecked")
+  public T get() {
+    Object current = value;
+    if (current == UNBOUND) {
+      synchronized (this) {
+        current = value;
+        if (current == UNBOUND) {
+          current = bind();
+          value = current;
+        }
+      }
+    }
+    return (T) current;
+  }
+
+  /**
+   * Returns true while this holds JSON that {@link #get()} has not been called on.
+   */
+  public boolean isRaw() {
+    return value == UNBOUND;
+  }
+
+  boolean isInline() {
+    return fieldNames != null;
+  }
+
+  void writeRawValue(JsonGenerator gen) throws IOException {
+    if (isInline()) {
+      gen.writeStartObject();
+      writeRawFields(gen);
+      gen.writeEndObject();
+    } else {
+      writeRaw(gen, 0);
+    }
+  }
+
+  void writeRawFields(JsonGenerator gen) throws IOException {
+    for (int i = 0; i < fieldNames.length; i++) {
+      gen.writeFieldName(fieldNames[i]);
+      writeRaw(gen, i);
+    }
+  }
+
+  private void writeRaw(JsonGenerator gen, int index) throws IOException {
+    int offset = bounds[index];
+    int length = bounds[index + 1] - offset;
+    if (gen instanceof JsonGeneratorImpl) {
+      gen.writeRawValue(new RawJson(json, offset, length));
+    } else {
+      try (JsonParser parser = JSON_FACTORY.createParser(json, offset, length)) {
+        parser.nextToken();
+        gen.copyCurrentStructure(parser);
+      }
+    }
+  }
+
+  /**
+   * Returns a parser over the captured JSON, positioned before its first token.
+   */
+  JsonParser traverse() throws IOException {
+    JsonParser parser;
+    if (isInline()) {
+      ByteArrayBuilder object = new ByteArrayBuilder(
+        json.length + 16 * fieldNames.length
+      );
+      try (JsonGenerator gen = JSON_FACTORY.createGenerator(object)) {
+        writeRawValue(gen);
+      }
+      parser = JSON_FACTORY.createParser(object.toByteArray());
+    } else {
+      parser = JSON_FACTORY.createParser(json, bounds[0], bounds[1] - bounds[0]);
+    }
+    parser.setCodec(codec);
+    return parser;
+  }
+
+  private Object bind() {
+    try (JsonParser parser = traverse()) {
+      if (parser.nextToken() == JsonToken.VALUE_NULL) {
+        return null;
+      }
+      return codec.readValue(parser, type);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    if (!isRaw()) {
+      return "LazyValue[" + value + "]";
+    }
+    try (JsonParser parser = traverse()) {
+      parser.nextToken();
+      return "LazyValue" + parser.readValueAsTree();
+    } catch (IOException e) {
+      return "LazyValue[" + Arrays.toString(fieldNames) + "]";
+    }
+  }
+
+  /**
+   * Copies values off a parser into the compact form a LazyValue holds, without binding
+   * them.
+   */
+  static final class Capture {
+
+    private final ByteArrayBuilder bytes;
+    private final JsonGenerator generator;
+    private final List<String> fieldNames;
+    private int[] bounds;
+
+    Capture() throws IOException {
+      this.bytes = new ByteArrayBuilder();
+      this.generator = JSON_FACTORY.createGenerator(bytes);
+      this.generator.setRootValueSeparator(null);
+      this.fieldNames = new ArrayList<>(4);
+      this.bounds = new int[5];
+    }
+
+    /**
+     * Copies the value at the parser's current token.
+     */
+    void add(String fieldName, JsonParser p) throws IOException {
+      int depth = 0;
+      do {
+        JsonToken token = p.currentToken();
+        if (token.isNumeric()) {
+          // Numbers keep their text, so that no precision, exponent or sign is lost
+          generator.writeNumber(
+            p.getTextCharacters(),
+            p.getTextOffset(),
+            p.getTextLength()
+          );
+        } else {
+          generator.copyCurrentEvent(p);
+        }
+        if (token.isStructStart()) {
+          depth++;
+        } else if (token.isStructEnd()) {
+          depth--;
+        }
+      } while (depth > 0 && p.nextToken() != null);
+      generator.flush();
+
+      int count = fieldNames.size();
+      if (count + 2 > bounds.length) {
+        bounds = Arrays.copyOf(bounds, bounds.length * 2);
+      }
+      bounds[count + 1] = bytes.size();
+      fieldNames.add(fieldName);
+    }
+
+    /**
+     * Returns the value of {@code fieldName} if it was captured, or else an object of all
+     * captured fields.
+     */
+    <T> LazyValue<T> finish(String fieldName, ObjectCodec codec, JavaType type)
+      throws IOException {
+      generator.close();
+      byte[] json = bytes.getClearAndRelease();
+      int index = fieldNames.indexOf(fieldName);
+      if (index >= 0) {
+        return new LazyValue<>(
+          json,
+          new int[] { bounds[index], bounds[index + 1] },
+          null,
+          codec,
+          type,
+          UNBOUND
+        );
+      }
+      return new LazyValue<>(
+        json,
+        Arrays.copyOf(bounds, fieldNames.size() + 1),
+        fieldNames.toArray(new String[0]),
+        codec,
+        type,
+        UNBOUND
+      );
+    }
+  }
+}
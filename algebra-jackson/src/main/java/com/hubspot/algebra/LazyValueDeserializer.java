@@ -0,0 +1,30 @@
+package com.hubspot.algebra;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+
+public class LazyValueDeserializer extends StdDeserializer<LazyValue<?>> {
+
+  private final JavaType valueType;
+
+  public LazyValueDeserializer(JavaType type) {
+    super(type);
+    this.valueType = type.containedTypeOrUnknown(0);
+  }
+
+  @Override
+  public LazyValue<?> deserialize(JsonParser p, DeserializationContext ctxt)
+    throws IOException {
+    LazyValue.Capture capture = new LazyValue.Capture();
+    capture.add(null, p);
+    return capture.finish(null, p.getCodec(), valueType);
+  }
+
+  @Override
+  public LazyValue<?> getNullValue(DeserializationContext ctxt) {
+    return LazyValue.of(null);
+  }
+}
@@ -0,0 +1,27 @@
+package com.hubspot.algebra;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+public class LazyValueSerializer extends StdSerializer<LazyValue<?>> {
+
+  LazyValueSerializer(JavaType type) {
+    super(type);
+  }
+
+  @Override
+  public void serialize(
+    LazyValue<?> value,
+    JsonGenerator gen,
+    SerializerProvider provider
+  ) throws IOException {
+    if (value.isRaw()) {
+      value.writeRawValue(gen);
+    } else {
+      provider.defaultSerializeValue(value.get(), gen);
+    }
+  }
+}
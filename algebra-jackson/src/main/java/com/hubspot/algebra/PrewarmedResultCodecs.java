@@ -0,0 +1,96 @@
+package com.hubspot.algebra;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.google.common.base.Preconditions;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link ObjectReader}s and {@link ObjectWriter}s for a fixed set of Result types, built
+ * eagerly to move serializer and deserializer resolution for those types, and their Ok
+ * and Err types, out of the first request. Any other type is still resolved on first use.
+ */
+public final class PrewarmedResultCodecs {
+
+  private final TypeFactory typeFactory;
+  private final Map<JavaType, ObjectReader> readers;
+  private final Map<JavaType, ObjectWriter> writers;
+  private final Duration warmUpDuration;
+
+  private PrewarmedResultCodecs(
+    TypeFactory typeFactory,
+    Map<JavaType, ObjectReader> readers,
+    Map<JavaType, ObjectWriter> writers,
+    Duration warmUpDuration
+  ) {
+    this.typeFactory = typeFactory;
+    this.readers = readers;
+    this.writers = writers;
+    this.warmUpDuration = warmUpDuration;
+  }
+
+  /**
+   * Resolves readers and writers for each type with {@code objectMapper}, which should
+   * already have {@link ResultModule} registered.
+   */
+  public static PrewarmedResultCodecs warmUp(
+    ObjectMapper objectMapper,
+    Iterable<? extends TypeReference<?>> types
+  ) {
+    long start = System.nanoTime();
+
+    TypeFactory typeFactory = objectMapper.getTypeFactory();
+    Map<JavaType, ObjectReader> readers = new HashMap<>();
+    Map<JavaType, ObjectWriter> writers = new HashMap<>();
+    for (TypeReference<?> type : types) {
+      JavaType javaType = typeFactory.constructType(type);
+      readers.put(javaType, objectMapper.readerFor(javaType));
+      writers.put(javaType, objectMapper.writerFor(javaType));
+
+      // ResultSerializer and ResultDeserializer look up the Ok and Err codecs on
+      // first use, so resolve those into the mapper's caches as well
+      for (int i = 0; i < javaType.containedTypeCount(); i++) {
+        JavaType valueType = javaType.containedType(i);
+        objectMapper.readerFor(valueType);
+        objectMapper.writerFor(valueType);
+      }
+    }
+
+    return new PrewarmedResultCodecs(
+      typeFactory,
+      readers,
+      writers,
+      Duration.ofNanos(System.nanoTime() - start)
+    );
+  }
+
+  public ObjectReader readerFor(TypeReference<?> type) {
+    JavaType javaType = typeFactory.constructType(type);
+    ObjectReader reader = readers.get(javaType);
+    Preconditions.checkArgument(reader != null, "%s was not pre-warmed", javaType);
+    return reader;
+  }
+
+  public ObjectWriter writerFor(TypeReference<?> type) {
+    JavaType javaType = typeFactory.constructType(type);
+    ObjectWriter writer = writers.get(javaType);
+    Preconditions.checkArgument(writer != null, "%s was not pre-warmed", javaType);
+    return writer;
+  }
+
+  public Set<JavaType> getTypes() {
+    return Collections.unmodifiableSet(readers.keySet());
+  }
+
+  public Duration getWarmUpDuration() {
+    return warmUpDuration;
+  }
+}
@@ -0,0 +1,129 @@
+package com.hubspot.algebra;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A slice of UTF-8 encoded JSON that
+ * {@link com.fasterxml.jackson.core.JsonGenerator#writeRawValue(SerializableString)}
+ * copies into its output buffer as is. The quoted forms escape the JSON text as the
+ * contents of a string, like {@link com.fasterxml.jackson.core.io.SerializedString}.
+ */
+final class RawJson implements SerializableString {
+
+  private final byte[] bytes;
+  private final int offset;
+  private final int length;
+
+  RawJson(byte[] bytes, int offset, int length) {
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  @Override
+  public String getValue() {
+    return new String(bytes, offset, length, StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public int charLength() {
+    return getValue().length();
+  }
+
+  @Override
+  public byte[] asUnquotedUTF8() {
+    return Arrays.copyOfRange(bytes, offset, offset + length);
+  }
+
+  @Override
+  public int appendUnquotedUTF8(byte[] buffer, int offset) {
+    if (offset + length > buffer.length) {
+      return -1;
+    }
+    System.arraycopy(bytes, this.offset, buffer, offset, length);
+    return length;
+  }
+
+  @Override
+  public int appendUnquoted(char[] buffer, int offset) {
+    String value = getValue();
+    if (offset + value.length() > buffer.length) {
+      return -1;
+    }
+    value.getChars(0, value.length(), buffer, offset);
+    return value.length();
+  }
+
+  @Override
+  public int writeUnquotedUTF8(OutputStream out) throws IOException {
+    out.write(bytes, offset, length);
+    return length;
+  }
+
+  @Override
+  public int putUnquotedUTF8(ByteBuffer buffer) {
+    if (length > buffer.remaining()) {
+      return -1;
+    }
+    buffer.put(bytes, offset, length);
+    return length;
+  }
+
+  @Override
+  public char[] asQuotedChars() {
+    return JsonStringEncoder.getInstance().quoteAsString(getValue());
+  }
+
+  @Override
+  public byte[] asQuotedUTF8() {
+    return JsonStringEncoder.getInstance().quoteAsUTF8(getValue());
+  }
+
+  @Override
+  public int appendQuotedUTF8(byte[] buffer, int offset) {
+    byte[] quoted = asQuotedUTF8();
+    if (offset + quoted.length > buffer.length) {
+      return -1;
+    }
+    System.arraycopy(quoted, 0, buffer, offset, quoted.length);
+    return quoted.length;
+  }
+
+  @Override
+  public int appendQuoted(char[] buffer, int offset) {
+    char[] quoted = asQuotedChars();
+    if (offset + quoted.length > buffer.length) {
+      return -1;
+    }
+    System.arraycopy(quoted, 0, buffer, offset, quoted.length);
+    return quoted.length;
+  }
+
+  @Override
+  public int writeQuotedUTF8(OutputStream out) throws IOException {
+    byte[] quoted = asQuotedUTF8();
+    out.write(quoted);
+    return quoted.length;
+  }
+
+  @Override
+  public int putQuotedUTF8(ByteBuffer buffer) {
+    byte[] quoted = asQuotedUTF8();
+    if (quoted.length > buffer.remaining()) {
+      return -1;
+    }
+    buffer.put(quoted);
+    return quoted.length;
+  }
+
+  @Override
+  public String toString() {
+    return getValue();
+  }
+}
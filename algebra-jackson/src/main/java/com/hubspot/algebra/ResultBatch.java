@@ -0,0 +1,52 @@
+package com.hubspot.algebra;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A list of Results that {@link ResultModule} serializes with each distinct Err value
+ * written once:
+ *
+ * <pre>
+ * {"@errors":[{"code":"RATE_LIMITED"}],"@results":[{"@ok":1,"@result":"OK"},0,0]}
+ * </pre>
+ *
+ * Errs in {@code @results} are indexes into {@code @errors}, and deserialized Errs with
+ * the same index share one Result instance. Errs are deduplicated by equality.
+ */
+public final class ResultBatch<T, E> {
+
+  private final List<Result<T, E>> results;
+
+  private ResultBatch(List<Result<T, E>> results) {
+    this.results = results;
+  }
+
+  public static <T, E> ResultBatch<T, E> of(List<Result<T, E>> results) {
+    return new ResultBatch<>(Collections.unmodifiableList(results));
+  }
+
+  public List<Result<T, E>> getResults() {
+    return results;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (!(obj instanceof ResultBatch)) {
+      return false;
+    }
+    return results.equals(((ResultBatch<?, ?>) obj).results);
+  }
+
+  @Override
+  public int hashCode() {
+    return results.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "ResultBatch" + results;
+  }
+}
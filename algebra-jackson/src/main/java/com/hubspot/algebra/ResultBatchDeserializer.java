@@ -0,0 +1,150 @@
+package com.hubspot.algebra;
+
+import static com.hubspot.algebra.ResultModule.BATCH_ERRORS_FIELD_NAME;
+import static com.hubspot.algebra.ResultModule.BATCH_RESULTS_FIELD_NAME;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the {@link ResultBatch} JSON shape. Every reference to the same {@code @errors}
+ * entry resolves to one shared Err Result, so a batch with a few distinct errors
+ * allocates a few error objects regardless of its size.
+ */
+public class ResultBatchDeserializer extends StdDeserializer<ResultBatch<?, ?>> {
+
+  private final JavaType errType;
+  private final JavaType resultType;
+
+  public ResultBatchDeserializer(JavaType valueType, JavaType resultType) {
+    super(valueType);
+    this.errType = resultType.getBindings().getBoundType(1);
+    this.resultType = resultType;
+  }
+
+  @Override
+  public ResultBatch<?, ?> deserialize(JsonParser p, DeserializationContext ctxt)
+    throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = p.nextToken();
+    } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+      return (ResultBatch<?, ?>) ctxt.handleUnexpectedToken(handledType(), p);
+    }
+
+    List<Result<Object, Object>> errors = null;
+    List<Result<Object, Object>> results = null;
+    TokenBuffer bufferedResults = null;
+    for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+      String fieldName = p.currentName();
+      p.nextToken();
+      if (BATCH_ERRORS_FIELD_NAME.equals(fieldName)) {
+        errors = readErrors(p, ctxt);
+      } else if (BATCH_RESULTS_FIELD_NAME.equals(fieldName)) {
+        if (errors == null) {
+          // Indexes can't be resolved before the table, so hold on to the tokens
+          bufferedResults = ctxt.bufferAsCopyOfValue(p);
+        } else {
+          results = readResults(p, ctxt, errors);
+        }
+      } else {
+        handleUnknownProperty(p, ctxt, handledType(), fieldName);
+      }
+    }
+
+    if (bufferedResults != null) {
+      try (JsonParser bufferedParser = bufferedResults.asParserOnFirstToken()) {
+        results =
+          readResults(
+            bufferedParser,
+            ctxt,
+            errors == null ? new ArrayList<>() : errors
+          );
+      }
+    }
+    if (results == null) {
+      return ctxt.reportInputMismatch(
+        this,
+        "Could not deserialize input as a ResultBatch. The required %s field is missing.",
+        BATCH_RESULTS_FIELD_NAME
+      );
+    }
+    return ResultBatch.of(results);
+  }
+
+  private List<Result<Object, Object>> readErrors(
+    JsonParser p,
+    DeserializationContext ctxt
+  ) throws IOException {
+    if (p.currentToken() != JsonToken.START_ARRAY) {
+      return ctxt.reportInputMismatch(
+        this,
+        "%s must be an array",
+        BATCH_ERRORS_FIELD_NAME
+      );
+    }
+    JsonDeserializer<Object> deserializer = ctxt.findRootValueDeserializer(errType);
+    List<Result<Object, Object>> errors = new ArrayList<>();
+    for (
+      JsonToken token = p.nextToken();
+      token != JsonToken.END_ARRAY;
+      token = p.nextToken()
+    ) {
+      Object err = token == JsonToken.VALUE_NULL
+        ? deserializer.getNullValue(ctxt)
+        : deserializer.deserialize(p, ctxt);
+      if (err == null && errType.getRawClass() == NullValue.class) {
+        err = NullValue.get();
+      }
+      errors.add(Results.err(err));
+    }
+    return errors;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Result<Object, Object>> readResults(
+    JsonParser p,
+    DeserializationContext ctxt,
+    List<Result<Object, Object>> errors
+  ) throws IOException {
+    if (p.currentToken() != JsonToken.START_ARRAY) {
+      return ctxt.reportInputMismatch(
+        this,
+        "%s must be an array",
+        BATCH_RESULTS_FIELD_NAME
+      );
+    }
+    JsonDeserializer<Object> deserializer = ctxt.findRootValueDeserializer(resultType);
+    List<Result<Object, Object>> results = new ArrayList<>();
+    for (
+      JsonToken token = p.nextToken();
+      token != JsonToken.END_ARRAY;
+      token = p.nextToken()
+    ) {
+      if (token == JsonToken.VALUE_NUMBER_INT) {
+        int index = p.getIntValue();
+        if (index < 0 || index >= errors.size()) {
+          return ctxt.reportInputMismatch(
+            this,
+            "Error index %s is outside of %s, which has %s entries",
+            index,
+            BATCH_ERRORS_FIELD_NAME,
+            errors.size()
+          );
+        }
+        results.add(errors.get(index));
+      } else {
+        results.add((Result<Object, Object>) deserializer.deserialize(p, ctxt));
+      }
+    }
+    return results;
+  }
+}
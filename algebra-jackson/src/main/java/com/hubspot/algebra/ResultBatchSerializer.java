@@ -0,0 +1,75 @@
+package com.hubspot.algebra;
+
+import static com.hubspot.algebra.ResultModule.BATCH_ERRORS_FIELD_NAME;
+import static com.hubspot.algebra.ResultModule.BATCH_RESULTS_FIELD_NAME;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.TypeBindings;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes each distinct Err of a {@link ResultBatch} once, in the {@code @errors} table,
+ * and every element of {@code @results} as either a full Ok Result or an index into it.
+ */
+public class ResultBatchSerializer extends StdSerializer<ResultBatch<?, ?>> {
+
+  private final JavaType okType;
+  private final JavaType errType;
+
+  public ResultBatchSerializer(JavaType type) {
+    super(type);
+    TypeBindings bindings = type.getBindings();
+    this.okType = bindings.getBoundType(0);
+    this.errType = bindings.getBoundType(1);
+  }
+
+  @Override
+  public void serialize(
+    ResultBatch<?, ?> value,
+    JsonGenerator gen,
+    SerializerProvider provider
+  ) throws IOException {
+    // The table is written before the results so a reader resolves every index in one pass
+    Map<Object, Integer> errorIndexes = new HashMap<>();
+    gen.writeStartObject();
+    gen.writeArrayFieldStart(BATCH_ERRORS_FIELD_NAME);
+    for (Result<?, ?> result : value.getResults()) {
+      if (result.isErr()) {
+        Object err = result.unwrapErrOrElseThrow();
+        if (!errorIndexes.containsKey(err)) {
+          errorIndexes.put(err, errorIndexes.size());
+          provider.defaultSerializeValue(err, gen);
+        }
+      }
+    }
+    gen.writeEndArray();
+
+    JsonSerializer<Object> resultSerializer = findResultSerializer(provider);
+    gen.writeArrayFieldStart(BATCH_RESULTS_FIELD_NAME);
+    for (Result<?, ?> result : value.getResults()) {
+      if (result.isErr()) {
+        gen.writeNumber(errorIndexes.get(result.unwrapErrOrElseThrow()));
+      } else {
+        resultSerializer.serialize(result, gen, provider);
+      }
+    }
+    gen.writeEndArray();
+    gen.writeEndObject();
+  }
+
+  private JsonSerializer<Object> findResultSerializer(SerializerProvider provider)
+    throws IOException {
+    if (okType == null || errType == null) {
+      return provider.findValueSerializer(Result.class);
+    }
+    return provider.findValueSerializer(
+      provider.getTypeFactory().constructParametricType(Result.class, okType, errType)
+    );
+  }
+}
@@ -5,13 +5,13 @@ import static com.hubspot.algebra.ResultModule.ERROR_FIELD_NAME;
 import static com.hubspot.algebra.ResultModule.OK_FIELD_NAME;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.hubspot.algebra.ResultModule.Case;
 import java.io.IOException;
 
@@ -19,54 +19,199 @@ public class ResultDeserializer extends StdDeserializer<Result<?, ?>> {
 
   private final JavaType okType;
   private final JavaType errType;
+  private final boolean lazy;
+
+  // Resolved on first use and reused for every Result of this type
+  private volatile JsonDeserializer<Object> okDeserializer;
+  private volatile JsonDeserializer<Object> errDeserializer;
 
   public ResultDeserializer(JavaType valueType) {
     super(valueType);
     this.okType = valueType.getBindings().getBoundType(0);
     this.errType = valueType.getBindings().getBoundType(1);
+    this.lazy = isLazy(okType) || isLazy(errType);
   }
 
   @Override
   public Result<?, ?> deserialize(JsonParser p, DeserializationContext ctxt)
     throws IOException {
-    ObjectCodec codec = p.getCodec();
-    ObjectNode node = codec.readTree(p);
-    JsonNode caseNode = node.get(CASE_FIELD_NAME);
-
-    if (caseNode == null) {
-      throw new JsonMappingException(
-        p,
-        String.format(
-          "Could not deserialize input as a Result. The required %s field is missing.",
-          CASE_FIELD_NAME
-        )
-      );
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = p.nextToken();
+    } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+      return (Result<?, ?>) ctxt.handleUnexpectedToken(handledType(), p);
     }
 
-    String resultCase = caseNode.textValue();
-    node.remove(CASE_FIELD_NAME);
+    return lazy ? deserializeLazily(token, p, ctxt) : deserializeFields(token, p, ctxt);
+  }
+
+  // Binds the Ok or Err value straight off the parser when @result comes first. A value
+  // that comes before @result is buffered as tokens, and so are inlined fields, since
+  // they are only known to make up the value once the object ends without an @ok or
+  // @error field.
+  private Result<?, ?> deserializeFields(
+    JsonToken token,
+    JsonParser p,
+    DeserializationContext ctxt
+  ) throws IOException {
+    String resultCase = null;
+    Object value = null;
+    boolean bound = false;
+    TokenBuffer okBuffer = null;
+    TokenBuffer errBuffer = null;
+    TokenBuffer inlineBuffer = null;
+    for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+      String fieldName = p.currentName();
+      p.nextToken();
+      if (CASE_FIELD_NAME.equals(fieldName)) {
+        resultCase = p.getValueAsString();
+      } else if (bound) {
+        p.skipChildren();
+      } else if (resultCase != null && fieldName.equals(valueFieldName(resultCase))) {
+        value = readValue(p, ctxt, valueType(resultCase));
+        bound = true;
+      } else if (OK_FIELD_NAME.equals(fieldName)) {
+        okBuffer = ctxt.bufferAsCopyOfValue(p);
+      } else if (ERROR_FIELD_NAME.equals(fieldName)) {
+        errBuffer = ctxt.bufferAsCopyOfValue(p);
+      } else {
+        if (inlineBuffer == null) {
+          inlineBuffer = ctxt.bufferForInputBuffering(p);
+          inlineBuffer.writeStartObject();
+        }
+        inlineBuffer.writeFieldName(fieldName);
+        inlineBuffer.copyCurrentStructure(p);
+      }
+    }
+
+    if (resultCase == null) {
+      throw missingCase(p);
+    }
+
+    boolean isErr = isErr(resultCase);
+    if (!bound) {
+      TokenBuffer buffer = isErr ? errBuffer : okBuffer;
+      if (buffer == null) {
+        buffer = inlineBuffer;
+        if (buffer == null) {
+          buffer = ctxt.bufferForInputBuffering(p);
+          buffer.writeStartObject();
+        }
+        buffer.writeEndObject();
+      }
+      try (JsonParser valueParser = buffer.asParserOnFirstToken()) {
+        value = readValue(valueParser, ctxt, valueType(resultCase));
+      }
+    }
 
-    if (resultCase.equalsIgnoreCase(Case.ERR.toString())) {
-      Object err = deserializeValue(codec, node, ERROR_FIELD_NAME, errType);
-      return Results.err(err);
+    return isErr ? Results.err(value) : Results.ok(value);
+  }
+
+  // Copies the Ok or Err value as JSON without binding it, so that it can be written
+  // back unchanged. A side that isn't declared as a LazyValue is bound right away.
+  private Result<?, ?> deserializeLazily(
+    JsonToken token,
+    JsonParser p,
+    DeserializationContext ctxt
+  ) throws IOException {
+    String resultCase = null;
+    LazyValue.Capture capture = new LazyValue.Capture();
+    for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+      String fieldName = p.currentName();
+      p.nextToken();
+      if (CASE_FIELD_NAME.equals(fieldName)) {
+        resultCase = p.getValueAsString();
+      } else {
+        capture.add(fieldName, p);
+      }
+    }
+
+    if (resultCase == null) {
+      throw missingCase(p);
+    } else if (isErr(resultCase)) {
+      return Results.err(finishLazily(capture, p, ctxt, ERROR_FIELD_NAME, errType));
     } else {
-      Object ok = deserializeValue(codec, node, OK_FIELD_NAME, okType);
-      return Results.ok(ok);
+      return Results.ok(finishLazily(capture, p, ctxt, OK_FIELD_NAME, okType));
     }
   }
 
-  private static Object deserializeValue(
-    ObjectCodec codec,
-    ObjectNode node,
+  private Object finishLazily(
+    LazyValue.Capture capture,
+    JsonParser p,
+    DeserializationContext ctxt,
     String fieldName,
     JavaType type
   ) throws IOException {
-    JsonNode valueNode = node.has(fieldName) ? node.get(fieldName) : node;
-    if (type.getRawClass() == NullValue.class && valueNode.isNull()) {
-      // Our version of Jackson doesn't allow custom deserialization of null
-      return NullValue.get();
+    if (isLazy(type)) {
+      return capture.finish(fieldName, p.getCodec(), type.containedTypeOrUnknown(0));
+    }
+    LazyValue<?> value = capture.finish(fieldName, p.getCodec(), type);
+    try (JsonParser valueParser = value.traverse()) {
+      valueParser.nextToken();
+      return readValue(valueParser, ctxt, type);
+    }
+  }
+
+  // Reads the value at the parser's current token
+  private Object readValue(
+    JsonParser valueParser,
+    DeserializationContext ctxt,
+    JavaType type
+  ) throws IOException {
+    if (valueParser.currentToken() == JsonToken.VALUE_NULL) {
+      if (type.getRawClass() == NullValue.class) {
+        // Our version of Jackson doesn't allow custom deserialization of null
+        return NullValue.get();
+      }
+      return findValueDeserializer(ctxt, type).getNullValue(ctxt);
+    }
+    return findValueDeserializer(ctxt, type).deserialize(valueParser, ctxt);
+  }
+
+  private JsonDeserializer<Object> findValueDeserializer(
+    DeserializationContext ctxt,
+    JavaType type
+  ) throws JsonMappingException {
+    if (type == okType) {
+      JsonDeserializer<Object> deserializer = okDeserializer;
+      if (deserializer == null) {
+        deserializer = ctxt.findRootValueDeserializer(type);
+        okDeserializer = deserializer;
+      }
+      return deserializer;
     } else {
-      return codec.readValue(valueNode.traverse(codec), type);
+      JsonDeserializer<Object> deserializer = errDeserializer;
+      if (deserializer == null) {
+        deserializer = ctxt.findRootValueDeserializer(type);
+        errDeserializer = deserializer;
+      }
+      return deserializer;
     }
   }
+
+  private JavaType valueType(String resultCase) {
+    return isErr(resultCase) ? errType : okType;
+  }
+
+  private static String valueFieldName(String resultCase) {
+    return isErr(resultCase) ? ERROR_FIELD_NAME : OK_FIELD_NAME;
+  }
+
+  private static boolean isErr(String resultCase) {
+    return resultCase.equalsIgnoreCase(Case.ERR.toString());
+  }
+
+  private static boolean isLazy(JavaType type) {
+    return type != null && type.hasRawClass(LazyValue.class);
+  }
+
+  private static JsonMappingException missingCase(JsonParser p) {
+    return new JsonMappingException(
+      p,
+      String.format(
+        "Could not deserialize input as a Result. The required %s field is missing.",
+        CASE_FIELD_NAME
+      )
+    );
+  }
 }
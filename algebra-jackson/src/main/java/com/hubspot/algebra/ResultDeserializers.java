@@ -17,6 +17,15 @@ public class ResultDeserializers extends Deserializers.Base {
   ) throws JsonMappingException {
     if (type.hasRawClass(Result.class)) {
       return new ResultDeserializer(type);
+    } else if (type.hasRawClass(HttpResult.class)) {
+      return new HttpResultDeserializer(type);
+    } else if (type.hasRawClass(LazyValue.class)) {
+      return new LazyValueDeserializer(type);
+    } else if (type.hasRawClass(ResultBatch.class)) {
+      return new ResultBatchDeserializer(
+        type,
+        config.getTypeFactory().constructParametricType(Result.class, type.getBindings())
+      );
     }
 
     return null;
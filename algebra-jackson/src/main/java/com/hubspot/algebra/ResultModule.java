@@ -8,6 +8,11 @@ public class ResultModule extends Module {
   static final String CASE_FIELD_NAME = "@result";
   static final String OK_FIELD_NAME = "@ok";
   static final String ERROR_FIELD_NAME = "@error";
+  static final String HTTP_OK_FIELD_NAME = "okResultMaybe";
+  static final String HTTP_ERROR_FIELD_NAME = "errResultMaybe";
+  static final String HTTP_STATUS_CODE_FIELD_NAME = "httpStatusCode";
+  static final String BATCH_ERRORS_FIELD_NAME = "@errors";
+  static final String BATCH_RESULTS_FIELD_NAME = "@results";
 
   enum Case {
     OK,
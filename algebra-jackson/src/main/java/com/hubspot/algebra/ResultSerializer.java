@@ -4,22 +4,32 @@ import static com.hubspot.algebra.ResultModule.CASE_FIELD_NAME;
 import static com.hubspot.algebra.ResultModule.ERROR_FIELD_NAME;
 import static com.hubspot.algebra.ResultModule.OK_FIELD_NAME;
 
-import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.MapSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Table;
 import com.hubspot.algebra.ResultModule.Case;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class ResultSerializer extends StdSerializer<Result<?, ?>> {
 
+  // Ok and Err values of one Result type almost always share a handful of runtime
+  // classes, so their serializers are resolved once instead of on every call
+  private final ConcurrentMap<Class<?>, JsonSerializer<Object>> valueSerializers;
+  private final ConcurrentMap<Class<?>, JsonSerializer<Object>> mapSerializers;
+
   ResultSerializer(JavaType type) {
     super(type);
+    this.valueSerializers = new ConcurrentHashMap<>();
+    this.mapSerializers = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -43,45 +53,113 @@ public class ResultSerializer extends StdSerializer<Result<?, ?>> {
     gen.writeEndObject();
   }
 
-  private static void serializeValue(
+  private void serializeValue(
     String fieldName,
     Object value,
     JsonGenerator gen,
     SerializerProvider provider
   ) throws IOException {
-    Object flattenedValue = flattenValue(value);
-    JsonSerializer<Object> serializer = provider
-      .findTypedValueSerializer(flattenedValue.getClass(), true, null)
-      .unwrappingSerializer(null);
+    if (value instanceof LazyValue) {
+      serializeLazyValue(fieldName, (LazyValue<?>) value, gen, provider);
+      return;
+    }
+
+    Map<?, ?> flattenedValue = flattenValue(value);
+    if (flattenedValue != null) {
+      serializeEntries(flattenedValue, gen, provider);
+      return;
+    }
+
+    JsonSerializer<Object> serializer = findValueSerializer(value.getClass(), provider);
     if (!serializer.isUnwrappingSerializer()) {
       gen.writeFieldName(fieldName);
     }
-    serializer.serialize(flattenedValue, gen, provider);
+    serializer.serialize(value, gen, provider);
   }
 
-  private static Object flattenValue(Object value) {
-    if (value instanceof Map) {
-      return new MapFlattener((Map<?, ?>) value);
-    } else if (value instanceof Multimap) {
-      return new MapFlattener(((Multimap<?, ?>) value).asMap());
-    } else if (value instanceof Table) {
-      return new MapFlattener(((Table<?, ?, ?>) value).rowMap());
+  private void serializeLazyValue(
+    String fieldName,
+    LazyValue<?> value,
+    JsonGenerator gen,
+    SerializerProvider provider
+  ) throws IOException {
+    if (!value.isRaw()) {
+      Object bound = value.get();
+      if (bound == null) {
+        gen.writeNullField(fieldName);
+      } else {
+        serializeValue(fieldName, bound, gen, provider);
+      }
+    } else if (value.isInline()) {
+      value.writeRawFields(gen);
     } else {
-      return value;
+      gen.writeFieldName(fieldName);
+      value.writeRawValue(gen);
     }
   }
 
-  private static class MapFlattener {
+  // Map-like values are written inline next to @result through the mapper's own Map
+  // serializer, so inclusion, ordering and key settings apply as they do to any Map.
+  // This is what @JsonAnyGetter does, without a bean that needs introspection.
+  private void serializeEntries(
+    Map<?, ?> map,
+    JsonGenerator gen,
+    SerializerProvider provider
+  ) throws IOException {
+    JsonSerializer<Object> serializer = findMapSerializer(map.getClass(), provider);
+    JsonSerializer<?> resolved = serializer;
+    if (resolved instanceof MapSerializer) {
+      ((MapSerializer) resolved).serializeWithoutTypeInfo(map, gen, provider);
+    } else {
+      serializer.serialize(map, gen, provider);
+    }
+  }
 
-    private final Map<?, ?> map;
+  private JsonSerializer<Object> findMapSerializer(
+    Class<?> mapClass,
+    SerializerProvider provider
+  ) throws JsonMappingException {
+    JsonSerializer<Object> serializer = mapSerializers.get(mapClass);
+    if (serializer == null) {
+      serializer = provider.findValueSerializer(mapClass, null);
+      JsonSerializer<Object> existing = mapSerializers.putIfAbsent(mapClass, serializer);
+      if (existing != null) {
+        serializer = existing;
+      }
+    }
+    return serializer;
+  }
 
-    private MapFlattener(Map<?, ?> map) {
-      this.map = map;
+  private JsonSerializer<Object> findValueSerializer(
+    Class<?> valueClass,
+    SerializerProvider provider
+  ) throws JsonMappingException {
+    JsonSerializer<Object> serializer = valueSerializers.get(valueClass);
+    if (serializer == null) {
+      serializer =
+        provider
+          .findTypedValueSerializer(valueClass, true, null)
+          .unwrappingSerializer(null);
+      JsonSerializer<Object> existing = valueSerializers.putIfAbsent(
+        valueClass,
+        serializer
+      );
+      if (existing != null) {
+        serializer = existing;
+      }
     }
+    return serializer;
+  }
 
-    @JsonAnyGetter
-    public Map<?, ?> getMap() {
-      return map;
+  private static Map<?, ?> flattenValue(Object value) {
+    if (value instanceof Map) {
+      return (Map<?, ?>) value;
+    } else if (value instanceof Multimap) {
+      return ((Multimap<?, ?>) value).asMap();
+    } else if (value instanceof Table) {
+      return ((Table<?, ?, ?>) value).rowMap();
+    } else {
+      return null;
     }
   }
 }
@@ -17,6 +17,12 @@ public class ResultSerializers extends Serializers.Base {
     final Class<?> raw = type.getRawClass();
     if (Result.class.isAssignableFrom(raw)) {
       return new ResultSerializer(type);
+    } else if (raw == HttpResult.class) {
+      return new HttpResultSerializer(type);
+    } else if (raw == ResultBatch.class) {
+      return new ResultBatchSerializer(type);
+    } else if (raw == LazyValue.class) {
+      return new LazyValueSerializer(type);
     }
 
     return null;
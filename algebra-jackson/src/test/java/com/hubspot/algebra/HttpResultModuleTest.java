@@ -0,0 +1,111 @@
+package com.hubspot.algebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubspot.algebra.ResultModuleTest.TestBean;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class HttpResultModuleTest {
+
+  private static final TypeReference<HttpResult<TestBean, String>> BEAN_TYPE =
+    new TypeReference<HttpResult<TestBean, String>>() {};
+
+  private static final HttpResult<TestBean, String> BEAN_OK = HttpResult.ok(
+    new TestBean("test")
+  );
+  private static final String BEAN_OK_JSON =
+    "{\"okResultMaybe\":{\"value\":\"test\"},\"errResultMaybe\":null,\"httpStatusCode\":200}";
+  private static final HttpResult<TestBean, String> STRING_ERR = HttpResult.err(
+    "ERROR",
+    503
+  );
+  private static final String STRING_ERR_JSON =
+    "{\"okResultMaybe\":null,\"errResultMaybe\":\"ERROR\",\"httpStatusCode\":503}";
+  private static final HttpResult<List<String>, String> LIST_OK = HttpResult.ok(
+    Arrays.asList("val0", "val1")
+  );
+  private static final String LIST_OK_JSON =
+    "{\"okResultMaybe\":[\"val0\",\"val1\"],\"errResultMaybe\":null,\"httpStatusCode\":200}";
+  private static final HttpResult<NullValue, String> NULL_OK = HttpResult.ok(
+    NullValue.get()
+  );
+  private static final String NULL_OK_JSON =
+    "{\"okResultMaybe\":null,\"errResultMaybe\":null,\"httpStatusCode\":200}";
+
+  private static ObjectMapper objectMapper;
+
+  @BeforeClass
+  public static void setupClass() {
+    objectMapper = new ObjectMapper().registerModule(new ResultModule());
+  }
+
+  @Test
+  public void itSerializesOk() throws Exception {
+    assertThat(objectMapper.writeValueAsString(BEAN_OK)).isEqualTo(BEAN_OK_JSON);
+    assertThat(objectMapper.writeValueAsString(LIST_OK)).isEqualTo(LIST_OK_JSON);
+  }
+
+  @Test
+  public void itSerializesErr() throws Exception {
+    assertThat(objectMapper.writeValueAsString(STRING_ERR)).isEqualTo(STRING_ERR_JSON);
+  }
+
+  @Test
+  public void itSerializesNullOk() throws Exception {
+    assertThat(objectMapper.writeValueAsString(NULL_OK)).isEqualTo(NULL_OK_JSON);
+  }
+
+  @Test
+  public void itDeserializesOk() throws Exception {
+    assertThat(objectMapper.readValue(BEAN_OK_JSON, BEAN_TYPE)).isEqualTo(BEAN_OK);
+    assertThat(
+      objectMapper.readValue(
+        LIST_OK_JSON,
+        new TypeReference<HttpResult<List<String>, String>>() {}
+      )
+    )
+      .isEqualTo(LIST_OK);
+  }
+
+  @Test
+  public void itDeserializesErr() throws Exception {
+    assertThat(objectMapper.readValue(STRING_ERR_JSON, BEAN_TYPE)).isEqualTo(STRING_ERR);
+  }
+
+  @Test
+  public void itDeserializesNullOk() throws Exception {
+    assertThat(
+      objectMapper.readValue(
+        NULL_OK_JSON,
+        new TypeReference<HttpResult<NullValue, String>>() {}
+      )
+    )
+      .isEqualTo(NULL_OK);
+  }
+
+  @Test
+  public void itDefaultsTheStatusCode() throws Exception {
+    assertThat(
+      objectMapper.readValue("{\"okResultMaybe\":{\"value\":\"test\"}}", BEAN_TYPE)
+    )
+      .isEqualTo(BEAN_OK);
+  }
+
+  @Test
+  public void itRejectsInputWithoutOkOrErr() {
+    assertThatThrownBy(() ->
+        objectMapper.readValue("{\"httpStatusCode\":200}", BEAN_TYPE)
+      )
+      .isInstanceOf(JsonMappingException.class)
+      .hasMessageStartingWith(
+        "Exactly one of okResultMaybe/errResultMaybe must be present"
+      );
+  }
+}
@@ -0,0 +1,165 @@
+package com.hubspot.algebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubspot.algebra.ResultModuleTest.TestBean;
+import com.hubspot.algebra.ResultModuleTest.TestError;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class LazyValueTest {
+
+  private static final TypeReference<Result<LazyValue<TestBean>, TestError>> LAZY_BEAN =
+    new TypeReference<Result<LazyValue<TestBean>, TestError>>() {};
+  private static final TypeReference<Result<LazyValue<List<Double>>, LazyValue<String>>> LAZY_LIST =
+    new TypeReference<Result<LazyValue<List<Double>>, LazyValue<String>>>() {};
+
+  private static ObjectMapper objectMapper;
+
+  @BeforeClass
+  public static void setupClass() {
+    objectMapper = new ObjectMapper().registerModule(new ResultModule());
+  }
+
+  @Test
+  public void itWritesUntouchedInlineValueBack() throws Exception {
+    String json = "{\"value\":\"caf\u00e9 \\\"bar\\\"\",\"@result\":\"OK\"}";
+
+    Result<LazyValue<TestBean>, TestError> result = objectMapper.readValue(
+      json,
+      LAZY_BEAN
+    );
+
+    assertThat(result.unwrapOrElseThrow().isRaw()).isTrue();
+    assertThat(objectMapper.writeValueAsString(result)).isEqualTo(json);
+  }
+
+  @Test
+  public void itWritesUntouchedValueBack() throws Exception {
+    String json = "{\"@ok\":[1.10,2.0E3,-0.0],\"@result\":\"OK\"}";
+
+    Result<LazyValue<List<Double>>, LazyValue<String>> result = objectMapper.readValue(
+      json,
+      LAZY_LIST
+    );
+
+    assertThat(objectMapper.writeValueAsString(result)).isEqualTo(json);
+    assertThat(objectMapper.writeValueAsBytes(result))
+      .isEqualTo(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void itBindsOnAccess() throws Exception {
+    Result<LazyValue<TestBean>, TestError> result = objectMapper.readValue(
+      "{\"value\":\"test\",\"@result\":\"OK\"}",
+      LAZY_BEAN
+    );
+    LazyValue<TestBean> value = result.unwrapOrElseThrow();
+
+    assertThat(value.get()).isEqualTo(new TestBean("test"));
+    assertThat(value.get()).isSameAs(value.get());
+    assertThat(value.isRaw()).isFalse();
+    assertThat(objectMapper.writeValueAsString(result))
+      .isEqualTo("{\"value\":\"test\",\"@result\":\"OK\"}");
+  }
+
+  @Test
+  public void itBindsTheOtherSideEagerly() throws Exception {
+    Result<LazyValue<TestBean>, TestError> result = objectMapper.readValue(
+      "{\"name\":\"ERROR\",\"@result\":\"ERR\"}",
+      LAZY_BEAN
+    );
+
+    assertThat(result).isEqualTo(Result.err(TestError.ERROR));
+  }
+
+  @Test
+  public void itReadsLazyErr() throws Exception {
+    String json = "{\"@result\":\"ERR\",\"@error\":\"unavailable\"}";
+
+    Result<LazyValue<List<Double>>, LazyValue<String>> result = objectMapper.readValue(
+      json,
+      LAZY_LIST
+    );
+
+    assertThat(result.unwrapErrOrElseThrow().get()).isEqualTo("unavailable");
+    assertThat(objectMapper.writeValueAsString(result))
+      .isEqualTo("{\"@error\":\"unavailable\",\"@result\":\"ERR\"}");
+  }
+
+  @Test
+  public void itReadsNullValue() throws Exception {
+    Result<LazyValue<List<Double>>, LazyValue<String>> result = objectMapper.readValue(
+      "{\"@ok\":null,\"@result\":\"OK\"}",
+      LAZY_LIST
+    );
+
+    assertThat(result.unwrapOrElseThrow().get()).isNull();
+    assertThat(objectMapper.writeValueAsString(result))
+      .isEqualTo("{\"@ok\":null,\"@result\":\"OK\"}");
+  }
+
+  @Test
+  public void itSerializesCreatedValue() throws Exception {
+    Result<LazyValue<TestBean>, TestError> result = Result.ok(
+      LazyValue.of(new TestBean("test"))
+    );
+
+    assertThat(objectMapper.writeValueAsString(result))
+      .isEqualTo("{\"value\":\"test\",\"@result\":\"OK\"}");
+  }
+
+  @Test
+  public void itCopiesTokensToOtherGenerators() throws Exception {
+    String json = "{\"value\":\"test\",\"@result\":\"OK\"}";
+    Result<LazyValue<TestBean>, TestError> result = objectMapper.readValue(
+      json,
+      LAZY_BEAN
+    );
+
+    JsonNode tree = objectMapper.valueToTree(result);
+
+    assertThat(tree).isEqualTo(objectMapper.readTree(json));
+  }
+
+  @Test
+  public void itThrowsWhenBindingFails() throws Exception {
+    Result<LazyValue<List<Double>>, LazyValue<String>> result = objectMapper.readValue(
+      "{\"@ok\":{\"not\":\"a list\"},\"@result\":\"OK\"}",
+      LAZY_LIST
+    );
+
+    assertThatThrownBy(() -> result.unwrapOrElseThrow().get())
+      .isInstanceOf(UncheckedIOException.class);
+  }
+
+  @Test
+  public void itWritesRawJsonAsAStringValue() throws Exception {
+    byte[] bytes = "[{\"a\":\"caf\u00e9\"}]".getBytes(StandardCharsets.UTF_8);
+    RawJson raw = new RawJson(bytes, 1, bytes.length - 2);
+    String expected = "\"{\\\"a\\\":\\\"caf\u00e9\\\"}\"";
+
+    StringWriter chars = new StringWriter();
+    try (JsonGenerator gen = objectMapper.getFactory().createGenerator(chars)) {
+      gen.writeString(raw);
+    }
+    ByteArrayOutputStream utf8 = new ByteArrayOutputStream();
+    try (JsonGenerator gen = objectMapper.getFactory().createGenerator(utf8)) {
+      gen.writeString(raw);
+    }
+
+    assertThat(chars.toString()).isEqualTo(expected);
+    assertThat(new String(utf8.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(expected);
+    assertThat(raw.appendQuoted(new char[4], 0)).isEqualTo(-1);
+  }
+}
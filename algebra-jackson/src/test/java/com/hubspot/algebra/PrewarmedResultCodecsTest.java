@@ -0,0 +1,90 @@
+package com.hubspot.algebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import java.util.Collections;
+import java.util.Set;
+import org.junit.Test;
+
+public class PrewarmedResultCodecsTest {
+
+  private static final TypeReference<Result<String, String>> STRING_RESULT =
+    new TypeReference<Result<String, String>>() {};
+  private static final TypeReference<Result<Integer, String>> INTEGER_RESULT =
+    new TypeReference<Result<Integer, String>>() {};
+
+  private final ObjectMapper objectMapper = new ObjectMapper()
+    .registerModule(new ResultModule());
+
+  @Test
+  public void itRoundTripsWithPrewarmedCodecs() throws Exception {
+    PrewarmedResultCodecs codecs = PrewarmedResultCodecs.warmUp(
+      objectMapper,
+      Collections.singletonList(STRING_RESULT)
+    );
+
+    String json = codecs.writerFor(STRING_RESULT).writeValueAsString(Result.ok("test"));
+    assertThat(json).isEqualTo("{\"@ok\":\"test\",\"@result\":\"OK\"}");
+
+    Result<String, String> result = codecs.readerFor(STRING_RESULT).readValue(json);
+    assertThat(result).isEqualTo(Result.ok("test"));
+    assertThat(codecs.getWarmUpDuration().isNegative()).isFalse();
+  }
+
+  @Test
+  public void itRejectsTypesThatWereNotPrewarmed() throws Exception {
+    PrewarmedResultCodecs codecs = PrewarmedResultCodecs.warmUp(
+      objectMapper,
+      Collections.singletonList(STRING_RESULT)
+    );
+
+    assertThatThrownBy(() -> codecs.readerFor(INTEGER_RESULT))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void itBindsPrewarmedCodecs() throws Exception {
+    Injector injector = Guice.createInjector(
+      AlgebraJacksonModule.withPrewarmedTypes(STRING_RESULT, INTEGER_RESULT),
+      binder -> binder.bind(ObjectMapper.class).toInstance(objectMapper)
+    );
+
+    PrewarmedResultCodecs codecs = injector.getInstance(PrewarmedResultCodecs.class);
+    assertThat(codecs.getTypes()).hasSize(2);
+    assertThat(codecs).isSameAs(injector.getInstance(PrewarmedResultCodecs.class));
+  }
+
+  @Test
+  public void itCombinesPrewarmedTypesFromSeveralModules() throws Exception {
+    Injector injector = Guice.createInjector(
+      new AlgebraJacksonModule(),
+      AlgebraJacksonModule.withPrewarmedTypes(STRING_RESULT),
+      AlgebraJacksonModule.withPrewarmedTypes(INTEGER_RESULT, STRING_RESULT),
+      binder ->
+        AlgebraJacksonModule
+          .prewarmedTypesBinder(binder)
+          .addBinding()
+          .toInstance(new TypeReference<Result<Long, String>>() {}),
+      binder -> binder.bind(ObjectMapper.class).toInstance(objectMapper)
+    );
+
+    assertThat(injector.getInstance(PrewarmedResultCodecs.class).getTypes()).hasSize(3);
+    assertThat(injector.getInstance(Key.get(new TypeLiteral<Set<Module>>() {})))
+      .hasSize(1);
+  }
+
+  @Test
+  public void itComparesModulesByClass() throws Exception {
+    assertThat(new AlgebraJacksonModule())
+      .isEqualTo(new AlgebraJacksonModule())
+      .hasSameHashCodeAs(new AlgebraJacksonModule());
+  }
+}
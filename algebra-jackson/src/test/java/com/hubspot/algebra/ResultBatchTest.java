@@ -0,0 +1,116 @@
+package com.hubspot.algebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubspot.algebra.ResultModuleTest.TestBean;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ResultBatchTest {
+
+  private static final TypeReference<ResultBatch<TestBean, TestBean>> BEAN_BATCH =
+    new TypeReference<ResultBatch<TestBean, TestBean>>() {};
+  private static final TypeReference<ResultBatch<String, String>> STRING_BATCH =
+    new TypeReference<ResultBatch<String, String>>() {};
+
+  private static final ResultBatch<TestBean, TestBean> BATCH = ResultBatch.of(
+    Arrays.asList(
+      Result.ok(new TestBean("a")),
+      Result.err(new TestBean("RATE_LIMITED")),
+      Result.err(new TestBean("NOT_FOUND")),
+      Result.err(new TestBean("RATE_LIMITED")),
+      Result.ok(new TestBean("b"))
+    )
+  );
+  private static final String BATCH_JSON =
+    "{\"@errors\":[{\"value\":\"RATE_LIMITED\"},{\"value\":\"NOT_FOUND\"}]," +
+    "\"@results\":[{\"value\":\"a\",\"@result\":\"OK\"},0,1,0,{\"value\":\"b\",\"@result\":\"OK\"}]}";
+
+  private static ObjectMapper objectMapper;
+
+  @BeforeClass
+  public static void setupClass() {
+    objectMapper = new ObjectMapper().registerModule(new ResultModule());
+  }
+
+  @Test
+  public void itWritesEachDistinctErrOnce() throws Exception {
+    assertThat(objectMapper.writerFor(BEAN_BATCH).writeValueAsString(BATCH))
+      .isEqualTo(BATCH_JSON);
+  }
+
+  @Test
+  public void itWritesWithoutDeclaredType() throws Exception {
+    assertThat(objectMapper.writeValueAsString(BATCH)).isEqualTo(BATCH_JSON);
+  }
+
+  @Test
+  public void itRoundTrips() throws Exception {
+    assertThat(objectMapper.readValue(BATCH_JSON, BEAN_BATCH)).isEqualTo(BATCH);
+  }
+
+  @Test
+  public void itSharesErrInstancesWithTheSameIndex() throws Exception {
+    List<Result<TestBean, TestBean>> results = objectMapper
+      .readValue(BATCH_JSON, BEAN_BATCH)
+      .getResults();
+
+    assertThat(results.get(1)).isSameAs(results.get(3));
+    assertThat(results.get(1).unwrapErrOrElseThrow())
+      .isSameAs(results.get(3).unwrapErrOrElseThrow());
+    assertThat(results.get(2)).isNotSameAs(results.get(1));
+  }
+
+  @Test
+  public void itReadsResultsBeforeErrors() throws Exception {
+    String json =
+      "{\"@results\":[1,{\"@ok\":\"a\",\"@result\":\"OK\"},0,1]," +
+      "\"@errors\":[\"NOT_FOUND\",\"RATE_LIMITED\"]}";
+
+    List<Result<String, String>> results = objectMapper
+      .readValue(json, STRING_BATCH)
+      .getResults();
+
+    assertThat(results)
+      .containsExactly(
+        Result.err("RATE_LIMITED"),
+        Result.ok("a"),
+        Result.err("NOT_FOUND"),
+        Result.err("RATE_LIMITED")
+      );
+    assertThat(results.get(0)).isSameAs(results.get(3));
+  }
+
+  @Test
+  public void itAcceptsInlineErrResults() throws Exception {
+    String json =
+      "{\"@errors\":[],\"@results\":[{\"@error\":\"NOT_FOUND\",\"@result\":\"ERR\"}]}";
+
+    assertThat(objectMapper.readValue(json, STRING_BATCH).getResults())
+      .containsExactly(Result.err("NOT_FOUND"));
+  }
+
+  @Test
+  public void itRoundTripsEmptyBatch() throws Exception {
+    ResultBatch<String, String> empty = ResultBatch.of(Arrays.asList());
+    String json = objectMapper.writerFor(STRING_BATCH).writeValueAsString(empty);
+
+    assertThat(json).isEqualTo("{\"@errors\":[],\"@results\":[]}");
+    assertThat(objectMapper.readValue(json, STRING_BATCH)).isEqualTo(empty);
+  }
+
+  @Test
+  public void itRejectsOutOfRangeIndex() {
+    String json = "{\"@errors\":[\"NOT_FOUND\"],\"@results\":[1]}";
+
+    assertThatThrownBy(() -> objectMapper.readValue(json, STRING_BATCH))
+      .isInstanceOf(JsonMappingException.class)
+      .hasMessageContaining("Error index 1");
+  }
+}
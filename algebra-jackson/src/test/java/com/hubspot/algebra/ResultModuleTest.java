@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonFormat.Shape;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -12,6 +14,8 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableTable;
@@ -20,6 +24,7 @@ import com.google.common.collect.Table;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -258,6 +263,61 @@ public class ResultModuleTest {
     itSerializes(NESTED_ERR_ERR, NESTED_ERR_ERR_JSON);
   }
 
+  @Test
+  public void itSerializesDifferentOkClassesForTheSameResultType() throws Exception {
+    ObjectWriter writer = objectMapper.writerFor(
+      new TypeReference<Result<Object, String>>() {}
+    );
+    for (int i = 0; i < 2; i++) {
+      assertThat(writer.writeValueAsString(Result.ok("test"))).isEqualTo(STRING_OK_JSON);
+      assertThat(writer.writeValueAsString(Result.ok(new TestBean("test"))))
+        .isEqualTo(BEAN_OK_JSON);
+    }
+  }
+
+  @Test
+  public void itAppliesMapContentInclusionToMapValues() throws Exception {
+    Map<String, String> map = new LinkedHashMap<>();
+    map.put("key", "value");
+    map.put("missing", null);
+    map.put("empty", "");
+
+    ObjectMapper nonNull = new ObjectMapper()
+      .registerModule(new ResultModule())
+      .setDefaultPropertyInclusion(
+        JsonInclude.Value.construct(Include.ALWAYS, Include.NON_NULL)
+      );
+    ObjectMapper nonEmpty = new ObjectMapper()
+      .registerModule(new ResultModule())
+      .setDefaultPropertyInclusion(
+        JsonInclude.Value.construct(Include.ALWAYS, Include.NON_EMPTY)
+      );
+
+    assertThat(nonNull.writeValueAsString(Result.ok(map)))
+      .isEqualTo("{\"key\":\"value\",\"empty\":\"\",\"@result\":\"OK\"}");
+    assertThat(nonEmpty.writeValueAsString(Result.err(map)))
+      .isEqualTo("{\"key\":\"value\",\"@result\":\"ERR\"}");
+  }
+
+  @Test
+  public void itOrdersMapValuesByKeysWhenEnabled() throws Exception {
+    Map<String, String> map = new LinkedHashMap<>();
+    map.put("b", "1");
+    map.put("a", "2");
+    ObjectMapper ordered = new ObjectMapper()
+      .registerModules(new ResultModule(), new GuavaModule())
+      .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    assertThat(ordered.writeValueAsString(Result.ok(map)))
+      .isEqualTo("{\"a\":\"2\",\"b\":\"1\",\"@result\":\"OK\"}");
+    assertThat(
+      ordered.writeValueAsString(
+        Result.ok(ImmutableMultimap.of("b", "1", "a", "2", "b", "3"))
+      )
+    )
+      .isEqualTo("{\"a\":[\"2\"],\"b\":[\"1\",\"3\"],\"@result\":\"OK\"}");
+  }
+
   @Test
   public void itDeserializesBeanOk() throws Exception {
     itDeserializes(
@@ -468,6 +528,39 @@ public class ResultModuleTest {
     );
   }
 
+  @Test
+  public void itDeserializesValuesThatFollowTheCase() throws Exception {
+    itDeserializes(
+      "{\"@result\":\"OK\",\"@ok\":[\"val0\",\"val1\"],\"extra\":{\"a\":1}}",
+      new TypeReference<Result<List<String>, List<String>>>() {},
+      LIST_OK
+    );
+    itDeserializes(
+      "{\"@result\":\"ERR\",\"@error\":\"ERROR\"}",
+      new TypeReference<Result<String, String>>() {},
+      STRING_ERR
+    );
+    itDeserializes(
+      "{\"@result\":\"OK\",\"value\":\"test\"}",
+      new TypeReference<Result<TestBean, TestError>>() {},
+      BEAN_OK
+    );
+    itDeserializes(
+      "{\"@result\":\"OK\",\"@ok\":null}",
+      new TypeReference<Result<NullValue, String>>() {},
+      NULL_OK
+    );
+  }
+
+  @Test
+  public void itDeserializesOkValuesBufferedBeforeTheCase() throws Exception {
+    itDeserializes(
+      "{\"@error\":\"ignored\",\"@ok\":\"test\",\"@result\":\"OK\"}",
+      new TypeReference<Result<String, String>>() {},
+      STRING_OK
+    );
+  }
+
   private void itSerializes(Result<?, ?> result, String expectedJson)
     throws JsonProcessingException {
     assertThat(objectMapper.writeValueAsString(result)).isEqualTo(expectedJson);
@@ -0,0 +1,124 @@
+package com.hubspot.algebra.jaxrs;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hubspot.algebra.Result;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+/**
+ * Writes the Ok value or the Err value of a Result as the response body, streaming it
+ * straight to the entity stream. The status code is set by {@link ResultStatusFilter}.
+ *
+ * Values are written as the Ok or Err type declared by the resource method, so that
+ * generic and polymorphic types serialize as they would outside a Result. The writers
+ * for each declared type are resolved once and cached.
+ */
+abstract class AbstractResultMessageBodyWriter<R> implements MessageBodyWriter<R> {
+
+  private final Class<?> handledType;
+  private final ObjectWriter objectWriter;
+  private final ConcurrentMap<Type, TypedWriters> writersByType =
+    new ConcurrentHashMap<>();
+
+  AbstractResultMessageBodyWriter(Class<?> handledType, ObjectMapper objectMapper) {
+    this.handledType = handledType;
+    this.objectWriter =
+      objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  }
+
+  abstract Result<?, ?> toResult(R value);
+
+  @Override
+  public boolean isWriteable(
+    Class<?> type,
+    Type genericType,
+    Annotation[] annotations,
+    MediaType mediaType
+  ) {
+    return handledType.isAssignableFrom(type) && isJson(mediaType);
+  }
+
+  @Override
+  public long getSize(
+    R value,
+    Class<?> type,
+    Type genericType,
+    Annotation[] annotations,
+    MediaType mediaType
+  ) {
+    return -1;
+  }
+
+  @Override
+  public void writeTo(
+    R value,
+    Class<?> type,
+    Type genericType,
+    Annotation[] annotations,
+    MediaType mediaType,
+    MultivaluedMap<String, Object> httpHeaders,
+    OutputStream entityStream
+  ) throws IOException {
+    Result<?, ?> result = toResult(value);
+    TypedWriters writers = writersByType.computeIfAbsent(
+      genericType == null ? type : genericType,
+      this::resolveWriters
+    );
+    if (result.isOk()) {
+      writers.ok.writeValue(entityStream, result.unwrapOrElseThrow());
+    } else {
+      writers.err.writeValue(entityStream, result.unwrapErrOrElseThrow());
+    }
+  }
+
+  private TypedWriters resolveWriters(Type genericType) {
+    TypeFactory typeFactory = objectWriter.getTypeFactory();
+    JavaType[] typeParameters = typeFactory
+      .constructType(genericType)
+      .findTypeParameters(handledType);
+    if (typeParameters.length != 2) {
+      return new TypedWriters(objectWriter, objectWriter);
+    }
+
+    // an unresolved parameter comes back as Object, which writes the runtime type
+    return new TypedWriters(
+      objectWriter.forType(typeParameters[0]),
+      objectWriter.forType(typeParameters[1])
+    );
+  }
+
+  private static boolean isJson(MediaType mediaType) {
+    if (mediaType == null) {
+      return true;
+    }
+
+    String subtype = mediaType.getSubtype();
+    return (
+      "json".equalsIgnoreCase(subtype) ||
+      subtype.toLowerCase(Locale.ROOT).endsWith("+json")
+    );
+  }
+
+  private static final class TypedWriters {
+
+    private final ObjectWriter ok;
+    private final ObjectWriter err;
+
+    private TypedWriters(ObjectWriter ok, ObjectWriter err) {
+      this.ok = ok;
+      this.err = err;
+    }
+  }
+}
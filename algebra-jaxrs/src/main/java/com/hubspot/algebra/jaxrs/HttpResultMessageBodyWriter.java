@@ -0,0 +1,28 @@
+package com.hubspot.algebra.jaxrs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubspot.algebra.HttpResult;
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.ResultModule;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.Provider;
+
+@Provider
+@Produces({ MediaType.APPLICATION_JSON, "application/*+json" })
+public class HttpResultMessageBodyWriter
+  extends AbstractResultMessageBodyWriter<HttpResult<?, ?>> {
+
+  public HttpResultMessageBodyWriter() {
+    this(new ObjectMapper().registerModule(new ResultModule()));
+  }
+
+  public HttpResultMessageBodyWriter(ObjectMapper objectMapper) {
+    super(HttpResult.class, objectMapper);
+  }
+
+  @Override
+  Result<?, ?> toResult(HttpResult<?, ?> value) {
+    return value.unwrap();
+  }
+}
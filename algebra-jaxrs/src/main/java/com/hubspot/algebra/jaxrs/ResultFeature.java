@@ -0,0 +1,31 @@
+package com.hubspot.algebra.jaxrs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubspot.algebra.ResultModule;
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+/**
+ * Registers the Result writers and {@link ResultStatusFilter}. The given mapper should
+ * have {@link ResultModule} registered so that nested Results serialize as usual.
+ */
+public class ResultFeature implements Feature {
+
+  private final ObjectMapper objectMapper;
+
+  public ResultFeature() {
+    this(new ObjectMapper().registerModule(new ResultModule()));
+  }
+
+  public ResultFeature(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public boolean configure(FeatureContext context) {
+    context.register(new ResultMessageBodyWriter(objectMapper));
+    context.register(new HttpResultMessageBodyWriter(objectMapper));
+    context.register(new ResultStatusFilter());
+    return true;
+  }
+}
@@ -0,0 +1,27 @@
+package com.hubspot.algebra.jaxrs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.ResultModule;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.Provider;
+
+@Provider
+@Produces({ MediaType.APPLICATION_JSON, "application/*+json" })
+public class ResultMessageBodyWriter
+  extends AbstractResultMessageBodyWriter<Result<?, ?>> {
+
+  public ResultMessageBodyWriter() {
+    this(new ObjectMapper().registerModule(new ResultModule()));
+  }
+
+  public ResultMessageBodyWriter(ObjectMapper objectMapper) {
+    super(Result.class, objectMapper);
+  }
+
+  @Override
+  Result<?, ?> toResult(Result<?, ?> value) {
+    return value;
+  }
+}
@@ -0,0 +1,48 @@
+package com.hubspot.algebra.jaxrs;
+
+import com.hubspot.algebra.HttpError;
+import com.hubspot.algebra.HttpResult;
+import com.hubspot.algebra.Result;
+import java.util.OptionalInt;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * Sets the response status from an {@link HttpResult}, or from the {@link HttpError} held
+ * by an Err {@link Result}. Any other Err is sent as a 500.
+ */
+@Provider
+public class ResultStatusFilter implements ContainerResponseFilter {
+
+  private static final int DEFAULT_ERR_STATUS_CODE = 500;
+
+  @Override
+  public void filter(
+    ContainerRequestContext requestContext,
+    ContainerResponseContext responseContext
+  ) {
+    OptionalInt statusCode = statusCodeFor(responseContext.getEntity());
+    if (statusCode.isPresent()) {
+      responseContext.setStatus(statusCode.getAsInt());
+    }
+  }
+
+  static OptionalInt statusCodeFor(Object entity) {
+    if (entity instanceof HttpResult) {
+      return OptionalInt.of(((HttpResult<?, ?>) entity).getHttpStatusCode());
+    }
+
+    if (entity instanceof Result && ((Result<?, ?>) entity).isErr()) {
+      Object err = ((Result<?, ?>) entity).unwrapErrOrElseThrow();
+      return OptionalInt.of(
+        err instanceof HttpError
+          ? ((HttpError) err).getStatusCode()
+          : DEFAULT_ERR_STATUS_CODE
+      );
+    }
+
+    return OptionalInt.empty();
+  }
+}
@@ -0,0 +1,199 @@
+package com.hubspot.algebra.jaxrs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.hubspot.algebra.HttpError;
+import com.hubspot.algebra.HttpResult;
+import com.hubspot.algebra.Result;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import org.junit.Test;
+
+public class ResultMessageBodyWriterTest {
+
+  private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+  private enum SampleError implements HttpError {
+    NOT_FOUND;
+
+    @Override
+    public int getStatusCode() {
+      return 404;
+    }
+  }
+
+  @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+  @JsonSubTypes(@JsonSubTypes.Type(value = Dog.class, name = "dog"))
+  public abstract static class Animal {}
+
+  public static class Dog extends Animal {
+
+    public final String name;
+
+    Dog(String name) {
+      this.name = name;
+    }
+  }
+
+  private final ResultMessageBodyWriter resultWriter = new ResultMessageBodyWriter();
+  private final HttpResultMessageBodyWriter httpResultWriter =
+    new HttpResultMessageBodyWriter();
+
+  @Test
+  public void itWritesOkPayloads() throws Exception {
+    assertThat(write(Result.ok(Arrays.asList("a", "b")))).isEqualTo("[\"a\",\"b\"]");
+  }
+
+  @Test
+  public void itWritesErrPayloads() throws Exception {
+    assertThat(write(Result.err(SampleError.NOT_FOUND))).isEqualTo("\"NOT_FOUND\"");
+  }
+
+  @Test
+  public void itWritesNestedResults() throws Exception {
+    assertThat(write(Result.ok(Result.ok("nested"))))
+      .isEqualTo("{\"@ok\":\"nested\",\"@result\":\"OK\"}");
+  }
+
+  @Test
+  public void itWritesPayloadsAsTheDeclaredType() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    resultWriter.writeTo(
+      animals(),
+      Result.class,
+      getClass().getDeclaredMethod("animals").getGenericReturnType(),
+      NO_ANNOTATIONS,
+      MediaType.APPLICATION_JSON_TYPE,
+      new MultivaluedHashMap<>(),
+      out
+    );
+
+    assertThat(out.toString("UTF-8")).isEqualTo("[{\"type\":\"dog\",\"name\":\"rex\"}]");
+  }
+
+  @Test
+  public void itWritesHttpResultPayloads() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    httpResultWriter.writeTo(
+      HttpResult.err("unavailable", 503),
+      HttpResult.class,
+      HttpResult.class,
+      NO_ANNOTATIONS,
+      MediaType.APPLICATION_JSON_TYPE,
+      new MultivaluedHashMap<>(),
+      out
+    );
+
+    assertThat(out.toString("UTF-8")).isEqualTo("\"unavailable\"");
+  }
+
+  @Test
+  public void itDoesNotCloseTheEntityStream() throws Exception {
+    CloseTrackingOutputStream out = new CloseTrackingOutputStream();
+    resultWriter.writeTo(
+      Result.ok("ok"),
+      Result.class,
+      Result.class,
+      NO_ANNOTATIONS,
+      MediaType.APPLICATION_JSON_TYPE,
+      new MultivaluedHashMap<>(),
+      out
+    );
+
+    assertThat(out.closed).isFalse();
+  }
+
+  @Test
+  public void itOnlyWritesJson() {
+    assertThat(
+      resultWriter.isWriteable(
+        Result.class,
+        Result.class,
+        NO_ANNOTATIONS,
+        MediaType.APPLICATION_JSON_TYPE
+      )
+    )
+      .isTrue();
+    assertThat(
+      resultWriter.isWriteable(
+        Result.class,
+        Result.class,
+        NO_ANNOTATIONS,
+        new MediaType("application", "problem+json")
+      )
+    )
+      .isTrue();
+    assertThat(
+      resultWriter.isWriteable(
+        Result.class,
+        Result.class,
+        NO_ANNOTATIONS,
+        MediaType.TEXT_PLAIN_TYPE
+      )
+    )
+      .isFalse();
+    assertThat(
+      resultWriter.isWriteable(
+        String.class,
+        String.class,
+        NO_ANNOTATIONS,
+        MediaType.APPLICATION_JSON_TYPE
+      )
+    )
+      .isFalse();
+  }
+
+  @Test
+  public void itPicksStatusCodes() {
+    assertThat(ResultStatusFilter.statusCodeFor(Result.err(SampleError.NOT_FOUND)))
+      .isEqualTo(OptionalInt.of(404));
+    assertThat(ResultStatusFilter.statusCodeFor(HttpResult.err("gone", 410)))
+      .isEqualTo(OptionalInt.of(410));
+    assertThat(ResultStatusFilter.statusCodeFor(Result.err("not an HttpError")))
+      .isEqualTo(OptionalInt.of(500));
+    assertThat(ResultStatusFilter.statusCodeFor(Result.ok("ok")))
+      .isEqualTo(OptionalInt.empty());
+  }
+
+  private static Result<List<Animal>, SampleError> animals() {
+    return Result.ok(Collections.singletonList(new Dog("rex")));
+  }
+
+  private String write(Result<?, ?> result) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    resultWriter.writeTo(
+      result,
+      Result.class,
+      Result.class,
+      NO_ANNOTATIONS,
+      MediaType.APPLICATION_JSON_TYPE,
+      new MultivaluedHashMap<>(),
+      out
+    );
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  private static class CloseTrackingOutputStream extends OutputStream {
+
+    private boolean closed;
+
+    @Override
+    public void write(int b) {}
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
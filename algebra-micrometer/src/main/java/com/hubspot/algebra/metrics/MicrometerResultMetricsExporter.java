@@ -0,0 +1,88 @@
+package com.hubspot.algebra.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Binds {@link ResultInstrument} counters to Micrometer meters. Meters read the counters
+ * when they are published, so recording stays free of any Micrometer calls.
+ */
+public class MicrometerResultMetricsExporter implements ResultMetricsExporter {
+
+  public static final String OUTCOMES_METER_NAME = "algebra.result.outcomes";
+  public static final String ERRORS_METER_NAME = "algebra.result.errors";
+  public static final String FAILURES_METER_NAME = "algebra.result.failures";
+  public static final String LATENCY_METER_NAME = "algebra.result.latency";
+
+  private final MeterRegistry registry;
+  private final Function<Class<?>, String> errorTagMapper;
+
+  /**
+   * Tags error and failure counters with the fully qualified name of the error or
+   * exception class.
+   */
+  public MicrometerResultMetricsExporter(MeterRegistry registry) {
+    this(registry, Class::getName);
+  }
+
+  public MicrometerResultMetricsExporter(
+    MeterRegistry registry,
+    Function<Class<?>, String> errorTagMapper
+  ) {
+    this.registry = registry;
+    this.errorTagMapper = errorTagMapper;
+  }
+
+  @Override
+  public void onInstrumentCreated(ResultInstrument instrument) {
+    FunctionCounter
+      .builder(OUTCOMES_METER_NAME, instrument, ResultInstrument::getOkCount)
+      .tag("name", instrument.getName())
+      .tag("outcome", "ok")
+      .register(registry);
+    FunctionCounter
+      .builder(OUTCOMES_METER_NAME, instrument, ResultInstrument::getErrCount)
+      .tag("name", instrument.getName())
+      .tag("outcome", "err")
+      .register(registry);
+    FunctionCounter
+      .builder(OUTCOMES_METER_NAME, instrument, ResultInstrument::getFailureCount)
+      .tag("name", instrument.getName())
+      .tag("outcome", "failure")
+      .register(registry);
+    FunctionTimer
+      .builder(
+        LATENCY_METER_NAME,
+        instrument,
+        ResultInstrument::getLatencyCount,
+        ResultInstrument::getTotalLatencyNanos,
+        TimeUnit.NANOSECONDS
+      )
+      .tag("name", instrument.getName())
+      .register(registry);
+  }
+
+  @Override
+  public void onErrorClassRecorded(ResultInstrument instrument, Class<?> errorClass) {
+    FunctionCounter
+      .builder(ERRORS_METER_NAME, instrument, i -> i.getErrCount(errorClass))
+      .tag("name", instrument.getName())
+      .tag("error", errorTagMapper.apply(errorClass))
+      .register(registry);
+  }
+
+  @Override
+  public void onFailureClassRecorded(
+    ResultInstrument instrument,
+    Class<?> exceptionClass
+  ) {
+    FunctionCounter
+      .builder(FAILURES_METER_NAME, instrument, i -> i.getFailureCount(exceptionClass))
+      .tag("name", instrument.getName())
+      .tag("exception", errorTagMapper.apply(exceptionClass))
+      .register(registry);
+  }
+}
@@ -0,0 +1,109 @@
+package com.hubspot.algebra.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hubspot.algebra.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+
+public class MicrometerResultMetricsExporterTest {
+
+  private enum SampleError {
+    NOT_FOUND,
+  }
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ResultMetrics metrics = new ResultMetrics();
+
+  @Test
+  public void itExportsOutcomeCounts() {
+    metrics.addExporter(new MicrometerResultMetricsExporter(registry));
+
+    ResultInstrument instrument = metrics.instrument("lookup");
+    instrument.record(Result.ok("a"));
+    instrument.record(Result.err(SampleError.NOT_FOUND));
+    instrument.record(Result.err(SampleError.NOT_FOUND));
+
+    assertThat(outcomeCount("ok")).isEqualTo(1.0);
+    assertThat(outcomeCount("err")).isEqualTo(2.0);
+    assertThat(
+      registry
+        .get(MicrometerResultMetricsExporter.ERRORS_METER_NAME)
+        .tag("name", "lookup")
+        .tag("error", SampleError.class.getName())
+        .functionCounter()
+        .count()
+    )
+      .isEqualTo(2.0);
+  }
+
+  @Test
+  public void itExportsFailuresApartFromErrs() {
+    metrics.addExporter(new MicrometerResultMetricsExporter(registry));
+
+    ResultInstrument instrument = metrics.instrument("lookup");
+    CompletableFuture<Result<String, SampleError>> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new IllegalStateException("timed out"));
+    instrument.callAsync(() -> failed);
+
+    assertThat(outcomeCount("err")).isEqualTo(0.0);
+    assertThat(outcomeCount("failure")).isEqualTo(1.0);
+    assertThat(
+      registry
+        .get(MicrometerResultMetricsExporter.FAILURES_METER_NAME)
+        .tag("name", "lookup")
+        .tag("exception", IllegalStateException.class.getName())
+        .functionCounter()
+        .count()
+    )
+      .isEqualTo(1.0);
+  }
+
+  @Test
+  public void itExportsInstrumentsCreatedBeforeRegistration() throws Exception {
+    metrics
+      .instrument("lookup")
+      .callAsync(() -> CompletableFuture.completedFuture(Result.ok("a")))
+      .get();
+
+    metrics.addExporter(new MicrometerResultMetricsExporter(registry));
+
+    assertThat(outcomeCount("ok")).isEqualTo(1.0);
+    assertThat(
+      registry
+        .get(MicrometerResultMetricsExporter.LATENCY_METER_NAME)
+        .tag("name", "lookup")
+        .functionTimer()
+        .count()
+    )
+      .isEqualTo(1.0);
+  }
+
+  @Test
+  public void itUsesErrorTagMapper() {
+    metrics.addExporter(
+      new MicrometerResultMetricsExporter(registry, Class::getSimpleName)
+    );
+
+    metrics.instrument("lookup").record(Result.err(SampleError.NOT_FOUND));
+
+    assertThat(
+      registry
+        .get(MicrometerResultMetricsExporter.ERRORS_METER_NAME)
+        .tag("error", "SampleError")
+        .functionCounter()
+        .count()
+    )
+      .isEqualTo(1.0);
+  }
+
+  private double outcomeCount(String outcome) {
+    return registry
+      .get(MicrometerResultMetricsExporter.OUTCOMES_METER_NAME)
+      .tag("name", "lookup")
+      .tag("outcome", outcome)
+      .functionCounter()
+      .count();
+  }
+}
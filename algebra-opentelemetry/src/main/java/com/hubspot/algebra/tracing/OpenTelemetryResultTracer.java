@@ -0,0 +1,68 @@
+package com.hubspot.algebra.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+
+/**
+ * Starts an OpenTelemetry span per traced call, as a child of the current context.
+ */
+public class OpenTelemetryResultTracer implements ResultTracer {
+
+  public static final String INSTRUMENTATION_SCOPE_NAME = "com.hubspot.algebra";
+
+  private final Tracer tracer;
+
+  public OpenTelemetryResultTracer(Tracer tracer) {
+    this.tracer = tracer;
+  }
+
+  public OpenTelemetryResultTracer(OpenTelemetry openTelemetry) {
+    this(openTelemetry.getTracer(INSTRUMENTATION_SCOPE_NAME));
+  }
+
+  @Override
+  public ResultSpan startSpan(String name) {
+    return new OpenTelemetryResultSpan(tracer.spanBuilder(name).startSpan());
+  }
+
+  private static class OpenTelemetryResultSpan implements ResultSpan {
+
+    private final Span span;
+
+    private OpenTelemetryResultSpan(Span span) {
+      this.span = span;
+    }
+
+    @Override
+    public Scope makeCurrent() {
+      return span.makeCurrent()::close;
+    }
+
+    @Override
+    public void setAttribute(String key, String value) {
+      span.setAttribute(key, value);
+    }
+
+    @Override
+    public void setAttribute(String key, long value) {
+      span.setAttribute(key, value);
+    }
+
+    @Override
+    public void setError(String description) {
+      span.setStatus(StatusCode.ERROR, description);
+    }
+
+    @Override
+    public void recordException(Throwable throwable) {
+      span.recordException(throwable);
+    }
+
+    @Override
+    public void end() {
+      span.end();
+    }
+  }
+}
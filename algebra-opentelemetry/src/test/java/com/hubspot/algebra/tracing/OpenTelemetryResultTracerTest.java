@@ -0,0 +1,95 @@
+package com.hubspot.algebra.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hubspot.algebra.HttpError;
+import com.hubspot.algebra.Result;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.After;
+import org.junit.Test;
+
+public class OpenTelemetryResultTracerTest {
+
+  private enum SampleError implements HttpError {
+    NOT_FOUND;
+
+    @Override
+    public int getStatusCode() {
+      return 404;
+    }
+  }
+
+  private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+  private final SdkTracerProvider tracerProvider = SdkTracerProvider
+    .builder()
+    .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+    .build();
+  private final ResultTracing tracing = new ResultTracing(
+    new OpenTelemetryResultTracer(tracerProvider.get("test"))
+  );
+
+  @After
+  public void tearDown() {
+    tracerProvider.close();
+  }
+
+  @Test
+  public void itExportsOkSpans() {
+    tracing.traced("lookup", () -> Result.ok("a"));
+
+    SpanData span = onlySpan();
+    assertThat(span.getName()).isEqualTo("lookup");
+    assertThat(stringAttribute(span, ResultTracing.OUTCOME_ATTRIBUTE)).isEqualTo("ok");
+    assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.UNSET);
+  }
+
+  @Test
+  public void itExportsErrSpans() throws Exception {
+    tracing
+      .tracedAsync(
+        "lookup",
+        () -> CompletableFuture.completedFuture(Result.err(SampleError.NOT_FOUND))
+      )
+      .get();
+
+    SpanData span = onlySpan();
+    assertThat(stringAttribute(span, ResultTracing.OUTCOME_ATTRIBUTE)).isEqualTo("err");
+    assertThat(stringAttribute(span, ResultTracing.ERROR_CLASS_ATTRIBUTE))
+      .isEqualTo(SampleError.class.getName());
+    assertThat(longAttribute(span, ResultTracing.STATUS_CODE_ATTRIBUTE)).isEqualTo(404L);
+    assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+    assertThat(span.getStatus().getDescription()).isEqualTo(SampleError.class.getName());
+  }
+
+  @Test
+  public void itParentsNestedSpans() {
+    tracing.traced("outer", () -> tracing.traced("inner", () -> Result.ok("a")));
+
+    List<SpanData> spans = exporter.getFinishedSpanItems();
+    assertThat(spans).extracting(SpanData::getName).containsExactly("inner", "outer");
+    assertThat(spans.get(0).getParentSpanId()).isEqualTo(spans.get(1).getSpanId());
+    assertThat(Span.current().getSpanContext().isValid()).isFalse();
+  }
+
+  private SpanData onlySpan() {
+    List<SpanData> spans = exporter.getFinishedSpanItems();
+    assertThat(spans).hasSize(1);
+    return spans.get(0);
+  }
+
+  private static String stringAttribute(SpanData span, String key) {
+    return span.getAttributes().get(AttributeKey.stringKey(key));
+  }
+
+  private static Long longAttribute(SpanData span, String key) {
+    return span.getAttributes().get(AttributeKey.longKey(key));
+  }
+}
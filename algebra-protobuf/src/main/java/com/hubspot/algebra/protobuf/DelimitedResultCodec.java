@@ -0,0 +1,69 @@
+package com.hubspot.algebra.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.hubspot.algebra.Result;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes and reads sequences of Results, each prefixed with its varint length. This is
+ * the same framing as {@code MessageLite#writeDelimitedTo}, so a stream written here can
+ * be read with {@code parseDelimitedFrom} of a generated Result message and vice versa.
+ */
+public final class DelimitedResultCodec<T, E> {
+
+  /**
+   * Receives each Result as it is decoded.
+   */
+  @FunctionalInterface
+  public interface ResultHandler<T, E> {
+    void handle(Result<T, E> result) throws IOException;
+  }
+
+  private final ResultProtoCodec<T, E> resultCodec;
+
+  private DelimitedResultCodec(ResultProtoCodec<T, E> resultCodec) {
+    this.resultCodec = resultCodec;
+  }
+
+  public static <T, E> DelimitedResultCodec<T, E> of(ResultProtoCodec<T, E> resultCodec) {
+    return new DelimitedResultCodec<>(resultCodec);
+  }
+
+  public void writeAll(
+    Iterable<? extends Result<T, E>> results,
+    OutputStream outputStream
+  ) throws IOException {
+    CodedOutputStream output = CodedOutputStream.newInstance(outputStream);
+    for (Result<T, E> result : results) {
+      output.writeUInt32NoTag(resultCodec.computeSize(result));
+      resultCodec.write(result, output);
+    }
+    output.flush();
+  }
+
+  /**
+   * Decodes Results one at a time until the end of {@code inputStream}, so the whole
+   * sequence never needs to be held in memory.
+   */
+  public void readAll(InputStream inputStream, ResultHandler<T, E> handler)
+    throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(inputStream);
+    while (!input.isAtEnd()) {
+      Result<T, E> result = ResultProtoCodec.readField(resultCodec, input);
+      // The size limit applies to the whole stream, not to each Result
+      input.resetSizeCounter();
+      handler.handle(result);
+    }
+  }
+
+  public List<Result<T, E>> readAll(InputStream inputStream) throws IOException {
+    List<Result<T, E>> results = new ArrayList<>();
+    readAll(inputStream, results::add);
+    return results;
+  }
+}
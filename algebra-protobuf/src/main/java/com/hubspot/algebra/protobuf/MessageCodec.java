@@ -0,0 +1,25 @@
+package com.hubspot.algebra.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import java.io.IOException;
+
+/**
+ * Encodes the Ok or Err value of a Result as the body of a length-delimited protobuf
+ * field. Implementations write and read only the body; the tag and length are handled
+ * by {@link ResultProtoCodec}.
+ */
+public interface MessageCodec<T> {
+  /**
+   * The number of bytes {@link #write} will produce for {@code value}.
+   */
+  int computeSize(T value);
+
+  void write(T value, CodedOutputStream output) throws IOException;
+
+  /**
+   * Reads a value from {@code input}, which is limited to the bytes written by
+   * {@link #write}.
+   */
+  T read(CodedInputStream input) throws IOException;
+}
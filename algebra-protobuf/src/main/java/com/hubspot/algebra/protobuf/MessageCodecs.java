@@ -0,0 +1,68 @@
+package com.hubspot.algebra.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import com.hubspot.algebra.NullValue;
+import java.io.IOException;
+
+public final class MessageCodecs {
+
+  private MessageCodecs() {}
+
+  /**
+   * A codec for generated protobuf messages, for example
+   * {@code MessageCodecs.forMessage(MyError.parser())}.
+   */
+  public static <M extends MessageLite> MessageCodec<M> forMessage(Parser<M> parser) {
+    return forMessage(parser, ExtensionRegistryLite.getEmptyRegistry());
+  }
+
+  public static <M extends MessageLite> MessageCodec<M> forMessage(
+    Parser<M> parser,
+    ExtensionRegistryLite extensionRegistry
+  ) {
+    return new MessageCodec<M>() {
+      @Override
+      public int computeSize(M value) {
+        return value.getSerializedSize();
+      }
+
+      @Override
+      public void write(M value, CodedOutputStream output) throws IOException {
+        value.writeTo(output);
+      }
+
+      @Override
+      public M read(CodedInputStream input) throws IOException {
+        return parser.parseFrom(input, extensionRegistry);
+      }
+    };
+  }
+
+  /**
+   * A codec for {@link NullValue}, which is encoded as an empty body.
+   */
+  public static MessageCodec<NullValue> nullValue() {
+    return NullValueCodec.INSTANCE;
+  }
+
+  private enum NullValueCodec implements MessageCodec<NullValue> {
+    INSTANCE;
+
+    @Override
+    public int computeSize(NullValue value) {
+      return 0;
+    }
+
+    @Override
+    public void write(NullValue value, CodedOutputStream output) {}
+
+    @Override
+    public NullValue read(CodedInputStream input) {
+      return NullValue.get();
+    }
+  }
+}
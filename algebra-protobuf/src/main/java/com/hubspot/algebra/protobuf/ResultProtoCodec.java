@@ -0,0 +1,156 @@
+package com.hubspot.algebra.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import com.hubspot.algebra.Result;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Encodes a Result as a protobuf message with a {@code oneof} of two length-delimited
+ * fields, equivalent to
+ *
+ * <pre>
+ * message Result {
+ *   oneof result {
+ *     T ok = 1;
+ *     E err = 2;
+ *   }
+ * }
+ * </pre>
+ *
+ * The Ok and Err values are written straight to the output stream by their
+ * {@link MessageCodec}s, without being encoded into intermediate byte arrays.
+ */
+public final class ResultProtoCodec<T, E> implements MessageCodec<Result<T, E>> {
+
+  static final int OK_FIELD_NUMBER = 1;
+  static final int ERR_FIELD_NUMBER = 2;
+
+  // Same cap as CodedOutputStream's default, but small Results get small buffers
+  private static final int MAX_BUFFER_SIZE = 4096;
+
+  private final MessageCodec<T> okCodec;
+  private final MessageCodec<E> errCodec;
+
+  private ResultProtoCodec(MessageCodec<T> okCodec, MessageCodec<E> errCodec) {
+    this.okCodec = okCodec;
+    this.errCodec = errCodec;
+  }
+
+  public static <T, E> ResultProtoCodec<T, E> of(
+    MessageCodec<T> okCodec,
+    MessageCodec<E> errCodec
+  ) {
+    return new ResultProtoCodec<>(okCodec, errCodec);
+  }
+
+  @Override
+  public int computeSize(Result<T, E> result) {
+    return result.match(
+      err -> computeFieldSize(ERR_FIELD_NUMBER, errCodec.computeSize(err)),
+      ok -> computeFieldSize(OK_FIELD_NUMBER, okCodec.computeSize(ok))
+    );
+  }
+
+  @Override
+  public void write(Result<T, E> result, CodedOutputStream output) throws IOException {
+    if (result.isOk()) {
+      T ok = result.unwrapOrElseThrow();
+      writeField(OK_FIELD_NUMBER, okCodec, ok, output);
+    } else {
+      E err = result.unwrapErrOrElseThrow();
+      writeField(ERR_FIELD_NUMBER, errCodec, err, output);
+    }
+  }
+
+  @Override
+  public Result<T, E> read(CodedInputStream input) throws IOException {
+    Result<T, E> result = null;
+    while (true) {
+      int tag = input.readTag();
+      if (tag == 0) {
+        break;
+      }
+
+      int fieldNumber = WireFormat.getTagFieldNumber(tag);
+      if (fieldNumber == OK_FIELD_NUMBER) {
+        checkLengthDelimited(tag);
+        result = Result.ok(readField(okCodec, input));
+      } else if (fieldNumber == ERR_FIELD_NUMBER) {
+        checkLengthDelimited(tag);
+        result = Result.err(readField(errCodec, input));
+      } else if (!input.skipField(tag)) {
+        break;
+      }
+    }
+
+    if (result == null) {
+      throw new InvalidProtocolBufferException("Result has neither ok nor err set");
+    }
+    return result;
+  }
+
+  public void writeTo(Result<T, E> result, OutputStream outputStream) throws IOException {
+    int bufferSize = Math.max(1, Math.min(computeSize(result), MAX_BUFFER_SIZE));
+    CodedOutputStream output = CodedOutputStream.newInstance(outputStream, bufferSize);
+    write(result, output);
+    output.flush();
+  }
+
+  public byte[] toByteArray(Result<T, E> result) throws IOException {
+    byte[] bytes = new byte[computeSize(result)];
+    CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+    write(result, output);
+    output.checkNoSpaceLeft();
+    return bytes;
+  }
+
+  public Result<T, E> readFrom(InputStream inputStream) throws IOException {
+    return read(CodedInputStream.newInstance(inputStream));
+  }
+
+  private static int computeFieldSize(int fieldNumber, int valueSize) {
+    return (
+      CodedOutputStream.computeTagSize(fieldNumber) +
+      CodedOutputStream.computeUInt32SizeNoTag(valueSize) +
+      valueSize
+    );
+  }
+
+  private static <V> void writeField(
+    int fieldNumber,
+    MessageCodec<V> codec,
+    V value,
+    CodedOutputStream output
+  ) throws IOException {
+    output.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    output.writeUInt32NoTag(codec.computeSize(value));
+    codec.write(value, output);
+  }
+
+  static <V> V readField(MessageCodec<V> codec, CodedInputStream input)
+    throws IOException {
+    int length = input.readRawVarint32();
+    int oldLimit = input.pushLimit(length);
+    V value = codec.read(input);
+    // Ignore anything a lenient codec left unread, so the next field starts in the
+    // right place
+    input.skipRawBytes(input.getBytesUntilLimit());
+    input.popLimit(oldLimit);
+    return value;
+  }
+
+  private static void checkLengthDelimited(int tag)
+    throws InvalidProtocolBufferException {
+    if (WireFormat.getTagWireType(tag) != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+      throw new InvalidProtocolBufferException(
+        "Expected a length-delimited field but got wire type " +
+        WireFormat.getTagWireType(tag)
+      );
+    }
+  }
+}
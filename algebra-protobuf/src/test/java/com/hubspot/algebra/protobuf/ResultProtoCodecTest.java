@@ -0,0 +1,112 @@
+package com.hubspot.algebra.protobuf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.StringValue;
+import com.hubspot.algebra.NullValue;
+import com.hubspot.algebra.Result;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class ResultProtoCodecTest {
+
+  private static final ResultProtoCodec<StringValue, Int64Value> CODEC =
+    ResultProtoCodec.of(
+      MessageCodecs.forMessage(StringValue.parser()),
+      MessageCodecs.forMessage(Int64Value.parser())
+    );
+
+  private static final Result<StringValue, Int64Value> OK = Result.ok(
+    StringValue.of("test")
+  );
+  private static final Result<StringValue, Int64Value> ERR = Result.err(
+    Int64Value.of(42)
+  );
+
+  @Test
+  public void itRoundTripsOk() throws Exception {
+    assertThat(roundTrip(CODEC, OK)).isEqualTo(OK);
+  }
+
+  @Test
+  public void itRoundTripsErr() throws Exception {
+    assertThat(roundTrip(CODEC, ERR)).isEqualTo(ERR);
+  }
+
+  @Test
+  public void itComputesTheWrittenSize() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    CODEC.writeTo(OK, output);
+    assertThat(output.size()).isEqualTo(CODEC.computeSize(OK));
+  }
+
+  @Test
+  public void itEncodesToByteArrays() throws Exception {
+    byte[] bytes = CODEC.toByteArray(ERR);
+    assertThat(bytes).hasSize(CODEC.computeSize(ERR));
+    assertThat(CODEC.read(CodedInputStream.newInstance(bytes))).isEqualTo(ERR);
+  }
+
+  @Test
+  public void itRoundTripsEmptyBodies() throws Exception {
+    ResultProtoCodec<NullValue, Int64Value> codec = ResultProtoCodec.of(
+      MessageCodecs.nullValue(),
+      MessageCodecs.forMessage(Int64Value.parser())
+    );
+    Result<NullValue, Int64Value> ok = Result.ok(NullValue.get());
+    assertThat(roundTrip(codec, ok)).isEqualTo(ok);
+  }
+
+  @Test
+  public void itRoundTripsNestedResults() throws Exception {
+    ResultProtoCodec<Result<StringValue, Int64Value>, Int64Value> codec =
+      ResultProtoCodec.of(CODEC, MessageCodecs.forMessage(Int64Value.parser()));
+    Result<Result<StringValue, Int64Value>, Int64Value> nested = Result.ok(ERR);
+    assertThat(roundTrip(codec, nested)).isEqualTo(nested);
+  }
+
+  @Test
+  public void itSkipsUnknownFields() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    CODEC.writeTo(OK, output);
+    // field 3, varint 7
+    output.write(new byte[] { 0x18, 0x07 });
+
+    assertThat(CODEC.readFrom(new ByteArrayInputStream(output.toByteArray())))
+      .isEqualTo(OK);
+  }
+
+  @Test
+  public void itRejectsEmptyInput() throws Exception {
+    assertThatThrownBy(() -> CODEC.read(CodedInputStream.newInstance(new byte[0])))
+      .isInstanceOf(InvalidProtocolBufferException.class);
+  }
+
+  @Test
+  public void itRoundTripsDelimitedSequences() throws Exception {
+    DelimitedResultCodec<StringValue, Int64Value> codec = DelimitedResultCodec.of(CODEC);
+    List<Result<StringValue, Int64Value>> results = Arrays.asList(OK, ERR, OK);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    codec.writeAll(results, output);
+
+    assertThat(codec.readAll(new ByteArrayInputStream(output.toByteArray())))
+      .isEqualTo(results);
+  }
+
+  private static <T, E> Result<T, E> roundTrip(
+    ResultProtoCodec<T, E> codec,
+    Result<T, E> result
+  ) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    codec.writeTo(result, output);
+    return codec.readFrom(new ByteArrayInputStream(output.toByteArray()));
+  }
+}
@@ -0,0 +1,133 @@
+package com.hubspot.assertj.algebra.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Preconditions;
+import com.hubspot.assertj.algebra.error.ShouldAllocateAtMost;
+import java.lang.management.ManagementFactory;
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.AbstractLongAssert;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.internal.Failures;
+
+/**
+ * Asserts on the number of bytes the current thread allocates per call of a piece of
+ * code, as reported by {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes}.
+ *
+ * The code is run enough times first for the JIT to compile it, since escape analysis
+ * only removes allocations in compiled code. Each sample then runs it several times, and
+ * the lowest sample is used because garbage collection and TLAB refills only ever add
+ * to the count.
+ */
+public class AllocationAssert extends AbstractAssert<AllocationAssert, ThrowingCallable> {
+
+  private static final int DEFAULT_WARMUP_ITERATIONS = 10_000;
+  private static final int DEFAULT_SAMPLES = 10;
+  private static final int DEFAULT_CALLS_PER_SAMPLE = 100;
+
+  private final Failures failures = Failures.instance();
+
+  private int warmupIterations = DEFAULT_WARMUP_ITERATIONS;
+  private int samples = DEFAULT_SAMPLES;
+  private int callsPerSample = DEFAULT_CALLS_PER_SAMPLE;
+
+  AllocationAssert(final ThrowingCallable actual) {
+    super(actual, AllocationAssert.class);
+  }
+
+  public AllocationAssert withWarmupIterations(int warmupIterations) {
+    Preconditions.checkArgument(warmupIterations >= 0, "warmupIterations must be >= 0");
+    this.warmupIterations = warmupIterations;
+    return this;
+  }
+
+  public AllocationAssert withSamples(int samples) {
+    Preconditions.checkArgument(samples > 0, "samples must be positive");
+    this.samples = samples;
+    return this;
+  }
+
+  public AllocationAssert withCallsPerSample(int callsPerSample) {
+    Preconditions.checkArgument(callsPerSample > 0, "callsPerSample must be positive");
+    this.callsPerSample = callsPerSample;
+    return this;
+  }
+
+  public AllocationAssert isAtMost(long maxBytesPerCall) {
+    long allocatedBytes = measureBytesPerCall();
+    if (allocatedBytes > maxBytesPerCall) {
+      throw failures.failure(
+        info,
+        ShouldAllocateAtMost.shouldAllocateAtMost(
+          maxBytesPerCall,
+          allocatedBytes,
+          samples
+        )
+      );
+    }
+    return this;
+  }
+
+  public AllocationAssert isZero() {
+    return isAtMost(0);
+  }
+
+  public AbstractLongAssert<?> allocatedBytesPerCall() {
+    return assertThat(measureBytesPerCall());
+  }
+
+  private long measureBytesPerCall() {
+    isNotNull();
+    com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+
+    run(warmupIterations);
+
+    // Reading the counter can allocate itself, so measure that and subtract it
+    long overhead = Long.MAX_VALUE;
+    for (int i = 0; i < samples; i++) {
+      long before = threadMXBean.getThreadAllocatedBytes(threadId);
+      long after = threadMXBean.getThreadAllocatedBytes(threadId);
+      overhead = Math.min(overhead, after - before);
+    }
+
+    long lowest = Long.MAX_VALUE;
+    for (int i = 0; i < samples; i++) {
+      long before = threadMXBean.getThreadAllocatedBytes(threadId);
+      run(callsPerSample);
+      long after = threadMXBean.getThreadAllocatedBytes(threadId);
+      lowest = Math.min(lowest, Math.max(0, after - before - overhead));
+    }
+
+    return (lowest + callsPerSample - 1) / callsPerSample;
+  }
+
+  private void run(int calls) {
+    try {
+      for (int i = 0; i < calls; i++) {
+        actual.call();
+      }
+    } catch (Throwable t) {
+      throw new AssertionError("Expecting code not to throw but it threw " + t, t);
+    }
+  }
+
+  private static com.sun.management.ThreadMXBean getThreadMXBean() {
+    java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    if (
+      !(threadMXBean instanceof com.sun.management.ThreadMXBean) ||
+      !((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()
+    ) {
+      throw new IllegalStateException(
+        "This JVM does not support measuring per-thread allocations"
+      );
+    }
+
+    com.sun.management.ThreadMXBean sunThreadMXBean =
+      (com.sun.management.ThreadMXBean) threadMXBean;
+    if (!sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+      sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+    return sunThreadMXBean;
+  }
+}
@@ -1,6 +1,7 @@
 package com.hubspot.assertj.algebra.api;
 
 import com.hubspot.algebra.Result;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 
 public class Assertions {
 
@@ -11,4 +12,18 @@ public class Assertions {
   public static <T, E> ResultAssert<T, E> assertThat(final Result<T, E> actual) {
     return new ResultAssert<>(actual);
   }
+
+  public static <T, E> ResultIterableAssert<T, E> assertThatResults(
+    final Iterable<? extends Result<T, E>> actual
+  ) {
+    return new ResultIterableAssert<>(actual);
+  }
+
+  /**
+   * Asserts on the bytes allocated per call of {@code code}, for example
+   * {@code assertThatAllocations(() -> result.mapOk(f)).isZero()}.
+   */
+  public static AllocationAssert assertThatAllocations(final ThrowingCallable code) {
+    return new AllocationAssert(code);
+  }
 }
@@ -0,0 +1,157 @@
+package com.hubspot.assertj.algebra.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Preconditions;
+import com.hubspot.algebra.Result;
+import com.hubspot.assertj.algebra.error.ResultsSample;
+import com.hubspot.assertj.algebra.error.ResultsShouldBeOk;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.MapAssert;
+import org.assertj.core.internal.Failures;
+
+/**
+ * Assertions over many Results at once. Each assertion makes a single pass over the
+ * Results, and failure messages list only the first {@value ResultsSample#MAX_SIZE}
+ * offending elements with their indices, plus a count of the rest.
+ */
+public class ResultIterableAssert<T, E>
+  extends AbstractAssert<ResultIterableAssert<T, E>, Iterable<? extends Result<T, E>>> {
+
+  private final Failures failures = Failures.instance();
+
+  ResultIterableAssert(final Iterable<? extends Result<T, E>> actual) {
+    super(actual, ResultIterableAssert.class);
+  }
+
+  /**
+   * Every element is a non-null Ok.
+   */
+  public ResultIterableAssert<T, E> allOk() {
+    isNotNull();
+    ResultsSample offending = new ResultsSample();
+    long index = 0;
+    for (Result<T, E> result : actual) {
+      if (result == null || result.isErr()) {
+        offending.add(index, result);
+      }
+      index++;
+    }
+
+    if (!offending.isEmpty()) {
+      throw failures.failure(info, ResultsShouldBeOk.shouldAllBeOk(index, offending));
+    }
+    return this;
+  }
+
+  /**
+   * No element is an Err. Unlike {@link #allOk()}, null elements are allowed.
+   */
+  public ResultIterableAssert<T, E> noneErr() {
+    isNotNull();
+    ResultsSample errs = new ResultsSample();
+    long index = 0;
+    for (Result<T, E> result : actual) {
+      if (result != null && result.isErr()) {
+        errs.add(index, result);
+      }
+      index++;
+    }
+
+    if (!errs.isEmpty()) {
+      throw failures.failure(info, ResultsShouldBeOk.shouldHaveNoErr(index, errs));
+    }
+    return this;
+  }
+
+  /**
+   * Exactly {@code expected} elements are Errs. Stops scanning as soon as there are more.
+   */
+  public ResultIterableAssert<T, E> errCountIs(long expected) {
+    Preconditions.checkArgument(expected >= 0, "expected must be >= 0");
+    isNotNull();
+    long errCount = 0;
+    for (Result<T, E> result : actual) {
+      if (result != null && result.isErr()) {
+        errCount++;
+        if (errCount > expected) {
+          throw failures.failure(
+            info,
+            ResultsShouldBeOk.shouldHaveErrCount(expected, errCount, true)
+          );
+        }
+      }
+    }
+
+    if (errCount != expected) {
+      throw failures.failure(
+        info,
+        ResultsShouldBeOk.shouldHaveErrCount(expected, errCount, false)
+      );
+    }
+    return this;
+  }
+
+  /**
+   * Every Ok value passes {@code requirements}, which should throw an
+   * {@link AssertionError} otherwise. Errs and nulls are skipped.
+   */
+  public ResultIterableAssert<T, E> okValuesSatisfy(Consumer<? super T> requirements) {
+    Preconditions.checkNotNull(requirements, "requirements");
+    isNotNull();
+    ResultsSample failing = new ResultsSample();
+    long okCount = 0;
+    long index = 0;
+    for (Result<T, E> result : actual) {
+      if (result != null && result.isOk()) {
+        okCount++;
+        try {
+          requirements.accept(result.unwrapOrElseThrow());
+        } catch (AssertionError e) {
+          failing.add(index, result, firstLine(e.getMessage()));
+        }
+      }
+      index++;
+    }
+
+    if (!failing.isEmpty()) {
+      throw failures.failure(
+        info,
+        ResultsShouldBeOk.shouldHaveOkValuesSatisfying(okCount, failing)
+      );
+    }
+    return this;
+  }
+
+  /**
+   * Counts the Err values by {@code classifier}, for assertions such as
+   * {@code errorsGroupedBy(LookupError::getType).containsEntry(NOT_FOUND, 3L)}.
+   */
+  public <K> MapAssert<K, Long> errorsGroupedBy(
+    Function<? super E, ? extends K> classifier
+  ) {
+    Preconditions.checkNotNull(classifier, "classifier");
+    isNotNull();
+    Map<K, Long> counts = new LinkedHashMap<>();
+    for (Result<T, E> result : actual) {
+      if (result != null && result.isErr()) {
+        counts.merge(classifier.apply(result.unwrapErrOrElseThrow()), 1L, Long::sum);
+      }
+    }
+    return assertThat(counts);
+  }
+
+  private static String firstLine(String message) {
+    if (message == null) {
+      return null;
+    }
+
+    String trimmed = message.trim();
+    int newline = trimmed.indexOf('\n');
+    return newline < 0 ? trimmed : trimmed.substring(0, newline);
+  }
+}
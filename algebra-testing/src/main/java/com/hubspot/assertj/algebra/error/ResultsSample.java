@@ -0,0 +1,49 @@
+package com.hubspot.assertj.algebra.error;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the first few offending elements of a collection of Results, so failure
+ * messages stay readable no matter how large the collection is.
+ */
+public class ResultsSample {
+
+  public static final int MAX_SIZE = 10;
+
+  private final List<String> entries = new ArrayList<>(MAX_SIZE);
+  private long count;
+
+  public void add(long index, Object element) {
+    add(index, element, null);
+  }
+
+  public void add(long index, Object element, String detail) {
+    count++;
+    if (entries.size() < MAX_SIZE) {
+      entries.add(
+        "  [" + index + "] " + element + (detail == null ? "" : ": " + detail)
+      );
+    }
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public boolean isEmpty() {
+    return count == 0;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    for (String entry : entries) {
+      builder.append('\n').append(entry);
+    }
+    if (count > entries.size()) {
+      builder.append("\n  ... and ").append(count - entries.size()).append(" more");
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,77 @@
+package com.hubspot.assertj.algebra.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+public class ResultsShouldBeOk extends BasicErrorMessageFactory {
+
+  private ResultsShouldBeOk(String message) {
+    // Pre-formatted so that the sample is not quoted
+    super("%s", new UnquotedMessage(message));
+  }
+
+  public static ErrorMessageFactory shouldAllBeOk(long size, ResultsSample offending) {
+    return new ResultsShouldBeOk(
+      String.format(
+        "Expecting all %d Results to be Ok but %d were Err or null:%s",
+        size,
+        offending.getCount(),
+        offending
+      )
+    );
+  }
+
+  public static ErrorMessageFactory shouldHaveNoErr(long size, ResultsSample errs) {
+    return new ResultsShouldBeOk(
+      String.format(
+        "Expecting none of %d Results to be Err but %d were:%s",
+        size,
+        errs.getCount(),
+        errs
+      )
+    );
+  }
+
+  public static ErrorMessageFactory shouldHaveErrCount(
+    long expected,
+    long actual,
+    boolean stoppedEarly
+  ) {
+    return new ResultsShouldBeOk(
+      String.format(
+        "Expecting %d Err Results but found %s%d",
+        expected,
+        stoppedEarly ? "at least " : "",
+        actual
+      )
+    );
+  }
+
+  public static ErrorMessageFactory shouldHaveOkValuesSatisfying(
+    long okCount,
+    ResultsSample failing
+  ) {
+    return new ResultsShouldBeOk(
+      String.format(
+        "Expecting all %d Ok values to satisfy the requirements but %d did not:%s",
+        okCount,
+        failing.getCount(),
+        failing
+      )
+    );
+  }
+
+  private static final class UnquotedMessage {
+
+    private final String message;
+
+    private UnquotedMessage(String message) {
+      this.message = message;
+    }
+
+    @Override
+    public String toString() {
+      return message;
+    }
+  }
+}
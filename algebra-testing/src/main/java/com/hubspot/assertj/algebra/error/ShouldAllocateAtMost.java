@@ -0,0 +1,27 @@
+package com.hubspot.assertj.algebra.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+public class ShouldAllocateAtMost extends BasicErrorMessageFactory {
+
+  private ShouldAllocateAtMost(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  public static ErrorMessageFactory shouldAllocateAtMost(
+    long maxBytes,
+    long actualBytes,
+    int samples
+  ) {
+    // Formatted here so the byte counts are not rendered as long literals
+    return new ShouldAllocateAtMost(
+      String.format(
+        "Expecting code to allocate at most %d bytes per call but allocated %d bytes (lowest of %d samples)",
+        maxBytes,
+        actualBytes,
+        samples
+      )
+    );
+  }
+}
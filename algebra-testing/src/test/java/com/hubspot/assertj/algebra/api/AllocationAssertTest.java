@@ -0,0 +1,39 @@
+package com.hubspot.assertj.algebra.api;
+
+import static com.hubspot.assertj.algebra.api.Assertions.assertThatAllocations;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.hubspot.algebra.Result;
+import org.junit.Test;
+
+public class AllocationAssertTest {
+
+  private static final Result<String, Integer> ERR = Result.err(1);
+
+  private static volatile Object sink;
+
+  @Test
+  public void itPassesWhenCodeDoesNotAllocate() throws Exception {
+    assertThatAllocations(() -> sink = ERR.mapOk(String::length)).isZero();
+  }
+
+  @Test
+  public void itMeasuresAllocatedBytes() throws Exception {
+    assertThatAllocations(() -> sink = new byte[1024])
+      .allocatedBytesPerCall()
+      .isGreaterThanOrEqualTo(1024);
+  }
+
+  @Test
+  public void itFailsWhenCodeAllocatesTooMuch() throws Exception {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() ->
+        assertThatAllocations(() -> sink = new byte[1024])
+          .withWarmupIterations(100)
+          .isAtMost(64)
+      )
+      .withMessageStartingWith(
+        "Expecting code to allocate at most 64 bytes per call but allocated "
+      );
+  }
+}
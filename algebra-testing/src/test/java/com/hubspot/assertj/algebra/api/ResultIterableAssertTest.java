@@ -0,0 +1,112 @@
+package com.hubspot.assertj.algebra.api;
+
+import static com.hubspot.assertj.algebra.api.Assertions.assertThatResults;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.hubspot.algebra.Result;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Test;
+
+public class ResultIterableAssertTest {
+
+  private static final List<Result<Integer, String>> ALL_OK = Arrays.asList(
+    Result.ok(1),
+    Result.ok(2),
+    Result.ok(3)
+  );
+
+  private static final List<Result<Integer, String>> MIXED = Arrays.asList(
+    Result.ok(1),
+    Result.err("missing"),
+    Result.ok(3),
+    Result.err("missing"),
+    Result.err("invalid")
+  );
+
+  @Test
+  public void itPassesWhenAllResultsAreOk() throws Exception {
+    assertThatResults(ALL_OK).allOk().noneErr().errCountIs(0);
+  }
+
+  @Test
+  public void itFailsWithIndicesOfErrs() throws Exception {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertThatResults(MIXED).allOk())
+      .withMessage(
+        "Expecting all 5 Results to be Ok but 3 were Err or null:\n" +
+        "  [1] Err[missing]\n" +
+        "  [3] Err[missing]\n" +
+        "  [4] Err[invalid]"
+      );
+  }
+
+  @Test
+  public void itBoundsFailureMessages() throws Exception {
+    List<Result<Integer, String>> results = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      results.add(Result.err("err" + i));
+    }
+
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertThatResults(results).noneErr())
+      .withMessageStartingWith(
+        "Expecting none of 100000 Results to be Err but 100000 were:"
+      )
+      .withMessageContaining("  [9] Err[err9]")
+      .withMessageNotContaining("[10]")
+      .withMessageEndingWith("... and 99990 more");
+  }
+
+  @Test
+  public void itCountsErrs() throws Exception {
+    assertThatResults(MIXED).errCountIs(3);
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertThatResults(MIXED).errCountIs(4))
+      .withMessage("Expecting 4 Err Results but found 3");
+  }
+
+  @Test
+  public void itStopsCountingOnceThereAreTooManyErrs() throws Exception {
+    Iterable<Result<Integer, String>> endless = () ->
+      new Iterator<Result<Integer, String>>() {
+        @Override
+        public boolean hasNext() {
+          return true;
+        }
+
+        @Override
+        public Result<Integer, String> next() {
+          return Result.err("err");
+        }
+      };
+
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertThatResults(endless).errCountIs(2))
+      .withMessage("Expecting 2 Err Results but found at least 3");
+  }
+
+  @Test
+  public void itChecksOkValues() throws Exception {
+    assertThatResults(MIXED).okValuesSatisfy(ok -> assertThat(ok).isOdd());
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() ->
+        assertThatResults(ALL_OK).okValuesSatisfy(ok -> assertThat(ok).isLessThan(3))
+      )
+      .withMessageStartingWith(
+        "Expecting all 3 Ok values to satisfy the requirements but 1 did not:\n  [2] Ok[3]: "
+      );
+  }
+
+  @Test
+  public void itGroupsErrors() throws Exception {
+    assertThatResults(MIXED)
+      .errorsGroupedBy(err -> err)
+      .containsEntry("missing", 2L)
+      .containsEntry("invalid", 1L)
+      .hasSize(2);
+  }
+}
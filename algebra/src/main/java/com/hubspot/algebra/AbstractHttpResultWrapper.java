@@ -5,6 +5,10 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.google.common.base.Preconditions;
 import com.hubspot.immutables.style.HubSpotStyle;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
 import java.util.Optional;
 import org.immutables.value.Value.Check;
 import org.immutables.value.Value.Default;
@@ -13,7 +17,9 @@ import org.immutables.value.Value.Immutable;
 @Immutable
 @HubSpotStyle
 @JsonNaming(PropertyNamingStrategy.class)
-public abstract class AbstractHttpResultWrapper<T, E> {
+public abstract class AbstractHttpResultWrapper<T, E> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   public static <T, E> HttpResultWrapper<T, E> ok(T ok) {
     return HttpResultWrapper.<T, E>builder().setOkResultMaybe(ok).build();
@@ -49,6 +55,31 @@ public abstract class AbstractHttpResultWrapper<T, E> {
     return 200;
   }
 
+  /**
+   * Serialized as a {@link SerializedResult} instead of the two {@link Optional}s.
+   */
+  final Object writeReplace() throws ObjectStreamException {
+    if (getOkResultMaybe().isPresent()) {
+      return new SerializedResult(
+        SerializedResult.HTTP_OK,
+        getOkResultMaybe().get(),
+        getHttpStatusCode()
+      );
+    }
+
+    return new SerializedResult(
+      SerializedResult.HTTP_ERR,
+      getErrResultMaybe().get(),
+      getHttpStatusCode()
+    );
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException(
+      "HTTP result wrappers can only be deserialized through a proxy"
+    );
+  }
+
   @Check
   void checkIsOkOrErr() {
     Preconditions.checkState(
@@ -0,0 +1,129 @@
+package com.hubspot.algebra;
+
+import com.hubspot.algebra.function.CheckedRunnable;
+import com.hubspot.algebra.function.CheckedSupplier;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Runs throwing code and captures exceptions as Errs, mapping them to error values by
+ * exception type. Mappings are tried in the order they were added, like catch blocks,
+ * and the chosen mapping is cached per exception class.
+ *
+ * <pre>
+ * Attempt&lt;LookupError&gt; attempt = Attempt.&lt;LookupError&gt;builder()
+ *   .map(FileNotFoundException.class, e -&gt; LookupError.NOT_FOUND)
+ *   .map(IOException.class, e -&gt; LookupError.UNAVAILABLE)
+ *   .orElse(e -&gt; LookupError.UNKNOWN)
+ *   .build();
+ *
+ * Result&lt;Config, LookupError&gt; config = attempt.get(() -&gt; loadConfig(path));
+ * </pre>
+ */
+public final class Attempt<E> {
+
+  private static final Attempt<ExceptionHttpError> HTTP = Attempt
+    .<ExceptionHttpError>builder()
+    .orElse(ExceptionHttpError::classify)
+    .build();
+
+  private final Map<Class<? extends Exception>, Function<Exception, ? extends E>> mappers;
+  private final Function<Exception, ? extends E> fallback;
+  private final ClassValue<Function<Exception, ? extends E>> resolvedMappers =
+    new ClassValue<Function<Exception, ? extends E>>() {
+      @Override
+      protected Function<Exception, ? extends E> computeValue(Class<?> type) {
+        for (
+          Map.Entry<Class<? extends Exception>, Function<Exception, ? extends E>> entry : mappers.entrySet()
+        ) {
+          if (entry.getKey().isAssignableFrom(type)) {
+            return entry.getValue();
+          }
+        }
+        return fallback;
+      }
+    };
+
+  private Attempt(
+    Map<Class<? extends Exception>, Function<Exception, ? extends E>> mappers,
+    Function<Exception, ? extends E> fallback
+  ) {
+    this.mappers = mappers;
+    this.fallback = fallback;
+  }
+
+  public static <E> Builder<E> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * Captures every exception as an {@link ExceptionHttpError}, with a status code picked
+   * from the exception type.
+   */
+  public static Attempt<ExceptionHttpError> http() {
+    return HTTP;
+  }
+
+  public <T> Result<T, E> get(CheckedSupplier<? extends T, ?> supplier) {
+    try {
+      return Result.ok(supplier.get());
+    } catch (Exception e) {
+      return Result.err(errorFor(e));
+    }
+  }
+
+  public Result<NullValue, E> run(CheckedRunnable<?> runnable) {
+    try {
+      runnable.run();
+      return Result.nullOk();
+    } catch (Exception e) {
+      return Result.err(errorFor(e));
+    }
+  }
+
+  E errorFor(Exception exception) {
+    if (exception instanceof InterruptedException) {
+      Thread.currentThread().interrupt();
+    }
+    return resolvedMappers.get(exception.getClass()).apply(exception);
+  }
+
+  public static class Builder<E> {
+
+    private final Map<Class<? extends Exception>, Function<Exception, ? extends E>> mappers =
+      new LinkedHashMap<>();
+    private Function<Exception, ? extends E> fallback = Builder::rethrow;
+
+    private Builder() {}
+
+    @SuppressWarnings("unchecked")
+    public <X extends Exception> Builder<E> map(
+      Class<X> exceptionType,
+      Function<? super X, ? extends E> mapper
+    ) {
+      mappers.putIfAbsent(exceptionType, e -> mapper.apply((X) e));
+      return this;
+    }
+
+    /**
+     * Maps exceptions that no other mapping matched. Without a fallback, unmatched
+     * exceptions are rethrown, wrapped in an {@link IllegalStateException} if checked.
+     */
+    public Builder<E> orElse(Function<? super Exception, ? extends E> fallback) {
+      this.fallback = fallback::apply;
+      return this;
+    }
+
+    public Attempt<E> build() {
+      return new Attempt<>(new LinkedHashMap<>(mappers), fallback);
+    }
+
+    private static <E> E rethrow(Exception exception) {
+      if (exception instanceof RuntimeException) {
+        throw (RuntimeException) exception;
+      }
+      throw new IllegalStateException(exception);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.hubspot.algebra;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * An {@link HttpError} classified from a captured exception.
+ */
+public final class ExceptionHttpError implements HttpError {
+
+  private final Exception exception;
+  private final int statusCode;
+
+  private ExceptionHttpError(Exception exception, int statusCode) {
+    this.exception = exception;
+    this.statusCode = statusCode;
+  }
+
+  public static ExceptionHttpError of(Exception exception, int statusCode) {
+    return new ExceptionHttpError(exception, statusCode);
+  }
+
+  public static ExceptionHttpError classify(Exception exception) {
+    return new ExceptionHttpError(exception, statusCodeFor(exception));
+  }
+
+  static int statusCodeFor(Exception exception) {
+    if (exception instanceof HttpError) {
+      return ((HttpError) exception).getStatusCode();
+    } else if (exception instanceof IllegalArgumentException) {
+      return 400;
+    } else if (exception instanceof SecurityException) {
+      return 403;
+    } else if (exception instanceof NoSuchElementException) {
+      return 404;
+    } else if (exception instanceof UnsupportedOperationException) {
+      return 501;
+    } else if (exception instanceof TimeoutException) {
+      return 504;
+    }
+
+    return 500;
+  }
+
+  public Exception getException() {
+    return exception;
+  }
+
+  @Override
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (!(obj instanceof ExceptionHttpError)) {
+      return false;
+    }
+    ExceptionHttpError that = (ExceptionHttpError) obj;
+    return statusCode == that.statusCode && exception.equals(that.exception);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(exception, statusCode);
+  }
+
+  @Override
+  public String toString() {
+    return "ExceptionHttpError[" + statusCode + ", " + exception + "]";
+  }
+}
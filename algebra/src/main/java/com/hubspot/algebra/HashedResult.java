@@ -0,0 +1,52 @@
+package com.hubspot.algebra;
+
+/**
+ * A Result with its hash code computed once, for use as a key in large hash maps and
+ * sets. Equality is the same as the wrapped Results', but compares the cached hash codes
+ * first and the Ok or Err values directly, without going through {@link Result#match}.
+ */
+public final class HashedResult<T, E> {
+
+  private final Result<T, E> result;
+  private final boolean ok;
+  private final Object value;
+  private final int hash;
+
+  private HashedResult(Result<T, E> result) {
+    this.result = result;
+    this.ok = result.isOk();
+    this.value = ok ? result.unwrapOrElseThrow() : result.unwrapErrOrElseThrow();
+    this.hash = result.hashCode();
+  }
+
+  public static <T, E> HashedResult<T, E> of(Result<T, E> result) {
+    return new HashedResult<>(result);
+  }
+
+  public Result<T, E> getResult() {
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof HashedResult)) {
+      return false;
+    }
+
+    HashedResult<?, ?> other = (HashedResult<?, ?>) obj;
+    return hash == other.hash && ok == other.ok && value.equals(other.value);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return result.toString();
+  }
+}
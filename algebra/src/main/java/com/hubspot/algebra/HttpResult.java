@@ -0,0 +1,94 @@
+package com.hubspot.algebra;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Lightweight alternative to {@link HttpResultWrapper} that holds the {@link Result}
+ * directly next to the status code, so wrapping and unwrapping allocate nothing.
+ *
+ * Serializes to the same JSON shape as {@link HttpResultWrapper}.
+ */
+public final class HttpResult<T, E> {
+
+  private static final int OK_STATUS_CODE = 200;
+
+  private final Result<T, E> result;
+  private final int httpStatusCode;
+
+  private HttpResult(Result<T, E> result, int httpStatusCode) {
+    this.result = Objects.requireNonNull(result, "result");
+    this.httpStatusCode = httpStatusCode;
+  }
+
+  public static <T, E> HttpResult<T, E> ok(T ok) {
+    return new HttpResult<>(Result.ok(ok), OK_STATUS_CODE);
+  }
+
+  public static <T, E> HttpResult<T, E> err(E err, int statusCode) {
+    return new HttpResult<>(Result.err(err), statusCode);
+  }
+
+  public static <T, E extends HttpError> HttpResult<T, E> err(E err) {
+    return err(err, err.getStatusCode());
+  }
+
+  public static <T, E> HttpResult<T, E> of(Result<T, E> result, int statusCode) {
+    return new HttpResult<>(result, statusCode);
+  }
+
+  public static <T, E> HttpResult<T, E> fromWrapper(
+    AbstractHttpResultWrapper<T, E> wrapper
+  ) {
+    return new HttpResult<>(wrapper.unwrap(), wrapper.getHttpStatusCode());
+  }
+
+  public Result<T, E> unwrap() {
+    return result;
+  }
+
+  public int getHttpStatusCode() {
+    return httpStatusCode;
+  }
+
+  public Optional<T> getOkResultMaybe() {
+    return result.isOk() ? Optional.of(result.unwrapOrElseThrow()) : Optional.empty();
+  }
+
+  public Optional<E> getErrResultMaybe() {
+    return result.isErr() ? Optional.of(result.unwrapErrOrElseThrow()) : Optional.empty();
+  }
+
+  public HttpResultWrapper<T, E> toWrapper() {
+    if (result.isOk()) {
+      return HttpResultWrapper
+        .<T, E>builder()
+        .setOkResultMaybe(result.unwrapOrElseThrow())
+        .setHttpStatusCode(httpStatusCode)
+        .build();
+    }
+
+    return AbstractHttpResultWrapper.err(result.unwrapErrOrElseThrow(), httpStatusCode);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (!(obj instanceof HttpResult)) {
+      return false;
+    }
+    HttpResult<?, ?> that = (HttpResult<?, ?>) obj;
+    return httpStatusCode == that.httpStatusCode && result.equals(that.result);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * result.hashCode() + httpStatusCode;
+  }
+
+  @Override
+  public String toString() {
+    return "HttpResult[" + httpStatusCode + ", " + result + "]";
+  }
+}
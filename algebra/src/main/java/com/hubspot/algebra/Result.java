@@ -1,5 +1,21 @@
 package com.hubspot.algebra;
 
+import com.hubspot.algebra.function.CheckedRunnable;
+import com.hubspot.algebra.function.CheckedSupplier;
+import com.hubspot.algebra.function.Function3;
+import com.hubspot.algebra.function.Function4;
+import com.hubspot.algebra.function.Function5;
+import com.hubspot.algebra.function.Function6;
+import com.hubspot.algebra.function.Function7;
+import com.hubspot.algebra.function.Function8;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -8,7 +24,24 @@ import org.derive4j.Derive;
 import org.derive4j.Visibility;
 
 @Data(@Derive(withVisibility = Visibility.Package))
-public abstract class Result<SUCCESS_TYPE, ERROR_TYPE> {
+public abstract class Result<SUCCESS_TYPE, ERROR_TYPE> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The case of a Result, for callers that would rather {@code switch} than pass lambdas
+   * to {@link #match(Function, Function)}.
+   */
+  public enum Case {
+    OK,
+    ERR,
+  }
+
+  private static final Object NONE = new Object();
+  private static final Function<Object, Case> TO_OK_CASE = ok -> Case.OK;
+  private static final Function<Object, Case> TO_ERR_CASE = err -> Case.ERR;
+  private static final Function<Object, Object> TO_VALUE = value -> value;
+  private static final Function<Object, Object> TO_NONE = value -> NONE;
 
   public static <SUCCESS_TYPE, E> Result<SUCCESS_TYPE, E> ok(SUCCESS_TYPE success) {
     return Results.ok(success);
@@ -26,22 +59,528 @@ public abstract class Result<SUCCESS_TYPE, ERROR_TYPE> {
     return Results.err(NullValue.get());
   }
 
+  /**
+   * Runs the supplier, capturing any exception it throws as an Err. Use {@link Attempt}
+   * to map exceptions to error values instead.
+   */
+  public static <SUCCESS_TYPE> Result<SUCCESS_TYPE, Exception> attempt(
+    CheckedSupplier<? extends SUCCESS_TYPE, ?> supplier
+  ) {
+    try {
+      return ok(supplier.get());
+    } catch (Exception e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      return err(e);
+    }
+  }
+
+  public static Result<NullValue, Exception> attemptRun(CheckedRunnable<?> runnable) {
+    return attempt(() -> {
+      runnable.run();
+      return NullValue.get();
+    });
+  }
+
+  /**
+   * Pairs the Ok values of two Results, or returns the first Err.
+   */
+  public static <T1, T2, E> Result<Map.Entry<T1, T2>, E> zip(
+    Result<T1, E> r1,
+    Result<T2, E> r2
+  ) {
+    return map2(r1, r2, SimpleImmutableEntry::new);
+  }
+
+  /**
+   * Combines the Ok values of 2 independent Results with a single call to {@code mapper},
+   * or returns the first Err without invoking it.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, R, E> Result<R, E> map2(
+    Result<T1, E> r1,
+    Result<T2, E> r2,
+    BiFunction<? super T1, ? super T2, ? extends R> mapper
+  ) {
+    Object t1 = r1.okOrNone();
+    if (t1 == NONE) {
+      return r1.withOkType();
+    }
+    Object t2 = r2.okOrNone();
+    if (t2 == NONE) {
+      return r2.withOkType();
+    }
+    return ok(mapper.apply((T1) t1, (T2) t2));
+  }
+
+  /**
+   * Like {@link #map2(Result, Result, BiFunction)}, but when several Results are Errs
+   * their errors are combined in argument order with {@code errMerger} instead of keeping
+   * only the first one.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, R, E> Result<R, E> map2(
+    Result<T1, E> r1,
+    Result<T2, E> r2,
+    BiFunction<? super T1, ? super T2, ? extends R> mapper,
+    BinaryOperator<E> errMerger
+  ) {
+    Object t1 = r1.okOrNone();
+    Object t2 = r2.okOrNone();
+    if (t1 == NONE || t2 == NONE) {
+      Object err = NONE;
+      err = mergeErr(err, t1, r1, errMerger);
+      err = mergeErr(err, t2, r2, errMerger);
+      return err((E) err);
+    }
+    return ok(mapper.apply((T1) t1, (T2) t2));
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, R, E> Result<R, E> map3(
+    Result<T1, E> r1,
+    Result<T2, E> r2,
+    Result<T3, E> r3,
+    Function3<? super T1, ? super T2, ? super T3, ? extends R> mapper
+  ) {
+    Object t1 = r1.okOrNone();
+    if (t1 == NONE) {
+      return r1.withOkType();
+    }
+    Object t2 = r2.okOrNone();
+    if (t2 == NONE) {
+      return r2.withOkType();
+    }
+    Object t3 = r3.okOrNone();
+    if (t3 == NONE) {
+      return r3.withOkType();
+    }
+    return ok(mapper.apply((T1) t1, (T2) t2, (T3) t3));
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, R, E> Result<R, E> map3(
+    Result<T1, E> r1,
+    Result<T2, E> r2,
+    Result<T3, E> r3,
+    Function3<? super T1, ? super T2, ? super T3, ? extends R> mapper,
+    BinaryOperator<E> errMerger
+  ) {
+    Object t1 = r1.okOrNone();
+    Object t2 = r2.okOrNone();
+    Object t3 = r3.okOrNone();
+    if (t1 == NONE || t2 == NONE || t3 == NONE) {
+      Object err = NONE;
+      err = mergeErr(err, t1, r1, errMerger);
+      err = mergeErr(err, t2, r2, errMerger);
+      err = mergeErr(err, t3, r3, errMerger);
+      return err((E) err);
+    }
+    return ok(mapper.apply((T1) t1, (T2) t2, (T3) t3));
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, R, E> Result<R, E> map4(
+    Result<T1, E> r1,
+    Result<T2, E> r2,
+    Result<T3, E> r3,
+    Result<T4, E> r4,
+    Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> mapper
+  ) {
+    Object t1 = r1.okOrNone();
+    if (t1 == NONE) {
+      return r1.withOkType();
+    }
+    Object t2 = r2.okOrNone();
+    if (t2 == NONE) {
+      return r2.withOkType();
+    }
+    Object t3 = r3.okOrNone();
+    if (t3 == NONE) {
+      return r3.withOkType();
+    }
+    Object t4 = r4.okOrNone();
+    if (t4 == NONE) {
+      return r4.withOkType();
+    }
+    return ok(mapper.apply((T1) t1, (T2) t2, (T3) t3, (T4) t4));
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, R, E> Result<R, E> map4(
+    Result<T1, E> r1,
+    Result<T2, E> r2,
+    Result<T3, E> r3,
+    Result<T4, E> r4,
+    Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> mapper,
+    BinaryOperator<E> errMerger
+  ) {
+    Object t1 = r1.okOrNone();
+    Object t2 = r2.okOrNone();
+    Object t3 = r3.okOrNone();
+    Object t4 = r4.okOrNone();
+    if (t1 == NONE || t2 == NONE || t3 == NONE || t4 == NONE) {
+      Object err = NONE;
+      err = mergeErr(err, t1, r1, errMerger);
+      err = mergeErr(err, t2, r2, errMerger);
+      err = mergeErr(err, t3, r3, errMerger);
+      err = mergeErr(err, t4, r4, errMerger);
+      return err((E) err);
+    }
+    return ok(mapper.apply((T1) t1, (T2) t2, (T3) t3, (T4) t4));
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, T5, R, E> Result<R, E> map5(
+    Result<T1, E> r1,
+    Result<T2, E> r2,
+    Result<T3, E> r3,
+    Result<T4, E> r4,
+    Result<T5, E> r5,
+    Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> mapper
+  ) {
+    Object t1 = r1.okOrNone();
+    if (t1 == NONE) {
+      return r1.withOkType();
+    }
+    Object t2 = r2.okOrNone();
+    if (t2 == NONE) {
+      return r2.withOkType();
+    }
+    Object t3 = r3.okOrNone();
+    if (t3 == NONE) {
+      return r3.withOkType();
+    }
+    Object t4 = r4.okOrNone();
+    if (t4 == NONE) {
+      return r4.withOkType();
+    }
+    Object t5 = r5.okOrNone();
+    if (t5 == NONE) {
+      return r5.withOkType();
+    }
+    return ok(mapper.apply((T1) t1, (T2) t2, (T3) t3, (T4) t4, (T5) t5));
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, T5, R, E> Result<R, E> map5(
+    Result<T1, E> r1,
+    Result<T2, E> r2,
+    Result<T3, E> r3,
+    Result<T4, E> r4,
+    Result<T5, E> r5,
+    Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> mapper,
+    BinaryOperator<E> errMerger
+  ) {
+    Object t1 = r1.okOrNone();
+    Object t2 = r2.okOrNone();
+    Object t3 = r3.okOrNone();
+    Object t4 = r4.okOrNone();
+    Object t5 = r5.okOrNone();
+    if (t1 == NONE || t2 == NONE || t3 == NONE || t4 == NONE || t5 == NONE) {
+      Object err = NONE;
+      err = mergeErr(err, t1, r1, errMerger);
+      err = mergeErr(err, t2, r2, errMerger);
+      err = mergeErr(err, t3, r3, errMerger);
+      err = mergeErr(err, t4, r4, errMerger);
+      err = mergeErr(err, t5, r5, errMerger);
+      return err((E) err);
+    }
+    return ok(mapper.apply((T1) t1, (T2) t2, (T3) t3, (T4) t4, (T5) t5));
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, T5, T6, R, E> Result<R, E> map6(
+    Result<T1, E> r1,
+    Result<T2, E> r2,
+    Result<T3, E> r3,
+    Result<T4, E> r4,
+    Result<T5, E> r5,
+    Result<T6, E> r6,
+    Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> mapper
+  ) {
+    Object t1 = r1.okOrNone();
+    if (t1 == NONE) {
+      return r1.withOkType();
+    }
+    Object t2 = r2.okOrNone();
+    if (t2 == NONE) {
+      return r2.withOkType();
+    }
+    Object t3 = r3.okOrNone();
+    if (t3 == NONE) {
+      return r3.withOkType();
+    }
+    Object t4 = r4.okOrNone();
+    if (t4 == NONE) {
+      return r4.withOkType();
+    }
+    Object t5 = r5.okOrNone();
+    if (t5 == NONE) {
+      return r5.withOkType();
+    }
+    Object t6 = r6.okOrNone();
+    if (t6 == NONE) {
+      return r6.withOkType();
+    }
+    return ok(mapper.apply((T1) t1, (T2) t2, (T3) t3, (T4) t4, (T5) t5, (T6) t6));
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, T5, T6, R, E> Result<R, E> map6(
+    Result<T1, E> r1,
+    Result<T2, E> r2,
+    Result<T3, E> r3,
+    Result<T4, E> r4,
+    Result<T5, E> r5,
+    Result<T6, E> r6,
+    Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> mapper,
+    BinaryOperator<E> errMerger
+  ) {
+    Object t1 = r1.okOrNone();
+    Object t2 = r2.okOrNone();
+    Object t3 = r3.okOrNone();
+    Object t4 = r4.okOrNone();
+    Object t5 = r5.okOrNone();
+    Object t6 = r6.okOrNone();
+    if (
+      t1 == NONE ||
+      t2 == NONE ||
+      t3 == NONE ||
+      t4 == NONE ||
+      t5 == NONE ||
+      t6 == NONE
+    ) {
+      Object err = NONE;
+      err = mergeErr(err, t1, r1, errMerger);
+      err = mergeErr(err, t2, r2, errMerger);
+      err = mergeErr(err, t3, r3, errMerger);
+      err = mergeErr(err, t4, r4, errMerger);
+      err = mergeErr(err, t5, r5, errMerger);
+      err = mergeErr(err, t6, r6, errMerger);
+      return err((E) err);
+    }
+    return ok(mapper.apply((T1) t1, (T2) t2, (T3) t3, (T4) t4, (T5) t5, (T6) t6));
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, T5, T6, T7, R, E> Result<R, E> map7(
+    Result<T1, E> r1,
+    Result<T2, E> r2,
+    Result<T3, E> r3,
+    Result<T4, E> r4,
+    Result<T5, E> r5,
+    Result<T6, E> r6,
+    Result<T7, E> r7,
+    Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> mapper
+  ) {
+    Object t1 = r1.okOrNone();
+    if (t1 == NONE) {
+      return r1.withOkType();
+    }
+    Object t2 = r2.okOrNone();
+    if (t2 == NONE) {
+      return r2.withOkType();
+    }
+    Object t3 = r3.okOrNone();
+    if (t3 == NONE) {
+      return r3.withOkType();
+    }
+    Object t4 = r4.okOrNone();
+    if (t4 == NONE) {
+      return r4.withOkType();
+    }
+    Object t5 = r5.okOrNone();
+    if (t5 == NONE) {
+      return r5.withOkType();
+    }
+    Object t6 = r6.okOrNone();
+    if (t6 == NONE) {
+      return r6.withOkType();
+    }
+    Object t7 = r7.okOrNone();
+    if (t7 == NONE) {
+      return r7.withOkType();
+    }
+    return ok(
+      mapper.apply((T1) t1, (T2) t2, (T3) t3, (T4) t4, (T5) t5, (T6) t6, (T7) t7)
+    );
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, T5, T6, T7, R, E> Result<R, E> map7(
+    Result<T1, E> r1,
+    Result<T2, E> r2,
+    Result<T3, E> r3,
+    Result<T4, E> r4,
+    Result<T5, E> r5,
+    Result<T6, E> r6,
+    Result<T7, E> r7,
+    Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> mapper,
+    BinaryOperator<E> errMerger
+  ) {
+    Object t1 = r1.okOrNone();
+    Object t2 = r2.okOrNone();
+    Object t3 = r3.okOrNone();
+    Object t4 = r4.okOrNone();
+    Object t5 = r5.okOrNone();
+    Object t6 = r6.okOrNone();
+    Object t7 = r7.okOrNone();
+    if (
+      t1 == NONE ||
+      t2 == NONE ||
+      t3 == NONE ||
+      t4 == NONE ||
+      t5 == NONE ||
+      t6 == NONE ||
+      t7 == NONE
+    ) {
+      Object err = NONE;
+      err = mergeErr(err, t1, r1, errMerger);
+      err = mergeErr(err, t2, r2, errMerger);
+      err = mergeErr(err, t3, r3, errMerger);
+      err = mergeErr(err, t4, r4, errMerger);
+      err = mergeErr(err, t5, r5, errMerger);
+      err = mergeErr(err, t6, r6, errMerger);
+      err = mergeErr(err, t7, r7, errMerger);
+      return err((E) err);
+    }
+    return ok(
+      mapper.apply((T1) t1, (T2) t2, (T3) t3, (T4) t4, (T5) t5, (T6) t6, (T7) t7)
+    );
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, R, E> Result<R, E> map8(
+    Result<T1, E> r1,
+    Result<T2, E> r2,
+    Result<T3, E> r3,
+    Result<T4, E> r4,
+    Result<T5, E> r5,
+    Result<T6, E> r6,
+    Result<T7, E> r7,
+    Result<T8, E> r8,
+    Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> mapper
+  ) {
+    Object t1 = r1.okOrNone();
+    if (t1 == NONE) {
+      return r1.withOkType();
+    }
+    Object t2 = r2.okOrNone();
+    if (t2 == NONE) {
+      return r2.withOkType();
+    }
+    Object t3 = r3.okOrNone();
+    if (t3 == NONE) {
+      return r3.withOkType();
+    }
+    Object t4 = r4.okOrNone();
+    if (t4 == NONE) {
+      return r4.withOkType();
+    }
+    Object t5 = r5.okOrNone();
+    if (t5 == NONE) {
+      return r5.withOkType();
+    }
+    Object t6 = r6.okOrNone();
+    if (t6 == NONE) {
+      return r6.withOkType();
+    }
+    Object t7 = r7.okOrNone();
+    if (t7 == NONE) {
+      return r7.withOkType();
+    }
+    Object t8 = r8.okOrNone();
+    if (t8 == NONE) {
+      return r8.withOkType();
+    }
+    return ok(
+      mapper.apply((T1) t1, (T2) t2, (T3) t3, (T4) t4, (T5) t5, (T6) t6, (T7) t7, (T8) t8)
+    );
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, R, E> Result<R, E> map8(
+    Result<T1, E> r1,
+    Result<T2, E> r2,
+    Result<T3, E> r3,
+    Result<T4, E> r4,
+    Result<T5, E> r5,
+    Result<T6, E> r6,
+    Result<T7, E> r7,
+    Result<T8, E> r8,
+    Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> mapper,
+    BinaryOperator<E> errMerger
+  ) {
+    Object t1 = r1.okOrNone();
+    Object t2 = r2.okOrNone();
+    Object t3 = r3.okOrNone();
+    Object t4 = r4.okOrNone();
+    Object t5 = r5.okOrNone();
+    Object t6 = r6.okOrNone();
+    Object t7 = r7.okOrNone();
+    Object t8 = r8.okOrNone();
+    if (
+      t1 == NONE ||
+      t2 == NONE ||
+      t3 == NONE ||
+      t4 == NONE ||
+      t5 == NONE ||
+      t6 == NONE ||
+      t7 == NONE ||
+      t8 == NONE
+    ) {
+      Object err = NONE;
+      err = mergeErr(err, t1, r1, errMerger);
+      err = mergeErr(err, t2, r2, errMerger);
+      err = mergeErr(err, t3, r3, errMerger);
+      err = mergeErr(err, t4, r4, errMerger);
+      err = mergeErr(err, t5, r5, errMerger);
+      err = mergeErr(err, t6, r6, errMerger);
+      err = mergeErr(err, t7, r7, errMerger);
+      err = mergeErr(err, t8, r8, errMerger);
+      return err((E) err);
+    }
+    return ok(
+      mapper.apply((T1) t1, (T2) t2, (T3) t3, (T4) t4, (T5) t5, (T6) t6, (T7) t7, (T8) t8)
+    );
+  }
+
+  /**
+   * Starts a {@link ResultPipeline}, a reusable chain of operations that runs without
+   * creating a Result per step.
+   */
+  public static <T, E> ResultPipeline<T, E, T, E> pipeline() {
+    return ResultPipeline.start();
+  }
+
   Result() {}
 
+  public Case getCase() {
+    return match(constant(TO_ERR_CASE), constant(TO_OK_CASE));
+  }
+
   public boolean isOk() {
-    return Results.getOk(this).isPresent();
+    return getCase() == Case.OK;
   }
 
   public void ifOk(Consumer<? super SUCCESS_TYPE> consumer) {
-    Results.getOk(this).ifPresent(consumer);
+    Object ok = okOrNone();
+    if (ok != NONE) {
+      consumer.accept(castOk(ok));
+    }
   }
 
   public boolean isErr() {
-    return Results.getErr(this).isPresent();
+    return getCase() == Case.ERR;
   }
 
   public void ifErr(Consumer<? super ERROR_TYPE> consumer) {
-    Results.getErr(this).ifPresent(consumer);
+    Object err = errOrNone();
+    if (err != NONE) {
+      consumer.accept(castErr(err));
+    }
   }
 
   public void consume(
@@ -55,53 +594,67 @@ public abstract class Result<SUCCESS_TYPE, ERROR_TYPE> {
   public <NEW_ERROR_TYPE> Result<SUCCESS_TYPE, NEW_ERROR_TYPE> mapErr(
     Function<ERROR_TYPE, NEW_ERROR_TYPE> mapper
   ) {
-    return Results.<SUCCESS_TYPE, ERROR_TYPE, NEW_ERROR_TYPE>modErr(mapper).apply(this);
+    Object err = errOrNone();
+    if (err == NONE) {
+      return withErrType();
+    }
+
+    return err(mapper.apply(castErr(err)));
   }
 
   public <NEW_SUCCESS_TYPE> Result<NEW_SUCCESS_TYPE, ERROR_TYPE> mapOk(
     Function<SUCCESS_TYPE, NEW_SUCCESS_TYPE> mapper
   ) {
-    return Results.<SUCCESS_TYPE, ERROR_TYPE, NEW_SUCCESS_TYPE>modOk(mapper).apply(this);
+    Object ok = okOrNone();
+    if (ok == NONE) {
+      return withOkType();
+    }
+
+    return ok(mapper.apply(castOk(ok)));
   }
 
   public <NEW_SUCCESS_TYPE> Result<NEW_SUCCESS_TYPE, ERROR_TYPE> flatMapOk(
     Function<SUCCESS_TYPE, Result<NEW_SUCCESS_TYPE, ERROR_TYPE>> mapper
   ) {
-    Result<Result<NEW_SUCCESS_TYPE, ERROR_TYPE>, ERROR_TYPE> nestedResult = Results
-      .<SUCCESS_TYPE, ERROR_TYPE, Result<NEW_SUCCESS_TYPE, ERROR_TYPE>>modOk(mapper)
-      .apply(this);
-
-    if (nestedResult.isErr()) {
-      return err(nestedResult.unwrapErrOrElseThrow());
+    Object ok = okOrNone();
+    if (ok == NONE) {
+      return withOkType();
     }
 
-    return nestedResult.unwrapOrElseThrow();
+    return mapper.apply(castOk(ok));
   }
 
   public <NEW_ERROR_TYPE> Result<SUCCESS_TYPE, NEW_ERROR_TYPE> flatMapErr(
     Function<ERROR_TYPE, Result<SUCCESS_TYPE, NEW_ERROR_TYPE>> mapper
   ) {
-    Result<SUCCESS_TYPE, Result<SUCCESS_TYPE, NEW_ERROR_TYPE>> nestedResult = Results
-      .<SUCCESS_TYPE, ERROR_TYPE, Result<SUCCESS_TYPE, NEW_ERROR_TYPE>>modErr(mapper)
-      .apply(this);
-
-    if (nestedResult.isOk()) {
-      return ok(nestedResult.unwrapOrElseThrow());
+    Object err = errOrNone();
+    if (err == NONE) {
+      return withErrType();
     }
 
-    return nestedResult.unwrapErrOrElseThrow();
+    return mapper.apply(castErr(err));
   }
 
   public <X extends Throwable> SUCCESS_TYPE unwrapOrElseThrow(
     Supplier<? extends X> exceptionSupplier
   ) throws X {
-    return Results.getOk(this).orElseThrow(exceptionSupplier);
+    Object ok = okOrNone();
+    if (ok == NONE) {
+      throw exceptionSupplier.get();
+    }
+
+    return castOk(ok);
   }
 
   public <X extends Throwable> SUCCESS_TYPE unwrapOrElseThrow(
     Function<ERROR_TYPE, ? extends X> exceptionMapper
   ) throws X {
-    return unwrapOrElseThrow(() -> exceptionMapper.apply(Results.getErr(this).get()));
+    Object ok = okOrNone();
+    if (ok != NONE) {
+      return castOk(ok);
+    }
+
+    throw exceptionMapper.apply(castErr(errOrNone()));
   }
 
   public SUCCESS_TYPE unwrapOrElseThrow() {
@@ -121,13 +674,23 @@ public abstract class Result<SUCCESS_TYPE, ERROR_TYPE> {
   public <X extends Throwable> ERROR_TYPE unwrapErrOrElseThrow(
     Supplier<? extends X> exceptionSupplier
   ) throws X {
-    return Results.getErr(this).orElseThrow(exceptionSupplier);
+    Object err = errOrNone();
+    if (err == NONE) {
+      throw exceptionSupplier.get();
+    }
+
+    return castErr(err);
   }
 
   public <X extends Throwable> ERROR_TYPE unwrapErrOrElseThrow(
     Function<SUCCESS_TYPE, ? extends X> exceptionMapper
   ) throws X {
-    return unwrapErrOrElseThrow(() -> exceptionMapper.apply(Results.getOk(this).get()));
+    Object err = errOrNone();
+    if (err != NONE) {
+      return castErr(err);
+    }
+
+    throw exceptionMapper.apply(castOk(okOrNone()));
   }
 
   public ERROR_TYPE unwrapErrOrElseThrow() {
@@ -149,10 +712,7 @@ public abstract class Result<SUCCESS_TYPE, ERROR_TYPE> {
       throw new IllegalStateException("Cannot propagate an error for non-error Result");
     }
 
-    @SuppressWarnings("unchecked")
-    Result<NEW_SUCCESS_TYPE, ERROR_TYPE> res =
-      (Result<NEW_SUCCESS_TYPE, ERROR_TYPE>) this;
-    return res;
+    return withOkType();
   }
 
   public Result<SUCCESS_TYPE, ERROR_TYPE> peekOk(
@@ -182,10 +742,95 @@ public abstract class Result<SUCCESS_TYPE, ERROR_TYPE> {
 
   @Override
   public String toString() {
-    if (isOk()) {
-      return "Ok[" + unwrapOrElseThrow().toString() + "]";
+    Object ok = okOrNone();
+    if (ok != NONE) {
+      return "Ok[" + ok + "]";
+    }
+
+    return "Err[" + errOrNone() + "]";
+  }
+
+  /**
+   * Results are serialized as a {@link SerializedResult}, so the stream holds a tag and
+   * the Ok or Err value rather than one of the generated case classes.
+   */
+  @SuppressWarnings("deprecation")
+  final Object writeReplace() throws ObjectStreamException {
+    boolean isVoid = this instanceof VoidResult;
+    Object ok = okOrNone();
+    if (ok != NONE) {
+      return new SerializedResult(
+        isVoid ? SerializedResult.VOID_OK : SerializedResult.OK,
+        ok
+      );
+    }
+
+    return new SerializedResult(
+      isVoid ? SerializedResult.VOID_ERR : SerializedResult.ERR,
+      errOrNone()
+    );
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("Results can only be deserialized through a proxy");
+  }
+
+  // ok is the value already extracted from result, so only Errs are matched again
+  @SuppressWarnings("unchecked")
+  private static <E> Object mergeErr(
+    Object accumulated,
+    Object ok,
+    Result<?, E> result,
+    BinaryOperator<E> errMerger
+  ) {
+    if (ok != NONE) {
+      return accumulated;
     }
+    Object err = result.errOrNone();
+    if (accumulated == NONE) {
+      return err;
+    }
+
+    return errMerger.apply((E) accumulated, (E) err);
+  }
+
+  private Object okOrNone() {
+    return match(constant(TO_NONE), constant(TO_VALUE));
+  }
+
+  private Object errOrNone() {
+    return match(constant(TO_VALUE), constant(TO_NONE));
+  }
+
+  @SuppressWarnings("unchecked")
+  private SUCCESS_TYPE castOk(Object ok) {
+    return (SUCCESS_TYPE) ok;
+  }
+
+  @SuppressWarnings("unchecked")
+  private ERROR_TYPE castErr(Object err) {
+    return (ERROR_TYPE) err;
+  }
+
+  /**
+   * An Err holds no Ok value, so it can stand in for an Err of any Ok type.
+   */
+  @SuppressWarnings("unchecked")
+  private <NEW_SUCCESS_TYPE> Result<NEW_SUCCESS_TYPE, ERROR_TYPE> withOkType() {
+    return (Result<NEW_SUCCESS_TYPE, ERROR_TYPE>) this;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <NEW_ERROR_TYPE> Result<SUCCESS_TYPE, NEW_ERROR_TYPE> withErrType() {
+    return (Result<SUCCESS_TYPE, NEW_ERROR_TYPE>) this;
+  }
 
-    return "Err[" + unwrapErrOrElseThrow().toString() + "]";
+  /**
+   * Shares a non-capturing function across all type parameters, so that dispatching
+   * through {@link #match(Function, Function)} allocates nothing.
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static <A, R> Function<A, R> constant(Function<Object, ?> function) {
+    return (Function) function;
   }
 }
@@ -0,0 +1,232 @@
+package com.hubspot.algebra;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects Results added concurrently by many threads.
+ *
+ * Adds go to one of a fixed number of lock-free stripes, picked by the adding thread, so
+ * producers rarely contend with each other, and the stripes are only combined by
+ * {@link #snapshot()} and {@link #finish()}. A thread always adds to the same stripe, so
+ * its Ok values keep their order, but there is no order between threads.
+ *
+ * The first Err added stops the accumulator: producers can poll {@link #isStopped()} to
+ * skip the remaining work.
+ *
+ * <pre>
+ * ResultAccumulator&lt;User, LookupError&gt; users = ResultAccumulator.create();
+ * ids.parallelStream().forEach(id -&gt; {
+ *   if (!users.isStopped()) {
+ *     users.add(client.getUser(id));
+ *   }
+ * });
+ * Result&lt;List&lt;User&gt;, LookupError&gt; result = users.finish();
+ * </pre>
+ */
+public final class ResultAccumulator<T, E> {
+
+  private static final int STRIPE_COUNT = stripeCount(
+    Runtime.getRuntime().availableProcessors()
+  );
+  // stands in for null values, which the stripes can't hold
+  private static final Object NULL = new Object();
+
+  private final boolean countErrorClasses;
+  private final AtomicReferenceArray<Stripe<T, E>> stripes = new AtomicReferenceArray<>(
+    STRIPE_COUNT
+  );
+  private final LongAdder okCount = new LongAdder();
+  private final LongAdder errCount = new LongAdder();
+  private final ConcurrentMap<Class<?>, LongAdder> errCountsByClass =
+    new ConcurrentHashMap<>();
+  private final AtomicReference<Result<T, E>> firstErr = new AtomicReference<>();
+  private volatile boolean stopped = false;
+  private volatile boolean finished = false;
+
+  private ResultAccumulator(boolean countErrorClasses) {
+    this.countErrorClasses = countErrorClasses;
+  }
+
+  public static <T, E> ResultAccumulator<T, E> create() {
+    return new ResultAccumulator<>(false);
+  }
+
+  /**
+   * Also counts Errs by the class of their value, see {@link #getErrCount(Class)}.
+   */
+  public static <T, E> ResultAccumulator<T, E> countingErrorClasses() {
+    return new ResultAccumulator<>(true);
+  }
+
+  public void add(Result<T, E> result) {
+    Preconditions.checkState(!finished, "Cannot add to a finished accumulator");
+
+    Stripe<T, E> stripe = stripe();
+    if (result.isOk()) {
+      stripe.oks.add(mask(result.unwrapOrElseThrow()));
+      okCount.increment();
+      return;
+    }
+
+    E err = result.unwrapErrOrElseThrow();
+    stripe.errs.add(mask(err));
+    errCount.increment();
+    if (countErrorClasses) {
+      errCounter(err).increment();
+    }
+    if (firstErr.get() == null && firstErr.compareAndSet(null, result)) {
+      stopped = true;
+    }
+  }
+
+  /**
+   * True once an Err was added or {@link #stop()} was called.
+   */
+  public boolean isStopped() {
+    return stopped;
+  }
+
+  public void stop() {
+    stopped = true;
+  }
+
+  public long getOkCount() {
+    return okCount.sum();
+  }
+
+  public long getErrCount() {
+    return errCount.sum();
+  }
+
+  /**
+   * Only counted for accumulators created with {@link #countingErrorClasses()}.
+   */
+  public long getErrCount(Class<?> errorClass) {
+    LongAdder counter = errCountsByClass.get(errorClass);
+    return counter == null ? 0 : counter.sum();
+  }
+
+  public Map<Class<?>, LongAdder> getErrCountsByClass() {
+    return Collections.unmodifiableMap(errCountsByClass);
+  }
+
+  /**
+   * Returns the first Err added, or every Ok value added so far.
+   */
+  public Result<List<T>, E> snapshot() {
+    Result<T, E> err = firstErr.get();
+    if (err != null) {
+      return err.propagateErr();
+    }
+    return Result.ok(Collections.unmodifiableList(collectOks()));
+  }
+
+  @SuppressWarnings("unchecked")
+  public ResultStream.Partition<T, E> snapshotPartition() {
+    List<T> oks = new ArrayList<>();
+    List<E> errs = new ArrayList<>();
+    for (int i = 0; i < stripes.length(); i++) {
+      Stripe<T, E> stripe = stripes.get(i);
+      if (stripe != null) {
+        for (Object ok : stripe.oks) {
+          oks.add((T) unmask(ok));
+        }
+        for (Object err : stripe.errs) {
+          errs.add((E) unmask(err));
+        }
+      }
+    }
+    return new ResultStream.Partition<>(oks, errs);
+  }
+
+  /**
+   * Like {@link #snapshot()}, and rejects further adds. Call it once the producers are
+   * done.
+   */
+  public Result<List<T>, E> finish() {
+    finished = true;
+    return snapshot();
+  }
+
+  public ResultStream.Partition<T, E> finishPartition() {
+    finished = true;
+    return snapshotPartition();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<T> collectOks() {
+    List<T> oks = new ArrayList<>((int) Math.min(Integer.MAX_VALUE, okCount.sum()));
+    for (int i = 0; i < stripes.length(); i++) {
+      Stripe<T, E> stripe = stripes.get(i);
+      if (stripe != null) {
+        for (Object ok : stripe.oks) {
+          oks.add((T) unmask(ok));
+        }
+      }
+    }
+    return oks;
+  }
+
+  /**
+   * The stripe is picked from the thread's id rather than re-probed on contention, so
+   * that a thread's adds stay in order.
+   */
+  private Stripe<T, E> stripe() {
+    long id = Thread.currentThread().getId();
+    int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+    int index = (hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1);
+
+    Stripe<T, E> stripe = stripes.get(index);
+    if (stripe != null) {
+      return stripe;
+    }
+
+    Stripe<T, E> created = new Stripe<>();
+    return stripes.compareAndSet(index, null, created) ? created : stripes.get(index);
+  }
+
+  private static int stripeCount(int processors) {
+    int count = 1;
+    while (count < processors && count < 64) {
+      count <<= 1;
+    }
+    return count;
+  }
+
+  private static Object mask(Object value) {
+    return value == null ? NULL : value;
+  }
+
+  private static Object unmask(Object value) {
+    return value == NULL ? null : value;
+  }
+
+  private LongAdder errCounter(Object error) {
+    Class<?> errorClass = error == null ? Void.class : error.getClass();
+    LongAdder counter = errCountsByClass.get(errorClass);
+    if (counter != null) {
+      return counter;
+    }
+
+    LongAdder created = new LongAdder();
+    LongAdder existing = errCountsByClass.putIfAbsent(errorClass, created);
+    return existing == null ? created : existing;
+  }
+
+  private static final class Stripe<T, E> {
+
+    private final Queue<Object> oks = new ConcurrentLinkedQueue<>();
+    private final Queue<Object> errs = new ConcurrentLinkedQueue<>();
+  }
+}
@@ -0,0 +1,51 @@
+package com.hubspot.algebra;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Returns one shared instance for equal Results, so that many copies of the same Err,
+ * such as a repeated error message, take the memory of one.
+ *
+ * <pre>
+ * private static final ResultInterner INTERNER = ResultInterner.weak();
+ *
+ * Result&lt;User, String&gt; result = INTERNER.intern(client.getUser(id));
+ * </pre>
+ */
+public final class ResultInterner {
+
+  private final Interner<Object> interner;
+
+  private ResultInterner(Interner<Object> interner) {
+    this.interner = interner;
+  }
+
+  /**
+   * Canonical instances are weakly referenced, so they are dropped once nothing else
+   * uses them.
+   */
+  public static ResultInterner weak() {
+    return new ResultInterner(Interners.newWeakInterner());
+  }
+
+  /**
+   * Canonical instances are kept for the lifetime of the interner.
+   */
+  public static ResultInterner strong() {
+    return new ResultInterner(Interners.newStrongInterner());
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T, E> Result<T, E> intern(Result<T, E> result) {
+    return (Result<T, E>) interner.intern(result);
+  }
+
+  /**
+   * Interns the hashed form of a Result, which is cheaper to look up than the Result.
+   */
+  @SuppressWarnings("unchecked")
+  public <T, E> HashedResult<T, E> intern(HashedResult<T, E> result) {
+    return (HashedResult<T, E>) interner.intern(result);
+  }
+}
@@ -0,0 +1,229 @@
+package com.hubspot.algebra;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A reusable chain of Result operations that runs in a single loop.
+ *
+ * Chaining {@link Result#mapOk(Function)} and friends creates a Result per step. A
+ * pipeline records the steps instead, and {@link #run(Result)} carries the current value
+ * through all of them, creating at most one Result at the end. A pipeline is immutable,
+ * so one instance can be built once and run over any number of inputs.
+ *
+ * <pre>
+ * ResultPipeline&lt;String, Error, Integer, Error&gt; parse = Result.&lt;String, Error&gt;pipeline()
+ *   .mapOk(String::trim)
+ *   .filter(s -&gt; !s.isEmpty(), s -&gt; Error.EMPTY)
+ *   .flatMapOk(Parser::parseInt);
+ * </pre>
+ */
+public final class ResultPipeline<IN_OK, IN_ERR, OUT_OK, OUT_ERR> {
+
+  private static final byte MAP_OK = 0;
+  private static final byte FLAT_MAP_OK = 1;
+  private static final byte MAP_ERR = 2;
+  private static final byte PEEK_OK = 3;
+  private static final byte FILTER = 4;
+  // only used by ResultStream
+  static final byte DROP_OK = 5;
+  static final byte RECOVER = 6;
+
+  /**
+   * Returned by {@link #apply(boolean, Object)} when a {@link #DROP_OK} step drops the
+   * value.
+   */
+  static final Object DROPPED = new Object();
+
+  private static final ResultPipeline<?, ?, ?, ?> EMPTY = new ResultPipeline<>(
+    new byte[0],
+    new Object[0],
+    new Object[0]
+  );
+
+  private final byte[] kinds;
+  private final Object[] functions;
+  private final Object[] errorFunctions;
+
+  private ResultPipeline(byte[] kinds, Object[] functions, Object[] errorFunctions) {
+    this.kinds = kinds;
+    this.functions = functions;
+    this.errorFunctions = errorFunctions;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T, E> ResultPipeline<T, E, T, E> start() {
+    return (ResultPipeline<T, E, T, E>) EMPTY;
+  }
+
+  public <NEW_OK> ResultPipeline<IN_OK, IN_ERR, NEW_OK, OUT_ERR> mapOk(
+    Function<? super OUT_OK, ? extends NEW_OK> mapper
+  ) {
+    return append(MAP_OK, mapper, null);
+  }
+
+  public <NEW_OK> ResultPipeline<IN_OK, IN_ERR, NEW_OK, OUT_ERR> flatMapOk(
+    Function<? super OUT_OK, Result<NEW_OK, OUT_ERR>> mapper
+  ) {
+    return append(FLAT_MAP_OK, mapper, null);
+  }
+
+  public <NEW_ERR> ResultPipeline<IN_OK, IN_ERR, OUT_OK, NEW_ERR> mapErr(
+    Function<? super OUT_ERR, ? extends NEW_ERR> mapper
+  ) {
+    return append(MAP_ERR, mapper, null);
+  }
+
+  public ResultPipeline<IN_OK, IN_ERR, OUT_OK, OUT_ERR> peekOk(
+    Consumer<? super OUT_OK> consumer
+  ) {
+    return append(PEEK_OK, consumer, null);
+  }
+
+  /**
+   * Turns Oks that don't match the predicate into Errs built from the rejected value.
+   */
+  public ResultPipeline<IN_OK, IN_ERR, OUT_OK, OUT_ERR> filter(
+    Predicate<? super OUT_OK> predicate,
+    Function<? super OUT_OK, ? extends OUT_ERR> errorMapper
+  ) {
+    return append(FILTER, predicate, errorMapper);
+  }
+
+  @SuppressWarnings("unchecked")
+  public Result<OUT_OK, OUT_ERR> run(Result<IN_OK, IN_ERR> input) {
+    if (kinds.length == 0) {
+      return (Result<OUT_OK, OUT_ERR>) (Result<?, ?>) input;
+    }
+
+    boolean ok = input.isOk();
+    Object value = ok ? input.unwrapOrElseThrow() : input.unwrapErrOrElseThrow();
+    Object output = apply(ok, value);
+    boolean outputOk = !(output instanceof ErrBox);
+    if (!outputOk) {
+      output = ((ErrBox) output).error;
+    }
+
+    if (outputOk == ok && output == value) {
+      // The input already has the output's value and case
+      return (Result<OUT_OK, OUT_ERR>) (Result<?, ?>) input;
+    }
+
+    return outputOk
+      ? Result.ok((OUT_OK) output)
+      : Result.err((OUT_ERR) output);
+  }
+
+  public <R> R match(
+    Result<IN_OK, IN_ERR> input,
+    Function<OUT_ERR, R> err,
+    Function<OUT_OK, R> ok
+  ) {
+    return run(input).match(err, ok);
+  }
+
+  public Result<OUT_OK, OUT_ERR> runOk(IN_OK input) {
+    return run(Result.ok(input));
+  }
+
+  public List<Result<OUT_OK, OUT_ERR>> runAll(Iterable<Result<IN_OK, IN_ERR>> inputs) {
+    List<Result<OUT_OK, OUT_ERR>> outputs = new ArrayList<>();
+    for (Result<IN_OK, IN_ERR> input : inputs) {
+      outputs.add(run(input));
+    }
+    return outputs;
+  }
+
+  public Function<Result<IN_OK, IN_ERR>, Result<OUT_OK, OUT_ERR>> asFunction() {
+    return this::run;
+  }
+
+  boolean isEmpty() {
+    return kinds.length == 0;
+  }
+
+  /**
+   * Runs every step on a raw Ok value or Err. Returns the Ok value as is, the Err in an
+   * {@link ErrBox}, or {@link #DROPPED}.
+   */
+  @SuppressWarnings("unchecked")
+  Object apply(boolean ok, Object value) {
+    for (int i = 0; i < kinds.length; i++) {
+      switch (kinds[i]) {
+        case MAP_OK:
+          if (ok) {
+            value = ((Function<Object, Object>) functions[i]).apply(value);
+          }
+          break;
+        case FLAT_MAP_OK:
+          if (ok) {
+            Result<?, ?> next =
+              ((Function<Object, Result<?, ?>>) functions[i]).apply(value);
+            ok = next.isOk();
+            value = ok ? next.unwrapOrElseThrow() : next.unwrapErrOrElseThrow();
+          }
+          break;
+        case MAP_ERR:
+          if (!ok) {
+            value = ((Function<Object, Object>) functions[i]).apply(value);
+          }
+          break;
+        case PEEK_OK:
+          if (ok) {
+            ((Consumer<Object>) functions[i]).accept(value);
+          }
+          break;
+        case FILTER:
+          if (ok && !((Predicate<Object>) functions[i]).test(value)) {
+            value = ((Function<Object, Object>) errorFunctions[i]).apply(value);
+            ok = false;
+          }
+          break;
+        case DROP_OK:
+          if (ok && !((Predicate<Object>) functions[i]).test(value)) {
+            return DROPPED;
+          }
+          break;
+        case RECOVER:
+          if (!ok) {
+            value = ((Function<Object, Object>) functions[i]).apply(value);
+            ok = true;
+          }
+          break;
+        default:
+          throw new IllegalStateException("Unknown step " + kinds[i]);
+      }
+    }
+
+    return ok ? value : new ErrBox(value);
+  }
+
+  @SuppressWarnings("unchecked")
+  <A, B> ResultPipeline<IN_OK, IN_ERR, A, B> append(
+    byte kind,
+    Object function,
+    Object errorFunction
+  ) {
+    int length = kinds.length;
+    byte[] newKinds = Arrays.copyOf(kinds, length + 1);
+    Object[] newFunctions = Arrays.copyOf(functions, length + 1);
+    Object[] newErrorFunctions = Arrays.copyOf(errorFunctions, length + 1);
+    newKinds[length] = kind;
+    newFunctions[length] = function;
+    newErrorFunctions[length] = errorFunction;
+    return new ResultPipeline<>(newKinds, newFunctions, newErrorFunctions);
+  }
+
+  static final class ErrBox {
+
+    final Object error;
+
+    private ErrBox(Object error) {
+      this.error = error;
+    }
+  }
+}
@@ -0,0 +1,278 @@
+package com.hubspot.algebra;
+
+import com.hubspot.algebra.ResultPipeline.ErrBox;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * A stream of Results whose stages run on the raw Ok value.
+ *
+ * Mapping a {@code Stream<Result<T, E>>} with {@link Result#mapOk(Function)} creates a
+ * Result per element per stage. A ResultStream records its steps in a
+ * {@link ResultPipeline} instead and runs all of them in one loop per element, inside a
+ * single stream stage or directly in the terminal operation. A Result is only created
+ * per element if {@link #stream()} asks for one.
+ *
+ * <pre>
+ * Result&lt;List&lt;User&gt;, Error&gt; users = ResultStream
+ *   .of(ids.stream().map(client::getUser))
+ *   .filterOk(User::isActive)
+ *   .mapOk(User::withoutSecrets)
+ *   .toResult();
+ * </pre>
+ */
+public final class ResultStream<T, E> {
+
+  private final Stream<?> source;
+  private final boolean resultSource;
+  private final ResultPipeline<?, ?, T, E> steps;
+
+  private ResultStream(
+    Stream<?> source,
+    boolean resultSource,
+    ResultPipeline<?, ?, T, E> steps
+  ) {
+    this.source = source;
+    this.resultSource = resultSource;
+    this.steps = steps;
+  }
+
+  public static <T, E> ResultStream<T, E> of(
+    Stream<? extends Result<? extends T, ? extends E>> results
+  ) {
+    return new ResultStream<>(results, true, ResultPipeline.start());
+  }
+
+  public static <T, E> ResultStream<T, E> ofOks(Stream<? extends T> oks) {
+    return new ResultStream<>(oks, false, ResultPipeline.start());
+  }
+
+  public <U> ResultStream<U, E> mapOk(Function<? super T, ? extends U> mapper) {
+    return withSteps(steps.mapOk(mapper));
+  }
+
+  @SuppressWarnings("unchecked")
+  public <U> ResultStream<U, E> flatMapOk(
+    Function<? super T, ? extends Result<? extends U, ? extends E>> mapper
+  ) {
+    return withSteps(steps.flatMapOk((Function<T, Result<U, E>>) mapper));
+  }
+
+  public <F> ResultStream<T, F> mapErr(Function<? super E, ? extends F> mapper) {
+    return withSteps(steps.mapErr(mapper));
+  }
+
+  /**
+   * Drops Ok values that don't match the predicate. Errs are kept.
+   */
+  public ResultStream<T, E> filterOk(Predicate<? super T> predicate) {
+    return withSteps(steps.append(ResultPipeline.DROP_OK, predicate, null));
+  }
+
+  /**
+   * Turns Ok values that don't match the predicate into Errs.
+   */
+  public ResultStream<T, E> filterOk(
+    Predicate<? super T> predicate,
+    Function<? super T, ? extends E> errorFactory
+  ) {
+    return withSteps(steps.filter(predicate, errorFactory));
+  }
+
+  /**
+   * Turns every Err into an Ok.
+   */
+  public ResultStream<T, E> recover(Function<? super E, ? extends T> recovery) {
+    return withSteps(steps.append(ResultPipeline.RECOVER, recovery, null));
+  }
+
+  public ResultStream<T, E> parallel() {
+    return new ResultStream<>(source.parallel(), resultSource, steps);
+  }
+
+  public ResultStream<T, E> sequential() {
+    return new ResultStream<>(source.sequential(), resultSource, steps);
+  }
+
+  /**
+   * Hands every Err to the consumer and continues with the Ok values. On a parallel
+   * stream the consumer is called concurrently.
+   */
+  @SuppressWarnings("unchecked")
+  public Stream<T> oks(Consumer<? super E> errConsumer) {
+    return source
+      .map(this::apply)
+      .filter(value -> {
+        if (value instanceof ErrBox) {
+          errConsumer.accept((E) ((ErrBox) value).error);
+          return false;
+        }
+        return value != ResultPipeline.DROPPED;
+      })
+      .map(value -> (T) value);
+  }
+
+  /**
+   * Creates a Result per element.
+   */
+  @SuppressWarnings("unchecked")
+  public Stream<Result<T, E>> stream() {
+    if (steps.isEmpty() && resultSource) {
+      return (Stream<Result<T, E>>) source;
+    }
+
+    return source
+      .map(this::apply)
+      .filter(value -> value != ResultPipeline.DROPPED)
+      .map(value ->
+        value instanceof ErrBox
+          ? Result.err((E) ((ErrBox) value).error)
+          : Result.ok((T) value)
+      );
+  }
+
+  /**
+   * Collects all Ok values, or returns the first Err in encounter order. A sequential
+   * stream stops at the first Err without pulling or mapping the elements after it.
+   */
+  public Result<List<T>, E> toResult() {
+    if (!source.isParallel()) {
+      OkListAccumulator<T, E> accumulator = new OkListAccumulator<>();
+      Iterator<?> elements = source.iterator();
+      while (!accumulator.hasErr() && elements.hasNext()) {
+        accumulator.add(apply(elements.next()));
+      }
+      return accumulator.toResult();
+    }
+
+    return source.collect(
+      Collector.of(
+        OkListAccumulator<T, E>::new,
+        (accumulator, element) -> {
+          if (!accumulator.hasErr()) {
+            accumulator.add(apply(element));
+          }
+        },
+        OkListAccumulator::combine,
+        OkListAccumulator::toResult
+      )
+    );
+  }
+
+  public Partition<T, E> partition() {
+    return source.collect(
+      Collector.of(
+        Partition<T, E>::new,
+        (partition, element) -> partition.add(apply(element)),
+        Partition::combine,
+        Collector.Characteristics.IDENTITY_FINISH
+      )
+    );
+  }
+
+  /**
+   * The Ok values and Errs of a stream, each in encounter order.
+   */
+  public static final class Partition<T, E> {
+
+    private final List<T> oks;
+    private final List<E> errs;
+
+    private Partition() {
+      this(new ArrayList<>(), new ArrayList<>());
+    }
+
+    Partition(List<T> oks, List<E> errs) {
+      this.oks = oks;
+      this.errs = errs;
+    }
+
+    public List<T> getOks() {
+      return Collections.unmodifiableList(oks);
+    }
+
+    public List<E> getErrs() {
+      return Collections.unmodifiableList(errs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(Object value) {
+      if (value instanceof ErrBox) {
+        errs.add((E) ((ErrBox) value).error);
+      } else if (value != ResultPipeline.DROPPED) {
+        oks.add((T) value);
+      }
+    }
+
+    private Partition<T, E> combine(Partition<T, E> other) {
+      oks.addAll(other.oks);
+      errs.addAll(other.errs);
+      return this;
+    }
+  }
+
+  private Object apply(Object element) {
+    if (!resultSource) {
+      return steps.apply(true, element);
+    }
+
+    Result<?, ?> result = (Result<?, ?>) element;
+    return result.isOk()
+      ? steps.apply(true, result.unwrapOrElseThrow())
+      : steps.apply(false, result.unwrapErrOrElseThrow());
+  }
+
+  private <A, B> ResultStream<A, B> withSteps(ResultPipeline<?, ?, A, B> newSteps) {
+    return new ResultStream<>(source, resultSource, newSteps);
+  }
+
+  private static final class OkListAccumulator<T, E> {
+
+    private final List<T> oks = new ArrayList<>();
+    private ErrBox firstErr;
+
+    private boolean hasErr() {
+      return firstErr != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(Object value) {
+      if (firstErr != null || value == ResultPipeline.DROPPED) {
+        return;
+      }
+
+      if (value instanceof ErrBox) {
+        firstErr = (ErrBox) value;
+        oks.clear();
+      } else {
+        oks.add((T) value);
+      }
+    }
+
+    private OkListAccumulator<T, E> combine(OkListAccumulator<T, E> other) {
+      if (firstErr != null) {
+        return this;
+      }
+      if (other.firstErr != null) {
+        return other;
+      }
+
+      oks.addAll(other.oks);
+      return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result<List<T>, E> toResult() {
+      return firstErr == null
+        ? Result.ok(Collections.unmodifiableList(oks))
+        : Result.err((E) firstErr.error);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.hubspot.algebra;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+
+/**
+ * The Java serialization form of {@link Result}, {@link VoidResult} and
+ * {@link HttpResultWrapper}: a version byte, a one byte tag, the status code for HTTP
+ * wrappers, and the Ok or Err value. It never refers to the generated classes, so
+ * changes to them do not break previously serialized values.
+ */
+final class SerializedResult implements Externalizable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final byte VERSION = 1;
+
+  static final byte OK = 0;
+  static final byte ERR = 1;
+  static final byte VOID_OK = 2;
+  static final byte VOID_ERR = 3;
+  static final byte HTTP_OK = 4;
+  static final byte HTTP_ERR = 5;
+
+  private byte tag;
+  private Object value;
+  private int httpStatusCode;
+
+  /**
+   * For {@link Externalizable} only.
+   */
+  public SerializedResult() {}
+
+  SerializedResult(byte tag, Object value) {
+    this(tag, value, 0);
+  }
+
+  SerializedResult(byte tag, Object value, int httpStatusCode) {
+    this.tag = tag;
+    this.value = value;
+    this.httpStatusCode = httpStatusCode;
+  }
+
+  byte getTag() {
+    return tag;
+  }
+
+  @Override
+  public void writeExternal(ObjectOutput out) throws IOException {
+    out.writeByte(VERSION);
+    out.writeByte(tag);
+    if (isHttp(tag)) {
+      out.writeShort(httpStatusCode);
+    }
+    if (tag != VOID_OK) {
+      out.writeObject(value);
+    }
+  }
+
+  @Override
+  public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+    byte version = in.readByte();
+    if (version != VERSION) {
+      throw new InvalidObjectException(
+        "Unsupported serialized Result version " + version
+      );
+    }
+
+    tag = in.readByte();
+    if (tag < OK || tag > HTTP_ERR) {
+      throw new InvalidObjectException("Unknown serialized Result tag " + tag);
+    }
+    if (isHttp(tag)) {
+      httpStatusCode = in.readShort();
+    }
+    if (tag != VOID_OK) {
+      value = in.readObject();
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private Object readResolve() throws ObjectStreamException {
+    switch (tag) {
+      case OK:
+        return Result.ok(value);
+      case ERR:
+        return Result.err(value);
+      case VOID_OK:
+        return VoidResult.ok();
+      case VOID_ERR:
+        return VoidResult.error(value);
+      case HTTP_OK:
+        return HttpResultWrapper
+          .builder()
+          .setOkResultMaybe(value)
+          .setHttpStatusCode(httpStatusCode)
+          .build();
+      case HTTP_ERR:
+        return HttpResultWrapper
+          .builder()
+          .setErrResultMaybe(value)
+          .setHttpStatusCode(httpStatusCode)
+          .build();
+      default:
+        throw new InvalidObjectException("Unknown serialized Result tag " + tag);
+    }
+  }
+
+  private static boolean isHttp(byte tag) {
+    return tag == HTTP_OK || tag == HTTP_ERR;
+  }
+}
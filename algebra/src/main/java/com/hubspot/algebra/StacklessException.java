@@ -0,0 +1,21 @@
+package com.hubspot.algebra;
+
+/**
+ * Base class for exceptions that are only thrown to be captured as an Err, for example by
+ * {@link Attempt}. Filling in the stack trace is the expensive part of throwing, and it is
+ * skipped here.
+ *
+ * Because they carry no stack, instances can also be created once and thrown repeatedly.
+ */
+public abstract class StacklessException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  protected StacklessException(String message) {
+    super(message, null, false, false);
+  }
+
+  protected StacklessException(String message, Throwable cause) {
+    super(message, cause, false, false);
+  }
+}
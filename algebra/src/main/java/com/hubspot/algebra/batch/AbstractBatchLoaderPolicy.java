@@ -0,0 +1,54 @@
+package com.hubspot.algebra.batch;
+
+import com.google.common.base.Preconditions;
+import com.hubspot.immutables.style.HubSpotStyle;
+import java.time.Duration;
+import java.util.function.Function;
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Default;
+import org.immutables.value.Value.Immutable;
+
+@Immutable
+@HubSpotStyle
+public abstract class AbstractBatchLoaderPolicy<K, E> {
+
+  /**
+   * Builds the Err for a key that is missing from the bulk call's response.
+   */
+  public abstract Function<? super K, ? extends E> getMissingKeyErrorFactory();
+
+  /**
+   * A batch is dispatched as soon as it holds this many keys.
+   */
+  @Default
+  public int getMaxBatchSize() {
+    return 100;
+  }
+
+  /**
+   * How long the first key of a batch waits for more keys before the batch is dispatched.
+   * Zero dispatches on the next run of the scheduler.
+   */
+  @Default
+  public Duration getMaxDelay() {
+    return Duration.ofMillis(1);
+  }
+
+  /**
+   * Whether completed lookups are kept for the lifetime of the loader, so that loading
+   * the same key again does not go back to the backend.
+   */
+  @Default
+  public boolean isCachingEnabled() {
+    return true;
+  }
+
+  @Check
+  void checkValues() {
+    Preconditions.checkState(getMaxBatchSize() >= 1, "maxBatchSize must be at least 1");
+    Preconditions.checkState(
+      !getMaxDelay().isNegative(),
+      "maxDelay must not be negative"
+    );
+  }
+}
@@ -0,0 +1,233 @@
+package com.hubspot.algebra.batch;
+
+import com.hubspot.algebra.Result;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Collects single key lookups into bulk calls.
+ *
+ * <pre>
+ * ResultBatchLoader&lt;Long, User, LookupError&gt; users = new ResultBatchLoader&lt;&gt;(
+ *   policy, client::getUsers, scheduler
+ * );
+ * CompletableFuture&lt;Result&lt;User, LookupError&gt;&gt; user = users.load(id);
+ * </pre>
+ *
+ * Keys are dispatched once a batch reaches {@link BatchLoaderPolicy#getMaxBatchSize()},
+ * or {@link BatchLoaderPolicy#getMaxDelay()} after its first key was loaded. With caching
+ * enabled each key is looked up at most once, so a loader is meant to live as long as
+ * the request it serves.
+ */
+public class ResultBatchLoader<K, V, E> {
+
+  private final BatchLoaderPolicy<K, E> policy;
+  private final Function<? super Set<K>, ? extends CompletionStage<Map<K, Result<V, E>>>> bulkLoader;
+  private final ScheduledExecutorService scheduler;
+  private final ConcurrentMap<K, CompletableFuture<Result<V, E>>> cache =
+    new ConcurrentHashMap<>();
+  private final LongAdder batchCount = new LongAdder();
+  private final LongAdder batchedKeyCount = new LongAdder();
+  private final LongAdder cacheHitCount = new LongAdder();
+  private final LongAccumulator largestBatchSize = new LongAccumulator(Math::max, 0);
+
+  private final Object lock = new Object();
+  private Map<K, CompletableFuture<Result<V, E>>> pending = new LinkedHashMap<>();
+  private boolean dispatchScheduled = false;
+
+  public ResultBatchLoader(
+    BatchLoaderPolicy<K, E> policy,
+    Function<? super Set<K>, ? extends CompletionStage<Map<K, Result<V, E>>>> bulkLoader,
+    ScheduledExecutorService scheduler
+  ) {
+    this.policy = policy;
+    this.bulkLoader = bulkLoader;
+    this.scheduler = scheduler;
+  }
+
+  public CompletableFuture<Result<V, E>> load(K key) {
+    if (policy.isCachingEnabled()) {
+      CompletableFuture<Result<V, E>> cached = cache.get(key);
+      if (cached != null) {
+        cacheHitCount.increment();
+        return cached;
+      }
+    }
+
+    Map<K, CompletableFuture<Result<V, E>>> batch = null;
+    boolean scheduleDispatch = false;
+    CompletableFuture<Result<V, E>> future;
+    synchronized (lock) {
+      future = pending.get(key);
+      if (future != null) {
+        cacheHitCount.increment();
+        return future;
+      }
+
+      future = new CompletableFuture<>();
+      pending.put(key, future);
+      if (policy.isCachingEnabled()) {
+        cache.put(key, future);
+      }
+
+      if (pending.size() >= policy.getMaxBatchSize()) {
+        batch = takePending();
+      } else if (!dispatchScheduled) {
+        dispatchScheduled = true;
+        scheduleDispatch = true;
+      }
+    }
+
+    if (batch != null) {
+      dispatch(batch);
+    } else if (scheduleDispatch) {
+      scheduleDispatch();
+    }
+    return future;
+  }
+
+  /**
+   * Dispatches the keys loaded so far without waiting for the batch to fill up.
+   */
+  public void dispatch() {
+    Map<K, CompletableFuture<Result<V, E>>> batch;
+    synchronized (lock) {
+      batch = takePending();
+    }
+    dispatch(batch);
+  }
+
+  public void clear(K key) {
+    cache.remove(key);
+  }
+
+  public void clearAll() {
+    cache.clear();
+  }
+
+  public long getBatchCount() {
+    return batchCount.sum();
+  }
+
+  /**
+   * Total number of keys sent to the bulk loader, across all batches.
+   */
+  public long getBatchedKeyCount() {
+    return batchedKeyCount.sum();
+  }
+
+  public long getLargestBatchSize() {
+    return largestBatchSize.get();
+  }
+
+  /**
+   * Number of loads answered from the cache or joined to a key already waiting in a
+   * batch.
+   */
+  public long getCacheHitCount() {
+    return cacheHitCount.sum();
+  }
+
+  private void scheduleDispatch() {
+    try {
+      scheduler.schedule(
+        this::dispatchScheduled,
+        policy.getMaxDelay().toNanos(),
+        TimeUnit.NANOSECONDS
+      );
+    } catch (RuntimeException e) {
+      // nothing else would dispatch the keys waiting on this delay, such as after the
+      // scheduler was shut down
+      Map<K, CompletableFuture<Result<V, E>>> batch;
+      synchronized (lock) {
+        dispatchScheduled = false;
+        batch = takePending();
+      }
+      fail(batch, e);
+    }
+  }
+
+  private void dispatchScheduled() {
+    Map<K, CompletableFuture<Result<V, E>>> batch;
+    synchronized (lock) {
+      dispatchScheduled = false;
+      batch = takePending();
+    }
+    dispatch(batch);
+  }
+
+  private Map<K, CompletableFuture<Result<V, E>>> takePending() {
+    if (pending.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Map<K, CompletableFuture<Result<V, E>>> batch = pending;
+    pending = new LinkedHashMap<>();
+    return batch;
+  }
+
+  private void dispatch(Map<K, CompletableFuture<Result<V, E>>> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    batchCount.increment();
+    batchedKeyCount.add(batch.size());
+    largestBatchSize.accumulate(batch.size());
+
+    try {
+      bulkLoader
+        .apply(Collections.unmodifiableSet(new LinkedHashSet<>(batch.keySet())))
+        .whenComplete((results, throwable) -> {
+          if (throwable != null) {
+            fail(batch, throwable);
+          } else {
+            complete(batch, results);
+          }
+        });
+    } catch (RuntimeException e) {
+      fail(batch, e);
+    }
+  }
+
+  private void complete(
+    Map<K, CompletableFuture<Result<V, E>>> batch,
+    Map<K, Result<V, E>> results
+  ) {
+    for (Map.Entry<K, CompletableFuture<Result<V, E>>> entry : batch.entrySet()) {
+      try {
+        Result<V, E> result = results == null ? null : results.get(entry.getKey());
+        if (result == null) {
+          result = Result.err(policy.getMissingKeyErrorFactory().apply(entry.getKey()));
+        }
+        entry.getValue().complete(result);
+      } catch (RuntimeException e) {
+        fail(entry.getKey(), entry.getValue(), e);
+      }
+    }
+  }
+
+  private void fail(Map<K, CompletableFuture<Result<V, E>>> batch, Throwable throwable) {
+    for (Map.Entry<K, CompletableFuture<Result<V, E>>> entry : batch.entrySet()) {
+      fail(entry.getKey(), entry.getValue(), throwable);
+    }
+  }
+
+  private void fail(K key, CompletableFuture<Result<V, E>> future, Throwable throwable) {
+    // failed lookups are not cached, so that a later load can try again
+    cache.remove(key, future);
+    future.completeExceptionally(throwable);
+  }
+}
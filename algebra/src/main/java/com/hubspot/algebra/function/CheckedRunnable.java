@@ -0,0 +1,6 @@
+package com.hubspot.algebra.function;
+
+@FunctionalInterface
+public interface CheckedRunnable<X extends Exception> {
+  void run() throws X;
+}
@@ -0,0 +1,6 @@
+package com.hubspot.algebra.function;
+
+@FunctionalInterface
+public interface CheckedSupplier<T, X extends Exception> {
+  T get() throws X;
+}
@@ -0,0 +1,174 @@
+package com.hubspot.algebra.metrics;
+
+import com.hubspot.algebra.Result;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Counts the outcomes of one call site. Recording a Result costs a {@link LongAdder}
+ * increment, plus a map lookup by error class for Errs.
+ *
+ * Calls that throw, or whose stage fails, instead of returning a Result are counted as
+ * failures, by exception class, apart from the Errs.
+ */
+public class ResultInstrument {
+
+  private final String name;
+  private final ResultMetrics metrics;
+  private final LongAdder okCount = new LongAdder();
+  private final LongAdder errCount = new LongAdder();
+  private final ConcurrentMap<Class<?>, LongAdder> errCountsByClass =
+    new ConcurrentHashMap<>();
+  private final LongAdder failureCount = new LongAdder();
+  private final ConcurrentMap<Class<?>, LongAdder> failureCountsByClass =
+    new ConcurrentHashMap<>();
+  private final LongAdder latencyCount = new LongAdder();
+  private final LongAdder totalLatencyNanos = new LongAdder();
+
+  ResultInstrument(String name, ResultMetrics metrics) {
+    this.name = name;
+    this.metrics = metrics;
+  }
+
+  public <T, E> Result<T, E> record(Result<T, E> result) {
+    if (result.isOk()) {
+      okCount.increment();
+    } else {
+      errCount.increment();
+      Object error = result.unwrapErrOrElseThrow();
+      Class<?> errorClass = error == null ? Void.class : error.getClass();
+      LongAdder counter = errCountsByClass.get(errorClass);
+      if (counter == null) {
+        counter = newCounter(errCountsByClass, errorClass, metrics::onErrorClassRecorded);
+      }
+      counter.increment();
+    }
+    return result;
+  }
+
+  public <T, E> Result<T, E> call(Supplier<Result<T, E>> supplier) {
+    long start = System.nanoTime();
+    Result<T, E> result;
+    try {
+      result = supplier.get();
+    } catch (RuntimeException | Error e) {
+      recordLatency(start);
+      recordFailure(e);
+      throw e;
+    }
+    recordLatency(start);
+    return record(result);
+  }
+
+  public <T, E> CompletableFuture<Result<T, E>> callAsync(
+    Supplier<? extends CompletionStage<Result<T, E>>> supplier
+  ) {
+    long start = System.nanoTime();
+    CompletionStage<Result<T, E>> stage;
+    try {
+      stage = supplier.get();
+    } catch (RuntimeException | Error e) {
+      recordLatency(start);
+      recordFailure(e);
+      throw e;
+    }
+
+    return stage
+      .whenComplete((result, throwable) -> {
+        recordLatency(start);
+        if (throwable == null) {
+          record(result);
+        } else {
+          recordFailure(throwable);
+        }
+      })
+      .toCompletableFuture();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getOkCount() {
+    return okCount.sum();
+  }
+
+  public long getErrCount() {
+    return errCount.sum();
+  }
+
+  public long getErrCount(Class<?> errorClass) {
+    LongAdder counter = errCountsByClass.get(errorClass);
+    return counter == null ? 0 : counter.sum();
+  }
+
+  public Map<Class<?>, LongAdder> getErrCountsByClass() {
+    return Collections.unmodifiableMap(errCountsByClass);
+  }
+
+  /**
+   * Number of calls that threw, or whose stage failed, instead of returning a Result.
+   */
+  public long getFailureCount() {
+    return failureCount.sum();
+  }
+
+  public long getFailureCount(Class<?> exceptionClass) {
+    LongAdder counter = failureCountsByClass.get(exceptionClass);
+    return counter == null ? 0 : counter.sum();
+  }
+
+  public Map<Class<?>, LongAdder> getFailureCountsByClass() {
+    return Collections.unmodifiableMap(failureCountsByClass);
+  }
+
+  public long getLatencyCount() {
+    return latencyCount.sum();
+  }
+
+  public long getTotalLatencyNanos() {
+    return totalLatencyNanos.sum();
+  }
+
+  private void recordLatency(long startNanos) {
+    totalLatencyNanos.add(System.nanoTime() - startNanos);
+    latencyCount.increment();
+  }
+
+  private void recordFailure(Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException &&
+      throwable.getCause() != null
+      ? throwable.getCause()
+      : throwable;
+    failureCount.increment();
+    LongAdder counter = failureCountsByClass.get(cause.getClass());
+    if (counter == null) {
+      counter =
+        newCounter(failureCountsByClass, cause.getClass(), metrics::onFailureClassRecorded);
+    }
+    counter.increment();
+  }
+
+  private LongAdder newCounter(
+    ConcurrentMap<Class<?>, LongAdder> counters,
+    Class<?> type,
+    BiConsumer<ResultInstrument, Class<?>> onCreated
+  ) {
+    LongAdder created = new LongAdder();
+    LongAdder existing = counters.putIfAbsent(type, created);
+    if (existing != null) {
+      return existing;
+    }
+
+    onCreated.accept(this, type);
+    return created;
+  }
+}
@@ -0,0 +1,69 @@
+package com.hubspot.algebra.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of per call site {@link ResultInstrument}s.
+ *
+ * <pre>
+ * Result&lt;User, LookupError&gt; user = metrics.instrument("getUser").call(() -&gt; client.getUser(id));
+ * </pre>
+ */
+public class ResultMetrics {
+
+  private final ConcurrentMap<String, ResultInstrument> instruments =
+    new ConcurrentHashMap<>();
+  private final List<ResultMetricsExporter> exporters = new CopyOnWriteArrayList<>();
+
+  public ResultInstrument instrument(String name) {
+    ResultInstrument instrument = instruments.get(name);
+    if (instrument != null) {
+      return instrument;
+    }
+
+    ResultInstrument created = new ResultInstrument(name, this);
+    ResultInstrument existing = instruments.putIfAbsent(name, created);
+    if (existing != null) {
+      return existing;
+    }
+
+    exporters.forEach(exporter -> exporter.onInstrumentCreated(created));
+    return created;
+  }
+
+  /**
+   * Registers an exporter and replays every instrument, error class and failure class
+   * recorded so far.
+   */
+  public void addExporter(ResultMetricsExporter exporter) {
+    exporters.add(exporter);
+    for (ResultInstrument instrument : instruments.values()) {
+      exporter.onInstrumentCreated(instrument);
+      for (Class<?> errorClass : instrument.getErrCountsByClass().keySet()) {
+        exporter.onErrorClassRecorded(instrument, errorClass);
+      }
+      for (Class<?> exceptionClass : instrument.getFailureCountsByClass().keySet()) {
+        exporter.onFailureClassRecorded(instrument, exceptionClass);
+      }
+    }
+  }
+
+  public Collection<ResultInstrument> getInstruments() {
+    return Collections.unmodifiableCollection(instruments.values());
+  }
+
+  void onErrorClassRecorded(ResultInstrument instrument, Class<?> errorClass) {
+    exporters.forEach(exporter -> exporter.onErrorClassRecorded(instrument, errorClass));
+  }
+
+  void onFailureClassRecorded(ResultInstrument instrument, Class<?> exceptionClass) {
+    exporters.forEach(exporter ->
+      exporter.onFailureClassRecorded(instrument, exceptionClass)
+    );
+  }
+}
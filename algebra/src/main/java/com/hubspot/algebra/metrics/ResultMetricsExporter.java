@@ -0,0 +1,23 @@
+package com.hubspot.algebra.metrics;
+
+/**
+ * Notified when new counters come into existence, so that an exporter can bind to them
+ * once and read them on its own schedule. Nothing is called on the recording path.
+ *
+ * An exporter added while counters are being created may be notified of the same counter
+ * twice, so binding must be idempotent.
+ */
+public interface ResultMetricsExporter {
+  void onInstrumentCreated(ResultInstrument instrument);
+
+  void onErrorClassRecorded(ResultInstrument instrument, Class<?> errorClass);
+
+  /**
+   * Called the first time a call of the instrument fails with this exception class, see
+   * {@link ResultInstrument#getFailureCount(Class)}.
+   */
+  default void onFailureClassRecorded(
+    ResultInstrument instrument,
+    Class<?> exceptionClass
+  ) {}
+}
@@ -0,0 +1,79 @@
+package com.hubspot.algebra.parse;
+
+import com.hubspot.algebra.HttpError;
+import java.util.Objects;
+
+/**
+ * Why a {@link Parsers} call rejected its input. A client error, so the status code is
+ * 400.
+ */
+public final class ParseError implements HttpError {
+
+  public enum Reason {
+    EMPTY,
+    INVALID_CHARACTER,
+    INVALID_LENGTH,
+    OUT_OF_RANGE,
+    UNKNOWN_VALUE,
+  }
+
+  private final String type;
+  private final Reason reason;
+  private final int position;
+
+  private ParseError(String type, Reason reason, int position) {
+    this.type = type;
+    this.reason = reason;
+    this.position = position;
+  }
+
+  static ParseError of(String type, Reason reason, int position) {
+    return new ParseError(type, reason, position);
+  }
+
+  /**
+   * Name of the type that was being parsed, such as "int" or "UUID".
+   */
+  public String getType() {
+    return type;
+  }
+
+  public Reason getReason() {
+    return reason;
+  }
+
+  /**
+   * Index in the input of the character that was rejected, or the start of the parsed
+   * range when the range as a whole was rejected.
+   */
+  public int getPosition() {
+    return position;
+  }
+
+  public String getMessage() {
+    return "Invalid " + type + ": " + reason + " at position " + position;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (!(obj instanceof ParseError)) {
+      return false;
+    }
+    ParseError that = (ParseError) obj;
+    return (
+      position == that.position && reason == that.reason && type.equals(that.type)
+    );
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(type, reason, position);
+  }
+
+  @Override
+  public String toString() {
+    return "ParseError[" + type + ", " + reason + ", " + position + "]";
+  }
+}
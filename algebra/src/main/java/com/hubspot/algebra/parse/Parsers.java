@@ -0,0 +1,310 @@
+package com.hubspot.algebra.parse;
+
+import com.google.common.base.Preconditions;
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.parse.ParseError.Reason;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.UUID;
+
+/**
+ * Parsers that report bad input as an Err instead of throwing, so rejecting a value costs
+ * no more than accepting it. Every parser reads a range of a {@link CharSequence} in
+ * place, without taking a substring first.
+ *
+ * <pre>
+ * Result&lt;Long, ParseError&gt; id = Parsers.parseLong(path, slash + 1, path.length());
+ * </pre>
+ *
+ * The formats are strict: no surrounding whitespace, no leading plus sign, and UUIDs and
+ * dates must be in their canonical forms.
+ */
+public final class Parsers {
+
+  private static final String INT = "int";
+  private static final String LONG = "long";
+  private static final String UUID_TYPE = "UUID";
+  private static final String DATE = "ISO date";
+  private static final Reason[] REASONS = Reason.values();
+
+  private static final ClassValue<Enum<?>[]> ENUM_CONSTANTS =
+    new ClassValue<Enum<?>[]>() {
+      @Override
+      protected Enum<?>[] computeValue(Class<?> type) {
+        return (Enum<?>[]) type.getEnumConstants();
+      }
+    };
+
+  private Parsers() {}
+
+  public static Result<Integer, ParseError> parseInt(CharSequence input) {
+    return parseInt(input, 0, input.length());
+  }
+
+  public static Result<Integer, ParseError> parseInt(
+    CharSequence input,
+    int start,
+    int end
+  ) {
+    long scanned = scan(input, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    return scanned > 0
+      ? Result.err(error(INT, scanned))
+      : Result.ok((int) value(input, start, scanned));
+  }
+
+  /**
+   * Returns the parsed value, or the fallback if the input is not a valid int.
+   */
+  public static int parseIntOr(CharSequence input, int fallback) {
+    return parseIntOr(input, 0, input.length(), fallback);
+  }
+
+  public static int parseIntOr(CharSequence input, int start, int end, int fallback) {
+    long scanned = scan(input, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    return scanned > 0 ? fallback : (int) value(input, start, scanned);
+  }
+
+  public static Result<Long, ParseError> parseLong(CharSequence input) {
+    return parseLong(input, 0, input.length());
+  }
+
+  public static Result<Long, ParseError> parseLong(
+    CharSequence input,
+    int start,
+    int end
+  ) {
+    long scanned = scan(input, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+    return scanned > 0
+      ? Result.err(error(LONG, scanned))
+      : Result.ok(value(input, start, scanned));
+  }
+
+  /**
+   * Returns the parsed value, or the fallback if the input is not a valid long.
+   */
+  public static long parseLongOr(CharSequence input, long fallback) {
+    return parseLongOr(input, 0, input.length(), fallback);
+  }
+
+  public static long parseLongOr(CharSequence input, int start, int end, long fallback) {
+    long scanned = scan(input, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+    return scanned > 0 ? fallback : value(input, start, scanned);
+  }
+
+  public static Result<UUID, ParseError> parseUuid(CharSequence input) {
+    return parseUuid(input, 0, input.length());
+  }
+
+  /**
+   * Parses the canonical 8-4-4-4-12 hex form, in either case.
+   */
+  public static Result<UUID, ParseError> parseUuid(
+    CharSequence input,
+    int start,
+    int end
+  ) {
+    checkRange(input, start, end);
+    if (start == end) {
+      return Result.err(ParseError.of(UUID_TYPE, Reason.EMPTY, start));
+    }
+    if (end - start != 36) {
+      return Result.err(ParseError.of(UUID_TYPE, Reason.INVALID_LENGTH, start));
+    }
+
+    long mostSignificant = 0;
+    long leastSignificant = 0;
+    for (int i = 0; i < 36; i++) {
+      char c = input.charAt(start + i);
+      if (i == 8 || i == 13 || i == 18 || i == 23) {
+        if (c != '-') {
+          return Result.err(
+            ParseError.of(UUID_TYPE, Reason.INVALID_CHARACTER, start + i)
+          );
+        }
+        continue;
+      }
+
+      int digit = hexDigit(c);
+      if (digit < 0) {
+        return Result.err(ParseError.of(UUID_TYPE, Reason.INVALID_CHARACTER, start + i));
+      }
+      if (i < 18) {
+        mostSignificant = (mostSignificant << 4) | digit;
+      } else {
+        leastSignificant = (leastSignificant << 4) | digit;
+      }
+    }
+    return Result.ok(new UUID(mostSignificant, leastSignificant));
+  }
+
+  public static <T extends Enum<T>> Result<T, ParseError> parseEnum(
+    Class<T> type,
+    CharSequence input
+  ) {
+    return parseEnum(type, input, 0, input.length());
+  }
+
+  /**
+   * Matches the range against the constant names exactly, like {@link Enum#valueOf}.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends Enum<T>> Result<T, ParseError> parseEnum(
+    Class<T> type,
+    CharSequence input,
+    int start,
+    int end
+  ) {
+    checkRange(input, start, end);
+    if (start == end) {
+      return Result.err(ParseError.of(type.getSimpleName(), Reason.EMPTY, start));
+    }
+
+    int length = end - start;
+    for (Enum<?> constant : ENUM_CONSTANTS.get(type)) {
+      String name = constant.name();
+      if (name.length() == length && regionEquals(name, input, start)) {
+        return Result.ok((T) constant);
+      }
+    }
+    return Result.err(ParseError.of(type.getSimpleName(), Reason.UNKNOWN_VALUE, start));
+  }
+
+  public static Result<LocalDate, ParseError> parseIsoDate(CharSequence input) {
+    return parseIsoDate(input, 0, input.length());
+  }
+
+  /**
+   * Parses a four digit year date in the form yyyy-MM-dd.
+   */
+  public static Result<LocalDate, ParseError> parseIsoDate(
+    CharSequence input,
+    int start,
+    int end
+  ) {
+    checkRange(input, start, end);
+    if (start == end) {
+      return Result.err(ParseError.of(DATE, Reason.EMPTY, start));
+    }
+    if (end - start != 10) {
+      return Result.err(ParseError.of(DATE, Reason.INVALID_LENGTH, start));
+    }
+    if (input.charAt(start + 4) != '-') {
+      return Result.err(ParseError.of(DATE, Reason.INVALID_CHARACTER, start + 4));
+    }
+    if (input.charAt(start + 7) != '-') {
+      return Result.err(ParseError.of(DATE, Reason.INVALID_CHARACTER, start + 7));
+    }
+
+    int year = digits(input, start, start + 4);
+    if (year < 0) {
+      return Result.err(ParseError.of(DATE, Reason.INVALID_CHARACTER, -year - 1));
+    }
+    int month = digits(input, start + 5, start + 7);
+    if (month < 0) {
+      return Result.err(ParseError.of(DATE, Reason.INVALID_CHARACTER, -month - 1));
+    }
+    int day = digits(input, start + 8, start + 10);
+    if (day < 0) {
+      return Result.err(ParseError.of(DATE, Reason.INVALID_CHARACTER, -day - 1));
+    }
+
+    if (month < 1 || month > 12) {
+      return Result.err(ParseError.of(DATE, Reason.OUT_OF_RANGE, start + 5));
+    }
+    if (day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+      return Result.err(ParseError.of(DATE, Reason.OUT_OF_RANGE, start + 8));
+    }
+    return Result.ok(LocalDate.of(year, month, day));
+  }
+
+  /**
+   * Scans a decimal number between min and max in a single pass, like
+   * {@link Long#parseLong}. The digits are accumulated as a negative number, so that min
+   * fits, and a valid range returns a value of zero or less. An invalid range returns a
+   * positive value encoding the reason and position, see {@link #error}.
+   */
+  private static long scan(CharSequence input, int start, int end, long min, long max) {
+    checkRange(input, start, end);
+    if (start == end) {
+      return failure(Reason.EMPTY, start);
+    }
+
+    boolean negative = input.charAt(start) == '-';
+    int i = negative ? start + 1 : start;
+    if (i == end) {
+      return failure(Reason.INVALID_CHARACTER, start);
+    }
+
+    long limit = negative ? min : -max;
+    long multiplyLimit = limit / 10;
+    long accumulated = 0;
+    for (; i < end; i++) {
+      int digit = input.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return failure(Reason.INVALID_CHARACTER, i);
+      }
+      if (accumulated < multiplyLimit) {
+        return failure(Reason.OUT_OF_RANGE, start);
+      }
+      accumulated *= 10;
+      if (accumulated < limit + digit) {
+        return failure(Reason.OUT_OF_RANGE, start);
+      }
+      accumulated -= digit;
+    }
+    return accumulated;
+  }
+
+  private static long value(CharSequence input, int start, long accumulated) {
+    return input.charAt(start) == '-' ? accumulated : -accumulated;
+  }
+
+  private static long failure(Reason reason, int position) {
+    return 1 + (((long) position << 3) | reason.ordinal());
+  }
+
+  private static ParseError error(String type, long failure) {
+    long code = failure - 1;
+    return ParseError.of(type, REASONS[(int) (code & 7)], (int) (code >>> 3));
+  }
+
+  /**
+   * Returns the value of a run of decimal digits, or -(index + 1) of the first non digit.
+   */
+  private static int digits(CharSequence input, int start, int end) {
+    int value = 0;
+    for (int i = start; i < end; i++) {
+      int digit = input.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -i - 1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  private static int hexDigit(char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    } else if (c >= 'a' && c <= 'f') {
+      return c - 'a' + 10;
+    } else if (c >= 'A' && c <= 'F') {
+      return c - 'A' + 10;
+    }
+    return -1;
+  }
+
+  private static boolean regionEquals(String name, CharSequence input, int start) {
+    for (int i = 0; i < name.length(); i++) {
+      if (name.charAt(i) != input.charAt(start + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void checkRange(CharSequence input, int start, int end) {
+    Preconditions.checkPositionIndexes(start, end, input.length());
+  }
+}
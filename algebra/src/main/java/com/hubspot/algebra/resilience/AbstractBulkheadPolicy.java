@@ -0,0 +1,80 @@
+package com.hubspot.algebra.resilience;
+
+import com.google.common.base.Preconditions;
+import com.hubspot.algebra.HttpError;
+import com.hubspot.immutables.style.HubSpotStyle;
+import java.time.Duration;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Default;
+import org.immutables.value.Value.Immutable;
+
+@Immutable
+@HubSpotStyle
+public abstract class AbstractBulkheadPolicy<E> {
+
+  /**
+   * Err returned without calling through when the concurrency limit is reached. If it
+   * is an {@link HttpError} its status code should be 429 or 503. The supplier is only
+   * called on rejection.
+   */
+  public abstract Supplier<? extends E> getRejectionErrorSupplier();
+
+  /**
+   * Decides whether an Err means the downstream is overloaded and the limit should
+   * shrink. Errs that don't are treated like Oks.
+   */
+  @Default
+  public Predicate<? super E> getFailurePredicate() {
+    return err -> true;
+  }
+
+  @Default
+  public int getInitialLimit() {
+    return 20;
+  }
+
+  @Default
+  public int getMinLimit() {
+    return 1;
+  }
+
+  @Default
+  public int getMaxLimit() {
+    return 200;
+  }
+
+  /**
+   * Calls slower than this shrink the limit like failures do.
+   */
+  @Default
+  public Duration getLatencyThreshold() {
+    return Duration.ofSeconds(1);
+  }
+
+  /**
+   * Factor the limit is multiplied by after a failure or a slow call.
+   */
+  @Default
+  public double getBackoffRatio() {
+    return 0.9;
+  }
+
+  @Check
+  void checkValues() {
+    Preconditions.checkState(getMinLimit() >= 1, "minLimit must be at least 1");
+    Preconditions.checkState(
+      getMinLimit() <= getInitialLimit() && getInitialLimit() <= getMaxLimit(),
+      "initialLimit must be between minLimit and maxLimit"
+    );
+    Preconditions.checkState(
+      getLatencyThreshold().compareTo(Duration.ZERO) > 0,
+      "latencyThreshold must be positive"
+    );
+    Preconditions.checkState(
+      getBackoffRatio() >= 0.5 && getBackoffRatio() < 1,
+      "backoffRatio must be at least 0.5 and less than 1"
+    );
+  }
+}
@@ -0,0 +1,57 @@
+package com.hubspot.algebra.resilience;
+
+import com.google.common.base.Preconditions;
+import com.hubspot.immutables.style.HubSpotStyle;
+import java.time.Duration;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Default;
+import org.immutables.value.Value.Immutable;
+
+@Immutable
+@HubSpotStyle
+public abstract class AbstractCircuitBreakerPolicy<E> {
+
+  /**
+   * Err returned without calling through while the circuit is open.
+   */
+  public abstract Supplier<? extends E> getRejectionErrorSupplier();
+
+  /**
+   * Decides whether an Err counts towards opening the circuit. Errs that don't are
+   * treated like Oks.
+   */
+  @Default
+  public Predicate<? super E> getFailurePredicate() {
+    return err -> true;
+  }
+
+  /**
+   * Number of consecutive failures that opens the circuit.
+   */
+  @Default
+  public int getFailureThreshold() {
+    return 5;
+  }
+
+  /**
+   * How long the circuit stays open before a single trial call is let through.
+   */
+  @Default
+  public Duration getOpenDuration() {
+    return Duration.ofSeconds(30);
+  }
+
+  @Check
+  void checkValues() {
+    Preconditions.checkState(
+      getFailureThreshold() >= 1,
+      "failureThreshold must be at least 1"
+    );
+    Preconditions.checkState(
+      !getOpenDuration().isNegative(),
+      "openDuration must not be negative"
+    );
+  }
+}
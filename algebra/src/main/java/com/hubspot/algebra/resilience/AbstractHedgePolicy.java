@@ -0,0 +1,87 @@
+package com.hubspot.algebra.resilience;
+
+import com.google.common.base.Preconditions;
+import com.hubspot.immutables.style.HubSpotStyle;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.OptionalDouble;
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Default;
+import org.immutables.value.Value.Immutable;
+
+@Immutable
+@HubSpotStyle
+public abstract class AbstractHedgePolicy<E> {
+
+  /**
+   * How long the first attempt runs before a backup attempt is started. Used until
+   * enough latencies have been observed when {@link #getDelayPercentile()} is set.
+   */
+  @Default
+  public Duration getHedgeDelay() {
+    return Duration.ofMillis(50);
+  }
+
+  /**
+   * When set, the hedge delay follows this percentile (between 0 and 100) of the
+   * latencies of the last {@link #getLatencySampleSize()} attempts.
+   */
+  public abstract OptionalDouble getDelayPercentile();
+
+  @Default
+  public int getLatencySampleSize() {
+    return 1000;
+  }
+
+  /**
+   * Upper bound on the fraction of calls that start a backup attempt. Every call adds
+   * this much to the hedge budget, and every backup attempt spends one.
+   */
+  @Default
+  public double getMaxHedgeRatio() {
+    return 0.1;
+  }
+
+  /**
+   * How many backup attempts the hedge budget can save up, which bounds a burst of hedges
+   * after a long run of calls that needed none.
+   */
+  @Default
+  public int getMaxHedgeBurst() {
+    return 10;
+  }
+
+  /**
+   * Picks the Err to return when both attempts fail: the one that sorts first wins, and
+   * ties go to the first attempt.
+   */
+  @Default
+  public Comparator<? super E> getErrComparator() {
+    return (first, second) -> 0;
+  }
+
+  @Check
+  void checkValues() {
+    Preconditions.checkState(
+      !getHedgeDelay().isNegative(),
+      "hedgeDelay must not be negative"
+    );
+    Preconditions.checkState(
+      !getDelayPercentile().isPresent() ||
+      (
+        getDelayPercentile().getAsDouble() > 0 &&
+        getDelayPercentile().getAsDouble() < 100
+      ),
+      "delayPercentile must be between 0 and 100"
+    );
+    Preconditions.checkState(
+      getLatencySampleSize() >= 1,
+      "latencySampleSize must be at least 1"
+    );
+    Preconditions.checkState(
+      getMaxHedgeRatio() >= 0 && getMaxHedgeRatio() <= 1,
+      "maxHedgeRatio must be between 0 and 1"
+    );
+    Preconditions.checkState(getMaxHedgeBurst() >= 1, "maxHedgeBurst must be at least 1");
+  }
+}
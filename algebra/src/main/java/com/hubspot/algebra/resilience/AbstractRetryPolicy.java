@@ -0,0 +1,76 @@
+package com.hubspot.algebra.resilience;
+
+import com.google.common.base.Preconditions;
+import com.hubspot.algebra.HttpError;
+import com.hubspot.immutables.style.HubSpotStyle;
+import java.time.Duration;
+import java.util.function.Predicate;
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Default;
+import org.immutables.value.Value.Immutable;
+
+@Immutable
+@HubSpotStyle
+public abstract class AbstractRetryPolicy<E> {
+
+  /**
+   * Retries rate limited (429) and server side (5xx) errors.
+   */
+  public static boolean isRetryableHttpError(HttpError error) {
+    int statusCode = error.getStatusCode();
+    return statusCode == 429 || statusCode >= 500;
+  }
+
+  /**
+   * Decides whether an Err value is worth another attempt.
+   */
+  public abstract Predicate<? super E> getRetryableErrorPredicate();
+
+  /**
+   * Total number of attempts, including the first one.
+   */
+  @Default
+  public int getMaxAttempts() {
+    return 3;
+  }
+
+  @Default
+  public Duration getInitialBackoff() {
+    return Duration.ofMillis(100);
+  }
+
+  @Default
+  public Duration getMaxBackoff() {
+    return Duration.ofSeconds(10);
+  }
+
+  @Default
+  public double getBackoffMultiplier() {
+    return 2;
+  }
+
+  /**
+   * Fraction of each backoff that is randomized away, between 0 (no jitter) and 1 (full jitter).
+   */
+  @Default
+  public double getJitterFactor() {
+    return 0.5;
+  }
+
+  @Check
+  void checkValues() {
+    Preconditions.checkState(getMaxAttempts() >= 1, "maxAttempts must be at least 1");
+    Preconditions.checkState(
+      !getInitialBackoff().isNegative() && !getMaxBackoff().isNegative(),
+      "backoffs must not be negative"
+    );
+    Preconditions.checkState(
+      getBackoffMultiplier() >= 1,
+      "backoffMultiplier must be at least 1"
+    );
+    Preconditions.checkState(
+      getJitterFactor() >= 0 && getJitterFactor() <= 1,
+      "jitterFactor must be between 0 and 1"
+    );
+  }
+}
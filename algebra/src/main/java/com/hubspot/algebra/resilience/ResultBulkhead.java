@@ -0,0 +1,172 @@
+package com.hubspot.algebra.resilience;
+
+import com.google.common.base.Ticker;
+import com.hubspot.algebra.Result;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of calls in flight and returns an Err instead of queueing when the cap
+ * is reached.
+ *
+ * The cap adapts with AIMD: every call that completes in time without a failure while
+ * the bulkhead is at least half full raises it by {@code 1 / limit}, so it grows by about
+ * one per round trip, and every failure or call slower than
+ * {@link BulkheadPolicy#getLatencyThreshold()} multiplies it by
+ * {@link BulkheadPolicy#getBackoffRatio()}. Permits and the limit are kept in atomics,
+ * so callers never block on each other.
+ */
+public class ResultBulkhead<E> {
+
+  private final BulkheadPolicy<E> policy;
+  private final Ticker ticker;
+  private final long latencyThresholdNanos;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong limitBits;
+  private final LongAdder rejectedCount = new LongAdder();
+
+  public ResultBulkhead(BulkheadPolicy<E> policy) {
+    this(policy, Ticker.systemTicker());
+  }
+
+  ResultBulkhead(BulkheadPolicy<E> policy, Ticker ticker) {
+    this.policy = policy;
+    this.ticker = ticker;
+    this.latencyThresholdNanos = policy.getLatencyThreshold().toNanos();
+    this.limitBits = new AtomicLong(Double.doubleToLongBits(policy.getInitialLimit()));
+  }
+
+  public <T> Result<T, E> call(Supplier<Result<T, E>> supplier) {
+    int inFlightBefore = tryAcquire();
+    if (inFlightBefore < 0) {
+      return reject();
+    }
+
+    long start = ticker.read();
+    Result<T, E> result = null;
+    try {
+      result = supplier.get();
+      return result;
+    } finally {
+      release(result, start, inFlightBefore);
+    }
+  }
+
+  public <T> CompletableFuture<Result<T, E>> callAsync(
+    Supplier<? extends CompletionStage<Result<T, E>>> supplier
+  ) {
+    int inFlightBefore = tryAcquire();
+    if (inFlightBefore < 0) {
+      return CompletableFuture.completedFuture(reject());
+    }
+
+    long start = ticker.read();
+    CompletionStage<Result<T, E>> stage;
+    try {
+      stage = Objects.requireNonNull(supplier.get(), "supplier returned a null stage");
+    } catch (RuntimeException | Error e) {
+      release(null, start, inFlightBefore);
+      CompletableFuture<Result<T, E>> failed = new CompletableFuture<>();
+      failed.completeExceptionally(e);
+      return failed;
+    }
+
+    return stage
+      .whenComplete((result, throwable) ->
+        release(throwable == null ? result : null, start, inFlightBefore)
+      )
+      .toCompletableFuture();
+  }
+
+  /**
+   * The current concurrency limit, between the policy's min and max limits.
+   */
+  public int getLimit() {
+    return (int) limit();
+  }
+
+  public int getInFlightCount() {
+    return inFlight.get();
+  }
+
+  public long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  /**
+   * Returns the number of calls in flight before this one, or -1 if the limit is reached.
+   */
+  private int tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= getLimit()) {
+        return -1;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return current;
+      }
+    }
+  }
+
+  private <T> Result<T, E> reject() {
+    rejectedCount.increment();
+    return Result.err(policy.getRejectionErrorSupplier().get());
+  }
+
+  /**
+   * Returns the permit and adapts the limit. A null result means the call failed without
+   * returning one. If the failure predicate throws, the call counts as a failure and the
+   * exception is rethrown once the permit is back.
+   */
+  private void release(Result<?, E> result, long startNanos, int inFlightBefore) {
+    inFlight.decrementAndGet();
+
+    boolean success = false;
+    try {
+      success = result != null && isSuccess(result, startNanos);
+    } finally {
+      adaptLimit(success, inFlightBefore);
+    }
+  }
+
+  private boolean isSuccess(Result<?, E> result, long startNanos) {
+    if (ticker.read() - startNanos > latencyThresholdNanos) {
+      return false;
+    }
+    return !(
+      result.isErr() && policy.getFailurePredicate().test(result.unwrapErrOrElseThrow())
+    );
+  }
+
+  private void adaptLimit(boolean success, int inFlightBefore) {
+    while (true) {
+      long currentBits = limitBits.get();
+      double current = Double.longBitsToDouble(currentBits);
+      double updated;
+      if (!success) {
+        updated = Math.max(policy.getMinLimit(), current * policy.getBackoffRatio());
+      } else if ((inFlightBefore + 1) * 2 >= current) {
+        updated = Math.min(policy.getMaxLimit(), current + 1 / current);
+      } else {
+        // the bulkhead is mostly idle, so this call says nothing about a higher limit
+        return;
+      }
+
+      if (
+        updated == current ||
+        limitBits.compareAndSet(currentBits, Double.doubleToLongBits(updated))
+      ) {
+        return;
+      }
+    }
+  }
+
+  private double limit() {
+    return Double.longBitsToDouble(limitBits.get());
+  }
+}
@@ -0,0 +1,186 @@
+package com.hubspot.algebra.resilience;
+
+import com.google.common.base.Ticker;
+import com.hubspot.algebra.Result;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Short-circuits calls to an Err once too many consecutive calls have failed.
+ *
+ * The state machine is kept in atomics, so callers never block on each other. After
+ * {@link CircuitBreakerPolicy#getOpenDuration()} a single trial call is let through: an
+ * Ok closes the circuit again, a failure re-opens it. A trial that hasn't completed
+ * after another open duration counts as failed, so a hung trial can't keep the circuit
+ * half open.
+ */
+public class ResultCircuitBreaker<E> {
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN,
+  }
+
+  private static final int CLOSED = 0;
+  private static final int OPEN = 1;
+  private static final int HALF_OPEN = 2;
+
+  private final CircuitBreakerPolicy<E> policy;
+  private final Ticker ticker;
+  private final AtomicInteger state = new AtomicInteger(CLOSED);
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private final LongAdder openedCount = new LongAdder();
+  private final LongAdder rejectedCount = new LongAdder();
+  private volatile long openedAtNanos;
+  private volatile long trialStartedAtNanos;
+
+  public ResultCircuitBreaker(CircuitBreakerPolicy<E> policy) {
+    this(policy, Ticker.systemTicker());
+  }
+
+  ResultCircuitBreaker(CircuitBreakerPolicy<E> policy, Ticker ticker) {
+    this.policy = policy;
+    this.ticker = ticker;
+  }
+
+  public <T> Result<T, E> call(Supplier<Result<T, E>> supplier) {
+    if (!tryAcquire()) {
+      return reject();
+    }
+
+    Result<T, E> result;
+    try {
+      result = supplier.get();
+    } catch (RuntimeException | Error e) {
+      onFailure();
+      throw e;
+    }
+
+    record(result);
+    return result;
+  }
+
+  public <T> CompletableFuture<Result<T, E>> callAsync(
+    Supplier<? extends CompletionStage<Result<T, E>>> supplier
+  ) {
+    if (!tryAcquire()) {
+      return CompletableFuture.completedFuture(reject());
+    }
+
+    CompletionStage<Result<T, E>> stage;
+    try {
+      stage = Objects.requireNonNull(supplier.get(), "supplier returned a null stage");
+    } catch (RuntimeException | Error e) {
+      onFailure();
+      CompletableFuture<Result<T, E>> failed = new CompletableFuture<>();
+      failed.completeExceptionally(e);
+      return failed;
+    }
+
+    return stage
+      .whenComplete((result, throwable) -> {
+        if (throwable != null) {
+          onFailure();
+        } else {
+          record(result);
+        }
+      })
+      .toCompletableFuture();
+  }
+
+  public State getState() {
+    switch (state.get()) {
+      case OPEN:
+        return State.OPEN;
+      case HALF_OPEN:
+        return State.HALF_OPEN;
+      default:
+        return State.CLOSED;
+    }
+  }
+
+  public long getOpenedCount() {
+    return openedCount.sum();
+  }
+
+  public long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  private boolean tryAcquire() {
+    int current = state.get();
+    if (current == CLOSED) {
+      return true;
+    }
+
+    long now = ticker.read();
+    long openDurationNanos = policy.getOpenDuration().toNanos();
+    if (current == HALF_OPEN) {
+      if (now - trialStartedAtNanos >= openDurationNanos) {
+        // the trial never reported back, e.g. it threw an Error or its stage hangs
+        open(HALF_OPEN);
+      }
+      return false;
+    }
+
+    if (now - openedAtNanos < openDurationNanos) {
+      return false;
+    }
+    // written before the transition, so that anyone seeing HALF_OPEN sees the start time
+    trialStartedAtNanos = now;
+    return state.compareAndSet(OPEN, HALF_OPEN);
+  }
+
+  private <T> Result<T, E> reject() {
+    rejectedCount.increment();
+    return Result.err(policy.getRejectionErrorSupplier().get());
+  }
+
+  private void record(Result<?, E> result) {
+    boolean failed;
+    try {
+      failed =
+        result.isErr() &&
+        policy.getFailurePredicate().test(result.unwrapErrOrElseThrow());
+    } catch (RuntimeException | Error e) {
+      onFailure();
+      throw e;
+    }
+
+    if (failed) {
+      onFailure();
+    } else {
+      onSuccess();
+    }
+  }
+
+  private void onSuccess() {
+    consecutiveFailures.set(0);
+    state.compareAndSet(HALF_OPEN, CLOSED);
+  }
+
+  private void onFailure() {
+    if (state.get() == HALF_OPEN) {
+      open(HALF_OPEN);
+    } else if (consecutiveFailures.incrementAndGet() >= policy.getFailureThreshold()) {
+      open(CLOSED);
+    }
+  }
+
+  private void open(int from) {
+    if (state.get() != from) {
+      return;
+    }
+
+    openedAtNanos = ticker.read();
+    if (state.compareAndSet(from, OPEN)) {
+      consecutiveFailures.set(0);
+      openedCount.increment();
+    }
+  }
+}
@@ -0,0 +1,298 @@
+package com.hubspot.algebra.resilience;
+
+import com.google.common.base.Ticker;
+import com.hubspot.algebra.Result;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Starts a backup attempt when the first one is slower than the hedge delay, and returns
+ * whichever attempt produces an Ok first. The other attempt is cancelled. When both fail,
+ * the Err preferred by {@link HedgePolicy#getErrComparator()} is returned.
+ *
+ * At most {@link HedgePolicy#getMaxHedgeRatio()} of recent calls start a backup attempt,
+ * and at most {@link HedgePolicy#getMaxHedgeBurst()} in a row, so a slow downstream sees
+ * a bounded increase in traffic.
+ *
+ * With {@link HedgePolicy#getDelayPercentile()} the delay follows the latency of recent
+ * attempts. Attempts that fail or are cancelled are sampled too, with the time until
+ * they completed as a lower bound, so slow losers keep the delay from drifting low.
+ */
+public class ResultHedger<E> {
+
+  // the hedge budget is kept in millionths of a backup attempt
+  private static final long HEDGE_COST = 1_000_000;
+
+  private final HedgePolicy<E> policy;
+  private final ScheduledExecutorService scheduler;
+  private final Ticker ticker;
+  private final LongAdder callCount = new LongAdder();
+  private final LongAdder hedgeCount = new LongAdder();
+  private final LongAdder hedgeWinCount = new LongAdder();
+  private final AtomicLong hedgeBudget = new AtomicLong();
+  private final long hedgeBudgetPerCall;
+  private final long maxHedgeBudget;
+  private final AtomicLongArray latencySamples;
+  private final AtomicLong latencySampleCount = new AtomicLong();
+  private final int recomputeInterval;
+  private volatile long hedgeDelayNanos;
+
+  public ResultHedger(HedgePolicy<E> policy, ScheduledExecutorService scheduler) {
+    this(policy, scheduler, Ticker.systemTicker());
+  }
+
+  ResultHedger(HedgePolicy<E> policy, ScheduledExecutorService scheduler, Ticker ticker) {
+    this.policy = policy;
+    this.scheduler = scheduler;
+    this.ticker = ticker;
+    this.latencySamples = new AtomicLongArray(policy.getLatencySampleSize());
+    this.recomputeInterval = Math.max(1, policy.getLatencySampleSize() / 10);
+    this.hedgeBudgetPerCall = Math.round(policy.getMaxHedgeRatio() * HEDGE_COST);
+    this.maxHedgeBudget = policy.getMaxHedgeBurst() * HEDGE_COST;
+    this.hedgeDelayNanos = policy.getHedgeDelay().toNanos();
+  }
+
+  public <T> CompletableFuture<Result<T, E>> callAsync(
+    Supplier<? extends CompletionStage<Result<T, E>>> supplier
+  ) {
+    return callAsync(supplier, supplier);
+  }
+
+  public <T> CompletableFuture<Result<T, E>> callAsync(
+    Supplier<? extends CompletionStage<Result<T, E>>> primary,
+    Supplier<? extends CompletionStage<Result<T, E>>> backup
+  ) {
+    callCount.increment();
+    hedgeBudget.accumulateAndGet(
+      hedgeBudgetPerCall,
+      (budget, added) -> Math.min(maxHedgeBudget, budget + added)
+    );
+    HedgedCall<T> call = new HedgedCall<>(backup);
+    call.start(primary);
+    return call.result;
+  }
+
+  public long getCallCount() {
+    return callCount.sum();
+  }
+
+  public long getHedgeCount() {
+    return hedgeCount.sum();
+  }
+
+  /**
+   * Number of calls answered by the backup attempt.
+   */
+  public long getHedgeWinCount() {
+    return hedgeWinCount.sum();
+  }
+
+  public Duration getHedgeDelay() {
+    return Duration.ofNanos(hedgeDelayNanos);
+  }
+
+  private boolean tryAcquireHedge() {
+    while (true) {
+      long budget = hedgeBudget.get();
+      if (budget < HEDGE_COST) {
+        return false;
+      }
+      if (hedgeBudget.compareAndSet(budget, budget - HEDGE_COST)) {
+        hedgeCount.increment();
+        return true;
+      }
+    }
+  }
+
+  private void recordLatency(long nanos) {
+    if (!policy.getDelayPercentile().isPresent()) {
+      return;
+    }
+
+    long count = latencySampleCount.getAndIncrement();
+    latencySamples.set((int) (count % latencySamples.length()), nanos);
+    if (count + 1 >= latencySamples.length() && (count + 1) % recomputeInterval == 0) {
+      hedgeDelayNanos = percentile(policy.getDelayPercentile().getAsDouble());
+    }
+  }
+
+  private long percentile(double percentile) {
+    long[] sorted = new long[latencySamples.length()];
+    for (int i = 0; i < sorted.length; i++) {
+      sorted[i] = latencySamples.get(i);
+    }
+    Arrays.sort(sorted);
+    int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+  }
+
+  private static <T, E> CompletableFuture<Result<T, E>> attempt(
+    Supplier<? extends CompletionStage<Result<T, E>>> supplier
+  ) {
+    try {
+      return supplier.get().toCompletableFuture();
+    } catch (RuntimeException e) {
+      CompletableFuture<Result<T, E>> failed = new CompletableFuture<>();
+      failed.completeExceptionally(e);
+      return failed;
+    }
+  }
+
+  private class HedgedCall<T> {
+
+    private final CompletableFuture<Result<T, E>> result = new CompletableFuture<>();
+    private final Supplier<? extends CompletionStage<Result<T, E>>> backupSupplier;
+    private CompletableFuture<Result<T, E>> primary;
+    private CompletableFuture<Result<T, E>> backup;
+    private ScheduledFuture<?> hedgeTimer;
+    private int outstanding = 1;
+    private boolean hedged = false;
+    private boolean done = false;
+    private Result<T, E> bestErr;
+    private Throwable firstFailure;
+
+    private HedgedCall(Supplier<? extends CompletionStage<Result<T, E>>> backupSupplier) {
+      this.backupSupplier = backupSupplier;
+    }
+
+    private void start(
+      Supplier<? extends CompletionStage<Result<T, E>>> primarySupplier
+    ) {
+      long start = ticker.read();
+      CompletableFuture<Result<T, E>> attempt = attempt(primarySupplier);
+      synchronized (this) {
+        primary = attempt;
+      }
+      attempt.whenComplete((r, t) -> onComplete(false, start, r, t));
+
+      ScheduledFuture<?> timer;
+      try {
+        timer = scheduler.schedule(this::hedge, hedgeDelayNanos, TimeUnit.NANOSECONDS);
+      } catch (RuntimeException e) {
+        fail(e);
+        return;
+      }
+      synchronized (this) {
+        if (done) {
+          timer.cancel(false);
+        } else {
+          hedgeTimer = timer;
+        }
+      }
+    }
+
+    private void hedge() {
+      synchronized (this) {
+        if (done || hedged || !tryAcquireHedge()) {
+          return;
+        }
+        hedged = true;
+        outstanding++;
+      }
+
+      long start = ticker.read();
+      CompletableFuture<Result<T, E>> attempt = attempt(backupSupplier);
+      boolean cancel;
+      synchronized (this) {
+        backup = attempt;
+        cancel = done;
+      }
+      if (cancel) {
+        attempt.cancel(true);
+        return;
+      }
+      attempt.whenComplete((r, t) -> onComplete(true, start, r, t));
+    }
+
+    private void fail(Throwable failure) {
+      CompletableFuture<Result<T, E>> attempt;
+      synchronized (this) {
+        if (done) {
+          return;
+        }
+        done = true;
+        attempt = primary;
+      }
+
+      attempt.cancel(true);
+      result.completeExceptionally(failure);
+    }
+
+    private void onComplete(
+      boolean isBackup,
+      long startNanos,
+      Result<T, E> r,
+      Throwable t
+    ) {
+      recordLatency(ticker.read() - startNanos);
+
+      CompletableFuture<Result<T, E>> loser;
+      ScheduledFuture<?> timer;
+      Result<T, E> outcome;
+      Throwable failure;
+      synchronized (this) {
+        if (done) {
+          return;
+        }
+
+        outstanding--;
+        if (t == null && r.isOk()) {
+          done = true;
+        } else {
+          if (t != null) {
+            if (firstFailure == null) {
+              firstFailure = t;
+            }
+          } else if (bestErr == null || prefer(r, bestErr)) {
+            bestErr = r;
+          }
+
+          if (outstanding > 0) {
+            return;
+          }
+          done = true;
+        }
+
+        loser = isBackup ? primary : backup;
+        timer = hedgeTimer;
+        outcome = t == null && r.isOk() ? r : bestErr;
+        failure = firstFailure;
+      }
+
+      if (timer != null) {
+        timer.cancel(false);
+      }
+      if (loser != null) {
+        loser.cancel(true);
+      }
+
+      if (outcome == null) {
+        result.completeExceptionally(failure);
+        return;
+      }
+
+      if (isBackup && outcome.isOk()) {
+        hedgeWinCount.increment();
+      }
+      result.complete(outcome);
+    }
+
+    private boolean prefer(Result<T, E> candidate, Result<T, E> current) {
+      return (
+        policy
+          .getErrComparator()
+          .compare(candidate.unwrapErrOrElseThrow(), current.unwrapErrOrElseThrow()) <
+        0
+      );
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.hubspot.algebra.resilience;
+
+import com.hubspot.algebra.Result;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Retries calls whose Err is classified as retryable by a {@link RetryPolicy}.
+ *
+ * Async retries wait out their backoff on the given scheduler, so they never hold a
+ * thread while waiting. {@link #call(Supplier)} blocks the calling thread for the whole
+ * backoff instead.
+ */
+public class ResultRetryer<E> {
+
+  private final RetryPolicy<E> policy;
+  private final ScheduledExecutorService scheduler;
+  private final LongAdder attempts = new LongAdder();
+  private final LongAdder retries = new LongAdder();
+
+  public ResultRetryer(RetryPolicy<E> policy, ScheduledExecutorService scheduler) {
+    this.policy = policy;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Sleeps on the calling thread between attempts. Gives up early, returning the last
+   * Err, if the thread is interrupted.
+   */
+  public <T> Result<T, E> call(Supplier<Result<T, E>> supplier) {
+    for (int attempt = 1;; attempt++) {
+      attempts.increment();
+      Result<T, E> result = supplier.get();
+      if (!shouldRetry(result, attempt)) {
+        return result;
+      }
+
+      retries.increment();
+      if (!awaitBackoff(attempt)) {
+        return result;
+      }
+    }
+  }
+
+  public <T> CompletableFuture<Result<T, E>> callAsync(
+    Supplier<? extends CompletionStage<Result<T, E>>> supplier
+  ) {
+    CompletableFuture<Result<T, E>> future = new CompletableFuture<>();
+    attemptAsync(supplier, 1, future);
+    return future;
+  }
+
+  public long getAttemptCount() {
+    return attempts.sum();
+  }
+
+  public long getRetryCount() {
+    return retries.sum();
+  }
+
+  private <T> void attemptAsync(
+    Supplier<? extends CompletionStage<Result<T, E>>> supplier,
+    int attempt,
+    CompletableFuture<Result<T, E>> future
+  ) {
+    if (future.isDone()) {
+      return;
+    }
+
+    attempts.increment();
+    // Retries run on the scheduler, where anything thrown would be dropped and leave the
+    // future pending
+    try {
+      CompletionStage<Result<T, E>> stage = Objects.requireNonNull(
+        supplier.get(),
+        "supplier returned a null stage"
+      );
+      stage.whenComplete((result, throwable) ->
+        onAttempt(supplier, attempt, future, result, throwable)
+      );
+    } catch (Throwable t) {
+      future.completeExceptionally(t);
+    }
+  }
+
+  private <T> void onAttempt(
+    Supplier<? extends CompletionStage<Result<T, E>>> supplier,
+    int attempt,
+    CompletableFuture<Result<T, E>> future,
+    Result<T, E> result,
+    Throwable throwable
+  ) {
+    // Anything thrown here would be swallowed by the stage and leave the future pending,
+    // such as a scheduler rejecting the retry after being shut down
+    try {
+      if (throwable != null) {
+        future.completeExceptionally(throwable);
+      } else if (!shouldRetry(result, attempt)) {
+        future.complete(result);
+      } else {
+        retries.increment();
+        scheduler.schedule(
+          () -> attemptAsync(supplier, attempt + 1, future),
+          backoffNanos(attempt),
+          TimeUnit.NANOSECONDS
+        );
+      }
+    } catch (Throwable t) {
+      future.completeExceptionally(t);
+    }
+  }
+
+  private boolean shouldRetry(Result<?, E> result, int attempt) {
+    return (
+      attempt < policy.getMaxAttempts() &&
+      result.isErr() &&
+      policy.getRetryableErrorPredicate().test(result.unwrapErrOrElseThrow())
+    );
+  }
+
+  private boolean awaitBackoff(int attempt) {
+    try {
+      TimeUnit.NANOSECONDS.sleep(backoffNanos(attempt));
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  long backoffNanos(int attempt) {
+    double backoff =
+      policy.getInitialBackoff().toNanos() *
+      Math.pow(policy.getBackoffMultiplier(), attempt - 1);
+    backoff = Math.min(backoff, policy.getMaxBackoff().toNanos());
+    double jitter = policy.getJitterFactor() * ThreadLocalRandom.current().nextDouble();
+    return (long) (backoff * (1 - jitter));
+  }
+}
@@ -0,0 +1,31 @@
+package com.hubspot.algebra.tracing;
+
+/**
+ * A span started by a {@link ResultTracer}. {@link ResultTracing} sets its attributes
+ * and ends it exactly once.
+ */
+public interface ResultSpan {
+  /**
+   * Makes this span the current span of the calling thread until the returned scope is
+   * closed, so that spans started by the traced call become its children.
+   */
+  Scope makeCurrent();
+
+  void setAttribute(String key, String value);
+
+  void setAttribute(String key, long value);
+
+  /**
+   * Marks the span as failed.
+   */
+  void setError(String description);
+
+  void recordException(Throwable throwable);
+
+  void end();
+
+  interface Scope extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
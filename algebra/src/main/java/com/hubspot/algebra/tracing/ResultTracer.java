@@ -0,0 +1,16 @@
+package com.hubspot.algebra.tracing;
+
+/**
+ * Starts spans for {@link ResultTracing}. Implementations adapt a tracing library, such
+ * as the OpenTelemetry tracer in algebra-opentelemetry.
+ */
+public interface ResultTracer {
+  /**
+   * Checked before every traced call. When false the call runs without starting a span.
+   */
+  default boolean isEnabled() {
+    return true;
+  }
+
+  ResultSpan startSpan(String name);
+}
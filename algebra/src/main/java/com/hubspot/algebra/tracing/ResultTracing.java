@@ -0,0 +1,192 @@
+package com.hubspot.algebra.tracing;
+
+import com.google.common.base.Preconditions;
+import com.hubspot.algebra.HttpError;
+import com.hubspot.algebra.Result;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Wraps calls returning a Result in a span and annotates the span with the outcome, the
+ * error class and, for {@link HttpError}s, the status code. Errs mark the span as failed,
+ * described by their class name unless an error describer is given.
+ *
+ * <pre>
+ * Result&lt;User, LookupError&gt; user =
+ *   tracing.traced("getUser", () -&gt; client.getUser(id));
+ * </pre>
+ *
+ * When the tracer is disabled the supplier is called directly, without starting a span.
+ */
+public class ResultTracing {
+
+  public static final String OUTCOME_ATTRIBUTE = "algebra.result.outcome";
+  public static final String ERROR_CLASS_ATTRIBUTE = "algebra.result.error.class";
+  public static final String STATUS_CODE_ATTRIBUTE = "algebra.result.error.status_code";
+
+  private final ResultTracer tracer;
+  private final Function<Object, String> errorDescriber;
+
+  public ResultTracing(ResultTracer tracer) {
+    this(tracer, error -> error.getClass().getName());
+  }
+
+  /**
+   * Describes failed spans with {@code errorDescriber}, which is called with every
+   * non-null Err value. Errors may carry user data, so avoid {@code toString()} unless it
+   * is known to be cheap and safe to export.
+   */
+  public ResultTracing(ResultTracer tracer, Function<Object, String> errorDescriber) {
+    this.tracer = Preconditions.checkNotNull(tracer, "tracer");
+    this.errorDescriber = Preconditions.checkNotNull(errorDescriber, "errorDescriber");
+  }
+
+  public static ResultTracing disabled() {
+    return new ResultTracing(DisabledTracer.INSTANCE);
+  }
+
+  public <T, E> Result<T, E> traced(String name, Supplier<Result<T, E>> supplier) {
+    if (!tracer.isEnabled()) {
+      return supplier.get();
+    }
+
+    ResultSpan span = tracer.startSpan(name);
+    Result<T, E> result;
+    try (ResultSpan.Scope ignored = span.makeCurrent()) {
+      result = supplier.get();
+    } catch (RuntimeException | Error e) {
+      endExceptionally(span, e);
+      throw e;
+    }
+    end(span, result);
+    return result;
+  }
+
+  /**
+   * Starts the span before calling the supplier and ends it when the returned stage
+   * completes. The span is current only while the supplier runs.
+   */
+  public <T, E> CompletableFuture<Result<T, E>> tracedAsync(
+    String name,
+    Supplier<? extends CompletionStage<Result<T, E>>> supplier
+  ) {
+    if (!tracer.isEnabled()) {
+      return supplier.get().toCompletableFuture();
+    }
+
+    ResultSpan span = tracer.startSpan(name);
+    CompletionStage<Result<T, E>> stage;
+    try (ResultSpan.Scope ignored = span.makeCurrent()) {
+      stage = supplier.get();
+    } catch (RuntimeException | Error e) {
+      endExceptionally(span, e);
+      throw e;
+    }
+
+    return stage
+      .whenComplete((result, throwable) -> {
+        if (throwable == null) {
+          end(span, result);
+        } else {
+          endExceptionally(span, unwrap(throwable));
+        }
+      })
+      .toCompletableFuture();
+  }
+
+  public ResultTracer getTracer() {
+    return tracer;
+  }
+
+  private void end(ResultSpan span, Result<?, ?> result) {
+    try {
+      annotate(span, result);
+    } finally {
+      span.end();
+    }
+  }
+
+  private void annotate(ResultSpan span, Result<?, ?> result) {
+    if (result.isOk()) {
+      span.setAttribute(OUTCOME_ATTRIBUTE, "ok");
+      return;
+    }
+
+    span.setAttribute(OUTCOME_ATTRIBUTE, "err");
+    Object error = result.unwrapErrOrElseThrow();
+    if (error == null) {
+      span.setError("Err");
+      return;
+    }
+
+    span.setAttribute(ERROR_CLASS_ATTRIBUTE, error.getClass().getName());
+    if (error instanceof HttpError) {
+      span.setAttribute(STATUS_CODE_ATTRIBUTE, ((HttpError) error).getStatusCode());
+    }
+    span.setError(errorDescriber.apply(error));
+  }
+
+  private static void endExceptionally(ResultSpan span, Throwable throwable) {
+    try {
+      span.recordException(throwable);
+      span.setError(String.valueOf(throwable.getMessage()));
+    } finally {
+      span.end();
+    }
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+
+  private enum DisabledTracer implements ResultTracer {
+    INSTANCE;
+
+    @Override
+    public boolean isEnabled() {
+      return false;
+    }
+
+    /**
+     * Never called by {@link ResultTracing}, but callers sharing the tracer may still
+     * start spans with it.
+     */
+    @Override
+    public ResultSpan startSpan(String name) {
+      return NoopSpan.INSTANCE;
+    }
+  }
+
+  private enum NoopSpan implements ResultSpan, ResultSpan.Scope {
+    INSTANCE;
+
+    @Override
+    public Scope makeCurrent() {
+      return this;
+    }
+
+    @Override
+    public void setAttribute(String key, String value) {}
+
+    @Override
+    public void setAttribute(String key, long value) {}
+
+    @Override
+    public void setError(String description) {}
+
+    @Override
+    public void recordException(Throwable throwable) {}
+
+    @Override
+    public void end() {}
+
+    @Override
+    public void close() {}
+  }
+}
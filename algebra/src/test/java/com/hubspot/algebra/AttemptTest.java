@@ -0,0 +1,136 @@
+package com.hubspot.algebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+
+public class AttemptTest {
+
+  private enum SampleError {
+    NOT_FOUND,
+    UNAVAILABLE,
+    UNKNOWN,
+  }
+
+  private static final class KnownFailure extends StacklessException {
+
+    private static final KnownFailure INSTANCE = new KnownFailure();
+
+    private KnownFailure() {
+      super("known failure");
+    }
+  }
+
+  private static final Attempt<SampleError> ATTEMPT = Attempt
+    .<SampleError>builder()
+    .map(FileNotFoundException.class, e -> SampleError.NOT_FOUND)
+    .map(IOException.class, e -> SampleError.UNAVAILABLE)
+    .orElse(e -> SampleError.UNKNOWN)
+    .build();
+
+  @Test
+  public void itCapturesExceptions() {
+    IOException exception = new IOException("boom");
+
+    assertThat(Result.attempt(() -> "ok")).isEqualTo(Result.ok("ok"));
+    assertThat(
+      Result.attempt(() -> {
+        throw exception;
+      })
+    )
+      .isEqualTo(Result.err(exception));
+  }
+
+  @Test
+  public void itCapturesExceptionsFromRunnables() {
+    List<String> ran = new ArrayList<>();
+
+    assertThat(Result.attemptRun(() -> ran.add("ran"))).isEqualTo(Result.nullOk());
+    assertThat(ran).containsExactly("ran");
+    assertThat(
+      Result
+        .attemptRun(() -> {
+          throw new IOException("boom");
+        })
+        .isErr()
+    )
+      .isTrue();
+  }
+
+  @Test
+  public void itMapsExceptionsInOrder() {
+    assertThat(
+      ATTEMPT.get(() -> {
+        throw new FileNotFoundException();
+      })
+    )
+      .isEqualTo(Result.err(SampleError.NOT_FOUND));
+    assertThat(
+      ATTEMPT.get(() -> {
+        throw new IOException();
+      })
+    )
+      .isEqualTo(Result.err(SampleError.UNAVAILABLE));
+    assertThat(
+      ATTEMPT.run(() -> {
+        throw new IllegalStateException();
+      })
+    )
+      .isEqualTo(Result.err(SampleError.UNKNOWN));
+  }
+
+  @Test
+  public void itRethrowsUnmappedExceptionsWithoutFallback() {
+    Attempt<SampleError> attempt = Attempt
+      .<SampleError>builder()
+      .map(IOException.class, e -> SampleError.UNAVAILABLE)
+      .build();
+
+    assertThatThrownBy(() ->
+        attempt.get(() -> {
+          throw new IllegalArgumentException("bad");
+        })
+      )
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() ->
+        attempt.get(() -> {
+          throw new TimeoutException("slow");
+        })
+      )
+      .isInstanceOf(IllegalStateException.class)
+      .hasCauseInstanceOf(TimeoutException.class);
+  }
+
+  @Test
+  public void itClassifiesHttpErrors() {
+    assertThat(statusCodeOf(new IllegalArgumentException())).isEqualTo(400);
+    assertThat(statusCodeOf(new TimeoutException())).isEqualTo(504);
+    assertThat(statusCodeOf(new IOException())).isEqualTo(500);
+  }
+
+  @Test
+  public void itCapturesStacklessExceptions() {
+    Result<String, SampleError> result = ATTEMPT.get(() -> {
+      throw KnownFailure.INSTANCE;
+    });
+
+    assertThat(result).isEqualTo(Result.err(SampleError.UNKNOWN));
+    assertThat(KnownFailure.INSTANCE.getStackTrace()).isEmpty();
+  }
+
+  private static int statusCodeOf(Exception exception) {
+    return Attempt
+      .http()
+      .get(() -> {
+        throw exception;
+      })
+      .unwrapErrOrElseThrow()
+      .getStatusCode();
+  }
+}
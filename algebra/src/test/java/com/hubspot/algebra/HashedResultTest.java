@@ -0,0 +1,31 @@
+package com.hubspot.algebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+public class HashedResultTest {
+
+  @Test
+  public void itHasTheSameEqualityAsTheResult() {
+    HashedResult<String, String> ok = HashedResult.of(Result.ok("a"));
+
+    assertThat(ok).isEqualTo(HashedResult.of(Result.ok("a")));
+    assertThat(ok.hashCode()).isEqualTo(Result.ok("a").hashCode());
+    assertThat(ok).isNotEqualTo(HashedResult.of(Result.ok("b")));
+    assertThat(ok).isNotEqualTo(HashedResult.of(Result.err("a")));
+    assertThat(ok.getResult()).isEqualTo(Result.ok("a"));
+  }
+
+  @Test
+  public void itWorksAsASetKey() {
+    Set<HashedResult<Integer, String>> seen = new HashSet<>();
+
+    assertThat(seen.add(HashedResult.of(Result.err("missing")))).isTrue();
+    assertThat(seen.add(HashedResult.of(Result.err("missing")))).isFalse();
+    assertThat(seen.add(HashedResult.of(Result.ok(1)))).isTrue();
+    assertThat(seen).hasSize(2);
+  }
+}
@@ -0,0 +1,48 @@
+package com.hubspot.algebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import org.junit.Test;
+
+public class HttpResultTest {
+
+  private enum SampleError implements HttpError {
+    NOT_FOUND;
+
+    @Override
+    public int getStatusCode() {
+      return 404;
+    }
+  }
+
+  @Test
+  public void itHoldsOk() {
+    HttpResult<String, SampleError> result = HttpResult.ok("ok");
+
+    assertThat(result.unwrap()).isEqualTo(Result.ok("ok"));
+    assertThat(result.getHttpStatusCode()).isEqualTo(200);
+    assertThat(result.getOkResultMaybe()).isEqualTo(Optional.of("ok"));
+    assertThat(result.getErrResultMaybe()).isEqualTo(Optional.empty());
+  }
+
+  @Test
+  public void itTakesTheStatusCodeFromHttpErrors() {
+    HttpResult<String, SampleError> result = HttpResult.err(SampleError.NOT_FOUND);
+
+    assertThat(result.unwrap()).isEqualTo(Result.err(SampleError.NOT_FOUND));
+    assertThat(result.getHttpStatusCode()).isEqualTo(404);
+    assertThat(result.getErrResultMaybe()).isEqualTo(Optional.of(SampleError.NOT_FOUND));
+  }
+
+  @Test
+  public void itConvertsToAndFromWrappers() {
+    HttpResult<String, SampleError> ok = HttpResult.ok("ok");
+    HttpResult<String, SampleError> err = HttpResult.err(SampleError.NOT_FOUND, 410);
+
+    assertThat(ok.toWrapper().unwrap()).isEqualTo(ok.unwrap());
+    assertThat(err.toWrapper().getHttpStatusCode()).isEqualTo(410);
+    assertThat(HttpResult.fromWrapper(ok.toWrapper())).isEqualTo(ok);
+    assertThat(HttpResult.fromWrapper(err.toWrapper())).isEqualTo(err);
+  }
+}
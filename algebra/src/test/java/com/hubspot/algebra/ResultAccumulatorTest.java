@@ -0,0 +1,133 @@
+package com.hubspot.algebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Test;
+
+public class ResultAccumulatorTest {
+
+  private enum SampleError {
+    NOT_FOUND,
+  }
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void itCombinesOkValuesFromManyThreads() throws Exception {
+    ResultAccumulator<Integer, String> accumulator = ResultAccumulator.create();
+
+    List<Future<?>> producers = new ArrayList<>();
+    for (int thread = 0; thread < 8; thread++) {
+      int offset = thread * 10_000;
+      producers.add(
+        executor.submit(() -> {
+          for (int i = 0; i < 10_000; i++) {
+            accumulator.add(Result.ok(offset + i));
+          }
+        })
+      );
+    }
+    for (Future<?> producer : producers) {
+      producer.get();
+    }
+
+    Result<List<Integer>, String> result = accumulator.finish();
+    assertThat(accumulator.getOkCount()).isEqualTo(80_000);
+    assertThat(accumulator.isStopped()).isFalse();
+    assertThat(result.unwrapOrElseThrow())
+      .hasSize(80_000)
+      .doesNotHaveDuplicates()
+      .contains(0, 79_999);
+  }
+
+  @Test
+  public void itKeepsTheOrderOfEachThreadsOkValues() throws Exception {
+    ResultAccumulator<Integer, String> accumulator = ResultAccumulator.create();
+
+    List<Future<?>> producers = new ArrayList<>();
+    for (int thread = 0; thread < 8; thread++) {
+      int offset = thread * 10_000;
+      producers.add(
+        executor.submit(() -> {
+          for (int i = 0; i < 10_000; i++) {
+            accumulator.add(Result.ok(offset + i));
+          }
+        })
+      );
+    }
+    for (Future<?> producer : producers) {
+      producer.get();
+    }
+
+    List<Integer> oks = accumulator.finish().unwrapOrElseThrow();
+    for (int thread = 0; thread < 8; thread++) {
+      int offset = thread * 10_000;
+      assertThat(oks.stream().filter(ok -> ok >= offset && ok < offset + 10_000))
+        .hasSize(10_000)
+        .isSorted();
+    }
+  }
+
+  @Test
+  public void itKeepsNullValues() {
+    ResultAccumulator<String, String> accumulator = ResultAccumulator.create();
+    accumulator.add(Result.ok(null));
+    accumulator.add(Result.ok("a"));
+    accumulator.add(Result.err(null));
+
+    ResultStream.Partition<String, String> partition = accumulator.finishPartition();
+    assertThat(partition.getOks()).containsExactly(null, "a");
+    assertThat(partition.getErrs()).containsExactly((String) null);
+  }
+
+  @Test
+  public void itStopsOnTheFirstErr() {
+    ResultAccumulator<Integer, String> accumulator = ResultAccumulator.create();
+    accumulator.add(Result.ok(1));
+    accumulator.add(Result.err("first"));
+    accumulator.add(Result.err("second"));
+
+    assertThat(accumulator.isStopped()).isTrue();
+    assertThat(accumulator.getErrCount()).isEqualTo(2);
+    assertThat(accumulator.snapshot()).isEqualTo(Result.err("first"));
+
+    ResultStream.Partition<Integer, String> partition = accumulator.snapshotPartition();
+    assertThat(partition.getOks()).containsExactly(1);
+    assertThat(partition.getErrs()).containsExactly("first", "second");
+  }
+
+  @Test
+  public void itCountsErrorClassesWhenAsked() {
+    ResultAccumulator<Integer, Object> accumulator =
+      ResultAccumulator.countingErrorClasses();
+    accumulator.add(Result.err(SampleError.NOT_FOUND));
+    accumulator.add(Result.err(SampleError.NOT_FOUND));
+    accumulator.add(Result.err("message"));
+
+    assertThat(accumulator.getErrCount(SampleError.class)).isEqualTo(2);
+    assertThat(accumulator.getErrCount(String.class)).isEqualTo(1);
+    assertThat(ResultAccumulator.create().getErrCountsByClass()).isEmpty();
+  }
+
+  @Test
+  public void itRejectsAddsAfterFinishing() {
+    ResultAccumulator<Integer, String> accumulator = ResultAccumulator.create();
+    accumulator.add(Result.ok(1));
+
+    assertThat(accumulator.finishPartition().getOks()).containsExactly(1);
+    assertThatThrownBy(() -> accumulator.add(Result.ok(2)))
+      .isInstanceOf(IllegalStateException.class);
+  }
+}
@@ -0,0 +1,32 @@
+package com.hubspot.algebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class ResultInternerTest {
+
+  private final ResultInterner interner = ResultInterner.weak();
+
+  @Test
+  public void itSharesEqualResults() {
+    Result<Integer, String> first = interner.intern(Result.err(new String("missing")));
+    Result<Integer, String> second = interner.intern(Result.err(new String("missing")));
+
+    assertThat(second).isSameAs(first);
+    assertThat(second.unwrapErrOrElseThrow()).isSameAs(first.unwrapErrOrElseThrow());
+    assertThat(interner.intern(Result.<Integer, String>ok(1))).isNotSameAs(first);
+  }
+
+  @Test
+  public void itSharesEqualHashedResults() {
+    HashedResult<Integer, String> first = interner.intern(
+      HashedResult.of(Result.err("a"))
+    );
+
+    assertThat(interner.intern(HashedResult.of(Result.err("a")))).isSameAs(first);
+    assertThat(ResultInterner.strong().intern(HashedResult.of(Result.err("a"))))
+      .isNotSameAs(first)
+      .isEqualTo(first);
+  }
+}
@@ -0,0 +1,109 @@
+package com.hubspot.algebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class ResultPipelineTest {
+
+  private enum SampleError {
+    EMPTY,
+    NOT_A_NUMBER,
+  }
+
+  private static final ResultPipeline<String, SampleError, Integer, SampleError> PARSE = Result
+    .<String, SampleError>pipeline()
+    .mapOk(String::trim)
+    .filter(s -> !s.isEmpty(), s -> SampleError.EMPTY)
+    .flatMapOk(ResultPipelineTest::parseInt)
+    .mapOk(i -> i * 2);
+
+  @Test
+  public void itRunsAllStepsOnOk() {
+    assertThat(PARSE.runOk(" 21 ")).isEqualTo(Result.ok(42));
+  }
+
+  @Test
+  public void itStopsAtFilter() {
+    assertThat(PARSE.runOk("  ")).isEqualTo(Result.err(SampleError.EMPTY));
+  }
+
+  @Test
+  public void itStopsAtFlatMap() {
+    assertThat(PARSE.runOk("abc")).isEqualTo(Result.err(SampleError.NOT_A_NUMBER));
+  }
+
+  @Test
+  public void itMapsErrs() {
+    ResultPipeline<String, SampleError, Integer, String> pipeline = PARSE.mapErr(
+      SampleError::name
+    );
+
+    assertThat(pipeline.runOk("abc")).isEqualTo(Result.err("NOT_A_NUMBER"));
+    assertThat(pipeline.run(Result.err(SampleError.EMPTY)))
+      .isEqualTo(Result.err("EMPTY"));
+  }
+
+  @Test
+  public void itReturnsUntouchedInputs() {
+    Result<String, SampleError> err = Result.err(SampleError.EMPTY);
+    assertThat(PARSE.run(err)).isSameAs(err);
+
+    Result<String, SampleError> ok = Result.ok("ok");
+    assertThat(Result.<String, SampleError>pipeline().run(ok)).isSameAs(ok);
+  }
+
+  @Test
+  public void itPeeksOks() {
+    List<Integer> peeked = new ArrayList<>();
+    ResultPipeline<String, SampleError, Integer, SampleError> pipeline = PARSE.peekOk(
+      peeked::add
+    );
+
+    pipeline.runOk("1");
+    pipeline.runOk("x");
+    pipeline.runOk("2");
+
+    assertThat(peeked).containsExactly(2, 4);
+  }
+
+  @Test
+  public void itRunsBatches() {
+    assertThat(
+      PARSE.runAll(
+        Arrays.asList(Result.ok("1"), Result.ok(""), Result.err(SampleError.NOT_A_NUMBER))
+      )
+    )
+      .containsExactly(
+        Result.ok(2),
+        Result.err(SampleError.EMPTY),
+        Result.err(SampleError.NOT_A_NUMBER)
+      );
+  }
+
+  @Test
+  public void itMatches() {
+    assertThat(PARSE.match(Result.ok("5"), SampleError::name, String::valueOf))
+      .isEqualTo("10");
+    assertThat(PARSE.match(Result.ok("?"), SampleError::name, String::valueOf))
+      .isEqualTo("NOT_A_NUMBER");
+  }
+
+  @Test
+  public void itDoesNotChangeTheOriginalPipeline() {
+    PARSE.mapOk(i -> -i);
+
+    assertThat(PARSE.runOk("1")).isEqualTo(Result.ok(2));
+  }
+
+  private static Result<Integer, SampleError> parseInt(String value) {
+    try {
+      return Result.ok(Integer.parseInt(value));
+    } catch (NumberFormatException e) {
+      return Result.err(SampleError.NOT_A_NUMBER);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.hubspot.algebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public class ResultStreamTest {
+
+  private static Stream<Result<Integer, String>> mixed() {
+    return Stream.of(Result.ok(1), Result.err("two"), Result.ok(3), Result.err("four"));
+  }
+
+  @Test
+  public void itMapsOkValuesAndKeepsErrs() {
+    List<Result<String, String>> results = ResultStream
+      .<Integer, String>of(mixed())
+      .mapOk(i -> i * 10)
+      .flatMapOk(i -> i > 20 ? Result.err("big " + i) : Result.ok("small " + i))
+      .mapErr(String::toUpperCase)
+      .stream()
+      .collect(Collectors.toList());
+
+    assertThat(results)
+      .containsExactly(
+        Result.ok("small 10"),
+        Result.err("TWO"),
+        Result.err("BIG 30"),
+        Result.err("FOUR")
+      );
+  }
+
+  @Test
+  public void itFiltersOkValues() {
+    assertThat(
+      ResultStream.<Integer, String>of(mixed()).filterOk(i -> i > 1).partition().getOks()
+    )
+      .containsExactly(3);
+    assertThat(
+      ResultStream
+        .<Integer, String>of(mixed())
+        .filterOk(i -> i > 1, i -> "too small " + i)
+        .partition()
+        .getErrs()
+    )
+      .containsExactly("too small 1", "two", "four");
+  }
+
+  @Test
+  public void itRecoversErrs() {
+    assertThat(
+      ResultStream.<Integer, String>of(mixed()).recover(String::length).toResult()
+    )
+      .isEqualTo(Result.ok(Arrays.asList(1, 3, 3, 4)));
+  }
+
+  @Test
+  public void itCollectsTheFirstErr() {
+    assertThat(ResultStream.<Integer, String>of(mixed()).toResult())
+      .isEqualTo(Result.err("two"));
+    assertThat(ResultStream.<Integer, String>ofOks(Stream.of(1, 2)).toResult())
+      .isEqualTo(Result.ok(Arrays.asList(1, 2)));
+  }
+
+  @Test
+  public void itStopsAtTheFirstErr() {
+    AtomicInteger pulled = new AtomicInteger();
+    AtomicInteger mapped = new AtomicInteger();
+
+    Result<List<Integer>, String> result = ResultStream
+      .<Integer, String>of(mixed().peek(element -> pulled.incrementAndGet()))
+      .mapOk(i -> {
+        mapped.incrementAndGet();
+        return i * 10;
+      })
+      .toResult();
+
+    assertThat(result).isEqualTo(Result.err("two"));
+    assertThat(pulled.get()).isEqualTo(2);
+    assertThat(mapped.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void itRoutesErrsToAConsumer() {
+    List<String> errs = new ArrayList<>();
+    List<Integer> oks = ResultStream
+      .<Integer, String>of(mixed())
+      .oks(errs::add)
+      .collect(Collectors.toList());
+
+    assertThat(oks).containsExactly(1, 3);
+    assertThat(errs).containsExactly("two", "four");
+  }
+
+  @Test
+  public void itKeepsEncounterOrderInParallel() {
+    Result<List<Integer>, String> result = ResultStream
+      .<Integer, String>ofOks(IntStream.range(0, 10_000).boxed())
+      .parallel()
+      .flatMapOk(i -> i % 1000 == 999 ? Result.err("err " + i) : Result.ok(i))
+      .toResult();
+    assertThat(result).isEqualTo(Result.err("err 999"));
+
+    ResultStream.Partition<Integer, String> partition = ResultStream
+      .<Integer, String>ofOks(IntStream.range(0, 10_000).boxed())
+      .parallel()
+      .flatMapOk(i -> i % 1000 == 999 ? Result.err("err " + i) : Result.ok(i))
+      .partition();
+    assertThat(partition.getOks()).hasSize(9_990).isSorted();
+    assertThat(partition.getErrs()).hasSize(10).startsWith("err 999", "err 1999");
+  }
+}
@@ -5,9 +5,11 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.common.collect.ImmutableList;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.junit.Test;
@@ -44,6 +46,81 @@ public class ResultTest {
     assertThat(ERR_RESULT.isErr()).isTrue();
   }
 
+  @Test
+  public void itReportsCase() throws Exception {
+    assertThat(OK_RESULT.getCase()).isEqualTo(Result.Case.OK);
+    assertThat(ERR_RESULT.getCase()).isEqualTo(Result.Case.ERR);
+  }
+
+  @Test
+  public void itReusesErrWhenMappingOk() throws Exception {
+    assertThat(ERR_RESULT.mapOk(String::length)).isSameAs(ERR_RESULT);
+    assertThat(ERR_RESULT.flatMapOk(Result::ok)).isSameAs(ERR_RESULT);
+    assertThat(OK_RESULT.mapErr(SampleError::name)).isSameAs(OK_RESULT);
+  }
+
+  @Test
+  public void itZipsOks() throws Exception {
+    Result<Map.Entry<String, Integer>, SampleError> zipped = Result.zip(
+      OK_RESULT,
+      Result.ok(1)
+    );
+    assertThat(zipped.unwrapOrElseThrow())
+      .isEqualTo(new SimpleImmutableEntry<>(SAMPLE_STRING, 1));
+    assertThat(Result.zip(OK_RESULT, ERR_RESULT)).isSameAs(ERR_RESULT);
+  }
+
+  @Test
+  public void itMapsSeveralOks() throws Exception {
+    Result<Integer, SampleError> one = Result.ok(1);
+    Result<Integer, SampleError> mapped = Result.map8(
+      one,
+      one,
+      one,
+      one,
+      one,
+      one,
+      one,
+      one,
+      (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h
+    );
+    assertThat(mapped.unwrapOrElseThrow()).isEqualTo(8);
+  }
+
+  @Test
+  public void itReturnsFirstErrWhenMappingSeveral() throws Exception {
+    Result<String, SampleError> secondErr = Result.err(SampleError.TEST_ERROR_TWO);
+    List<String> calls = new ArrayList<>();
+    Result<String, SampleError> mapped = Result.map3(
+      OK_RESULT,
+      ERR_RESULT,
+      secondErr,
+      (a, b, c) -> {
+        calls.add(a);
+        return a + b + c;
+      }
+    );
+    assertThat(mapped).isSameAs(ERR_RESULT);
+    assertThat(calls).isEmpty();
+  }
+
+  @Test
+  public void itMergesErrsWhenMappingSeveral() throws Exception {
+    Result<Integer, String> ok = Result.ok(1);
+    Result<Integer, String> mapped = Result.map4(
+      Result.<Integer, String>err("a"),
+      ok,
+      Result.<Integer, String>err("b"),
+      Result.<Integer, String>err("c"),
+      (a, b, c, d) -> a + b + c + d,
+      (first, second) -> first + "," + second
+    );
+    assertThat(mapped.unwrapErrOrElseThrow()).isEqualTo("a,b,c");
+
+    Result<Integer, String> allOk = Result.map2(ok, ok, Integer::sum, String::concat);
+    assertThat(allOk.unwrapOrElseThrow()).isEqualTo(2);
+  }
+
   @Test
   public void itMapsOk() throws Exception {
     Result<Integer, SampleError> mappedOk = OK_RESULT.mapOk(String::length);
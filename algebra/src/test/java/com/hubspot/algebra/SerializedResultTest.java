@@ -0,0 +1,98 @@
+package com.hubspot.algebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class SerializedResultTest {
+
+  @Test
+  public void itRoundTripsOk() throws Exception {
+    Result<String, Integer> ok = Result.ok("test");
+    assertThat(roundTrip(ok)).isEqualTo(ok);
+  }
+
+  @Test
+  public void itRoundTripsErr() throws Exception {
+    Result<String, Integer> err = Result.err(42);
+    assertThat(roundTrip(err)).isEqualTo(err);
+  }
+
+  @Test
+  public void itRoundTripsNestedResults() throws Exception {
+    Result<Result<String, Integer>, Integer> nested = Result.ok(Result.err(1));
+    assertThat(roundTrip(nested)).isEqualTo(nested);
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void itRoundTripsVoidResults() throws Exception {
+    Object ok = roundTrip(VoidResult.ok());
+    assertThat(ok).isInstanceOf(VoidResult.class);
+    assertThat(((VoidResult<?>) ok).isOk()).isTrue();
+
+    Object err = roundTrip(VoidResult.error("ERROR"));
+    assertThat(err).isInstanceOf(VoidResult.class).isEqualTo(VoidResult.error("ERROR"));
+  }
+
+  @Test
+  public void itRoundTripsHttpResultWrappers() throws Exception {
+    HttpResultWrapper<String, String> ok = AbstractHttpResultWrapper.ok("test");
+    assertThat(roundTrip(ok)).isEqualTo(ok);
+
+    HttpResultWrapper<String, String> err = AbstractHttpResultWrapper.err("ERROR", 404);
+    assertThat(roundTrip(err)).isEqualTo(err);
+  }
+
+  @Test
+  public void itDoesNotWriteGeneratedClassNames() throws Exception {
+    String serialized = new String(
+      serialize(Result.ok("test")),
+      StandardCharsets.ISO_8859_1
+    );
+    assertThat(serialized).doesNotContain("Results").contains("SerializedResult");
+  }
+
+  @Test
+  public void itRejectsUnknownVersions() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeByte(2);
+      out.writeByte(SerializedResult.OK);
+    }
+
+    try (
+      ObjectInputStream in = new ObjectInputStream(
+        new ByteArrayInputStream(bytes.toByteArray())
+      )
+    ) {
+      assertThatThrownBy(() -> new SerializedResult().readExternal(in))
+        .isInstanceOf(InvalidObjectException.class);
+    }
+  }
+
+  private static byte[] serialize(Object value) throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(value);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static Object roundTrip(Object value) throws Exception {
+    try (
+      ObjectInputStream in = new ObjectInputStream(
+        new ByteArrayInputStream(serialize(value))
+      )
+    ) {
+      return in.readObject();
+    }
+  }
+}
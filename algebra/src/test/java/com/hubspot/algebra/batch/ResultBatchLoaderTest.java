@@ -0,0 +1,235 @@
+package com.hubspot.algebra.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hubspot.algebra.Result;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.After;
+import org.junit.Test;
+
+public class ResultBatchLoaderTest {
+
+  private final ScheduledExecutorService scheduler =
+    Executors.newSingleThreadScheduledExecutor();
+  private final List<Set<Integer>> batches = new CopyOnWriteArrayList<>();
+
+  @After
+  public void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void itCollectsLoadsIntoOneBulkCall() throws Exception {
+    ResultBatchLoader<Integer, String, String> loader = loader(
+      policy().setMaxDelay(Duration.ofMinutes(1)).build()
+    );
+
+    CompletableFuture<Result<String, String>> one = loader.load(1);
+    CompletableFuture<Result<String, String>> two = loader.load(2);
+    CompletableFuture<Result<String, String>> missing = loader.load(404);
+    loader.dispatch();
+
+    assertThat(one.get()).isEqualTo(Result.ok("user-1"));
+    assertThat(two.get()).isEqualTo(Result.ok("user-2"));
+    assertThat(missing.get()).isEqualTo(Result.err("missing 404"));
+    assertThat(batches).containsExactly(set(1, 2, 404));
+  }
+
+  @Test
+  public void itDispatchesAfterTheMaxDelay() throws Exception {
+    ResultBatchLoader<Integer, String, String> loader = loader(
+      policy().setMaxDelay(Duration.ofMillis(5)).build()
+    );
+
+    assertThat(loader.load(1).get()).isEqualTo(Result.ok("user-1"));
+    assertThat(batches).containsExactly(set(1));
+  }
+
+  @Test
+  public void itDispatchesFullBatchesImmediately() throws Exception {
+    ResultBatchLoader<Integer, String, String> loader = loader(
+      policy().setMaxBatchSize(2).setMaxDelay(Duration.ofMinutes(1)).build()
+    );
+
+    CompletableFuture<Result<String, String>> one = loader.load(1);
+    CompletableFuture<Result<String, String>> two = loader.load(2);
+    CompletableFuture<Result<String, String>> three = loader.load(3);
+
+    assertThat(one.get()).isEqualTo(Result.ok("user-1"));
+    assertThat(two.get()).isEqualTo(Result.ok("user-2"));
+    assertThat(three).isNotDone();
+
+    loader.dispatch();
+    assertThat(three.get()).isEqualTo(Result.ok("user-3"));
+    assertThat(batches).containsExactly(set(1, 2), set(3));
+    assertThat(loader.getBatchCount()).isEqualTo(2);
+    assertThat(loader.getBatchedKeyCount()).isEqualTo(3);
+    assertThat(loader.getLargestBatchSize()).isEqualTo(2);
+  }
+
+  @Test
+  public void itCachesLookups() throws Exception {
+    ResultBatchLoader<Integer, String, String> loader = loader(policy().build());
+
+    CompletableFuture<Result<String, String>> first = loader.load(1);
+    assertThat(loader.load(1)).isSameAs(first);
+    first.get();
+    assertThat(loader.load(1)).isSameAs(first);
+
+    assertThat(batches).containsExactly(set(1));
+    assertThat(loader.getCacheHitCount()).isEqualTo(2);
+
+    loader.clear(1);
+    assertThat(loader.load(1).get()).isEqualTo(Result.ok("user-1"));
+    assertThat(batches).containsExactly(set(1), set(1));
+  }
+
+  @Test
+  public void itOnlyDeduplicatesWithinABatchWhenCachingIsDisabled() throws Exception {
+    ResultBatchLoader<Integer, String, String> loader = loader(
+      policy().setCachingEnabled(false).setMaxDelay(Duration.ofMinutes(1)).build()
+    );
+
+    CompletableFuture<Result<String, String>> first = loader.load(1);
+    assertThat(loader.load(1)).isSameAs(first);
+    loader.dispatch();
+    first.get();
+    CompletableFuture<Result<String, String>> second = loader.load(1);
+    loader.dispatch();
+    second.get();
+
+    assertThat(batches).containsExactly(set(1), set(1));
+  }
+
+  @Test
+  public void itFailsEveryKeyWhenTheBulkCallFails() throws Exception {
+    AtomicBoolean fail = new AtomicBoolean(true);
+    IllegalStateException exception = new IllegalStateException("backend down");
+    ResultBatchLoader<Integer, String, String> loader = new ResultBatchLoader<>(
+      policy().build(),
+      keys -> {
+        if (fail.get()) {
+          throw exception;
+        }
+        return CompletableFuture.completedFuture(new HashMap<>());
+      },
+      scheduler
+    );
+
+    CompletableFuture<Result<String, String>> one = loader.load(1);
+    CompletableFuture<Result<String, String>> two = loader.load(2);
+    assertThatThrownBy(one::get)
+      .isInstanceOf(ExecutionException.class)
+      .hasCause(exception);
+    assertThatThrownBy(two::get)
+      .isInstanceOf(ExecutionException.class)
+      .hasCause(exception);
+
+    fail.set(false);
+    assertThat(loader.load(1).get()).isEqualTo(Result.err("missing 1"));
+  }
+
+  @Test
+  public void itFailsKeysWhenTheDispatchCannotBeScheduled() throws Exception {
+    scheduler.shutdownNow();
+    ResultBatchLoader<Integer, String, String> loader = loader(policy().build());
+
+    CompletableFuture<Result<String, String>> one = loader.load(1);
+    assertThatThrownBy(one::get)
+      .isInstanceOf(ExecutionException.class)
+      .hasCauseInstanceOf(RejectedExecutionException.class);
+
+    loader.dispatch();
+    assertThat(batches).isEmpty();
+    assertThat(loader.load(1)).isNotSameAs(one).isCompletedExceptionally();
+  }
+
+  @Test
+  public void itFailsEveryKeyWhenTheBulkCallReturnsNull() throws Exception {
+    ResultBatchLoader<Integer, String, String> loader = new ResultBatchLoader<>(
+      policy().setMaxDelay(Duration.ofMinutes(1)).build(),
+      keys -> null,
+      scheduler
+    );
+
+    CompletableFuture<Result<String, String>> one = loader.load(1);
+    loader.dispatch();
+    assertThatThrownBy(one::get)
+      .isInstanceOf(ExecutionException.class)
+      .hasCauseInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  public void itFailsKeysWhenTheMissingKeyErrorFactoryThrows() throws Exception {
+    IllegalStateException exception = new IllegalStateException("no error for 404");
+    ResultBatchLoader<Integer, String, String> loader = loader(
+      policy()
+        .setMissingKeyErrorFactory(id -> {
+          throw exception;
+        })
+        .setMaxDelay(Duration.ofMinutes(1))
+        .build()
+    );
+
+    CompletableFuture<Result<String, String>> one = loader.load(1);
+    CompletableFuture<Result<String, String>> missing = loader.load(404);
+    loader.dispatch();
+
+    assertThat(one.get()).isEqualTo(Result.ok("user-1"));
+    assertThatThrownBy(missing::get)
+      .isInstanceOf(ExecutionException.class)
+      .hasCause(exception);
+    assertThat(loader.load(404)).isNotSameAs(missing);
+  }
+
+  @Test
+  public void itRejectsInvalidPolicies() {
+    assertThatThrownBy(() -> policy().setMaxBatchSize(0).build())
+      .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> policy().setMaxDelay(Duration.ofMillis(-1)).build())
+      .isInstanceOf(IllegalStateException.class);
+  }
+
+  private ResultBatchLoader<Integer, String, String> loader(
+    BatchLoaderPolicy<Integer, String> policy
+  ) {
+    return new ResultBatchLoader<>(policy, this::loadUsers, scheduler);
+  }
+
+  private CompletableFuture<Map<Integer, Result<String, String>>> loadUsers(
+    Set<Integer> ids
+  ) {
+    batches.add(ids);
+    Map<Integer, Result<String, String>> users = new HashMap<>();
+    for (Integer id : ids) {
+      if (id != 404) {
+        users.put(id, Result.ok("user-" + id));
+      }
+    }
+    return CompletableFuture.completedFuture(users);
+  }
+
+  private static BatchLoaderPolicy.Builder<Integer, String> policy() {
+    return BatchLoaderPolicy
+      .<Integer, String>builder()
+      .setMissingKeyErrorFactory(id -> "missing " + id);
+  }
+
+  private static Set<Integer> set(Integer... ids) {
+    return new LinkedHashSet<>(Arrays.asList(ids));
+  }
+}
@@ -0,0 +1,125 @@
+package com.hubspot.algebra.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hubspot.algebra.Result;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+
+public class ResultMetricsTest {
+
+  private enum SampleError {
+    NOT_FOUND,
+  }
+
+  private final ResultMetrics metrics = new ResultMetrics();
+
+  @Test
+  public void itCountsOutcomes() {
+    ResultInstrument instrument = metrics.instrument("lookup");
+    instrument.record(Result.ok("a"));
+    instrument.record(Result.ok("b"));
+    instrument.record(Result.err(SampleError.NOT_FOUND));
+    instrument.record(Result.err("message"));
+
+    assertThat(instrument.getOkCount()).isEqualTo(2);
+    assertThat(instrument.getErrCount()).isEqualTo(2);
+    assertThat(instrument.getErrCount(SampleError.class)).isEqualTo(1);
+    assertThat(instrument.getErrCount(String.class)).isEqualTo(1);
+    assertThat(instrument.getErrCount(Integer.class)).isEqualTo(0);
+  }
+
+  @Test
+  public void itReturnsTheSameInstrumentPerName() {
+    assertThat(metrics.instrument("lookup")).isSameAs(metrics.instrument("lookup"));
+    assertThat(metrics.getInstruments()).hasSize(1);
+  }
+
+  @Test
+  public void itRecordsLatencyOfCalls() throws Exception {
+    ResultInstrument instrument = metrics.instrument("lookup");
+    instrument.call(() -> Result.ok("a"));
+    instrument
+      .callAsync(() ->
+        CompletableFuture.completedFuture(Result.err(SampleError.NOT_FOUND))
+      )
+      .get();
+
+    assertThat(instrument.getLatencyCount()).isEqualTo(2);
+    assertThat(instrument.getOkCount()).isEqualTo(1);
+    assertThat(instrument.getErrCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void itRecordsFailedAsyncCallsAsFailures() {
+    ResultInstrument instrument = metrics.instrument("lookup");
+    CompletableFuture<Result<String, SampleError>> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new IllegalStateException("timed out"));
+
+    CompletableFuture<Result<String, SampleError>> future = instrument.callAsync(() ->
+      failed
+    );
+
+    assertThat(future).isCompletedExceptionally();
+    assertThat(instrument.getLatencyCount()).isEqualTo(1);
+    assertThat(instrument.getOkCount()).isEqualTo(0);
+    assertThat(instrument.getErrCount()).isEqualTo(0);
+    assertThat(instrument.getFailureCount()).isEqualTo(1);
+    assertThat(instrument.getFailureCount(IllegalStateException.class)).isEqualTo(1);
+    assertThat(instrument.getErrCountsByClass()).isEmpty();
+  }
+
+  @Test
+  public void itRecordsThrowingSyncCallsAsFailures() {
+    ResultInstrument instrument = metrics.instrument("lookup");
+
+    assertThatThrownBy(() ->
+        instrument.<String, SampleError>call(() -> {
+          throw new IllegalStateException("timed out");
+        })
+      )
+      .isInstanceOf(IllegalStateException.class);
+
+    assertThat(instrument.getLatencyCount()).isEqualTo(1);
+    assertThat(instrument.getErrCount()).isEqualTo(0);
+    assertThat(instrument.getFailureCount()).isEqualTo(1);
+    assertThat(instrument.getFailureCount(IllegalStateException.class)).isEqualTo(1);
+  }
+
+  @Test
+  public void itNotifiesExporters() {
+    metrics.instrument("existing").record(Result.err(SampleError.NOT_FOUND));
+
+    List<String> events = new ArrayList<>();
+    metrics.addExporter(
+      new ResultMetricsExporter() {
+        @Override
+        public void onInstrumentCreated(ResultInstrument instrument) {
+          events.add("instrument:" + instrument.getName());
+        }
+
+        @Override
+        public void onErrorClassRecorded(
+          ResultInstrument instrument,
+          Class<?> errorClass
+        ) {
+          events.add(instrument.getName() + ":" + errorClass.getSimpleName());
+        }
+      }
+    );
+
+    metrics.instrument("created").record(Result.err("message"));
+    metrics.instrument("created").record(Result.err("message"));
+
+    assertThat(events)
+      .containsExactly(
+        "instrument:existing",
+        "existing:SampleError",
+        "instrument:created",
+        "created:String"
+      );
+  }
+}
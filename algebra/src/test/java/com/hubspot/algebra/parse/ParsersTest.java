@@ -0,0 +1,119 @@
+package com.hubspot.algebra.parse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.parse.ParseError.Reason;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class ParsersTest {
+
+  @Test
+  public void itParsesInts() {
+    assertThat(Parsers.parseInt("0")).isEqualTo(Result.ok(0));
+    assertThat(Parsers.parseInt("-42")).isEqualTo(Result.ok(-42));
+    assertThat(Parsers.parseInt("2147483647")).isEqualTo(Result.ok(Integer.MAX_VALUE));
+    assertThat(Parsers.parseInt("-2147483648")).isEqualTo(Result.ok(Integer.MIN_VALUE));
+    assertThat(Parsers.parseInt("id=123;", 3, 6)).isEqualTo(Result.ok(123));
+  }
+
+  @Test
+  public void itRejectsInvalidInts() {
+    assertThat(Parsers.parseInt("")).isEqualTo(err("int", Reason.EMPTY, 0));
+    assertThat(Parsers.parseInt("-")).isEqualTo(err("int", Reason.INVALID_CHARACTER, 0));
+    assertThat(Parsers.parseInt("12a4"))
+      .isEqualTo(err("int", Reason.INVALID_CHARACTER, 2));
+    assertThat(Parsers.parseInt("+1")).isEqualTo(err("int", Reason.INVALID_CHARACTER, 0));
+    assertThat(Parsers.parseInt("2147483648"))
+      .isEqualTo(err("int", Reason.OUT_OF_RANGE, 0));
+    assertThat(Parsers.parseInt("-2147483649"))
+      .isEqualTo(err("int", Reason.OUT_OF_RANGE, 0));
+    assertThat(Parsers.parseInt("x=99999999999", 2, 13))
+      .isEqualTo(err("int", Reason.OUT_OF_RANGE, 2));
+    assertThat(Parsers.parseIntOr("nope", -1)).isEqualTo(-1);
+    assertThat(Parsers.parseIntOr("17", -1)).isEqualTo(17);
+  }
+
+  @Test
+  public void itParsesLongs() {
+    assertThat(Parsers.parseLong("9223372036854775807"))
+      .isEqualTo(Result.ok(Long.MAX_VALUE));
+    assertThat(Parsers.parseLong("-9223372036854775808"))
+      .isEqualTo(Result.ok(Long.MIN_VALUE));
+    assertThat(Parsers.parseLong("9223372036854775808"))
+      .isEqualTo(err("long", Reason.OUT_OF_RANGE, 0));
+    assertThat(Parsers.parseLongOr("/users/1234", 7, 11, 0)).isEqualTo(1234L);
+    assertThat(Parsers.parseLongOr("/users/12x4", 7, 11, 0)).isEqualTo(0L);
+  }
+
+  @Test
+  public void itParsesUuids() {
+    UUID uuid = UUID.randomUUID();
+    assertThat(Parsers.parseUuid(uuid.toString())).isEqualTo(Result.ok(uuid));
+    assertThat(Parsers.parseUuid(uuid.toString().toUpperCase()))
+      .isEqualTo(Result.ok(uuid));
+    assertThat(Parsers.parseUuid("[" + uuid + "]", 1, 37)).isEqualTo(Result.ok(uuid));
+  }
+
+  @Test
+  public void itRejectsInvalidUuids() {
+    assertThat(Parsers.parseUuid("1-2-3-4-5"))
+      .isEqualTo(err("UUID", Reason.INVALID_LENGTH, 0));
+    assertThat(Parsers.parseUuid("123e4567-e89b-12d3-a456_426614174000"))
+      .isEqualTo(err("UUID", Reason.INVALID_CHARACTER, 23));
+    assertThat(Parsers.parseUuid("123e4567-e89b-12d3-a456-42661417400g"))
+      .isEqualTo(err("UUID", Reason.INVALID_CHARACTER, 35));
+    assertThat(Parsers.parseUuid("123e4567-e89b-12d3-a456-42661417400\u0661"))
+      .isEqualTo(err("UUID", Reason.INVALID_CHARACTER, 35));
+  }
+
+  @Test
+  public void itParsesEnums() {
+    assertThat(Parsers.parseEnum(TimeUnit.class, "SECONDS"))
+      .isEqualTo(Result.ok(TimeUnit.SECONDS));
+    assertThat(Parsers.parseEnum(TimeUnit.class, "unit=DAYS", 5, 9))
+      .isEqualTo(Result.ok(TimeUnit.DAYS));
+    assertThat(Parsers.parseEnum(TimeUnit.class, "seconds"))
+      .isEqualTo(err("TimeUnit", Reason.UNKNOWN_VALUE, 0));
+    assertThat(Parsers.parseEnum(TimeUnit.class, ""))
+      .isEqualTo(err("TimeUnit", Reason.EMPTY, 0));
+  }
+
+  @Test
+  public void itParsesIsoDates() {
+    assertThat(Parsers.parseIsoDate("2024-02-29"))
+      .isEqualTo(Result.ok(LocalDate.of(2024, 2, 29)));
+    assertThat(Parsers.parseIsoDate("2023-02-29"))
+      .isEqualTo(err("ISO date", Reason.OUT_OF_RANGE, 8));
+    assertThat(Parsers.parseIsoDate("2023-13-01"))
+      .isEqualTo(err("ISO date", Reason.OUT_OF_RANGE, 5));
+    assertThat(Parsers.parseIsoDate("2023/01/01"))
+      .isEqualTo(err("ISO date", Reason.INVALID_CHARACTER, 4));
+    assertThat(Parsers.parseIsoDate("2023-0x-01"))
+      .isEqualTo(err("ISO date", Reason.INVALID_CHARACTER, 6));
+    assertThat(Parsers.parseIsoDate("2023-1-1"))
+      .isEqualTo(err("ISO date", Reason.INVALID_LENGTH, 0));
+  }
+
+  @Test
+  public void itReportsBadRequests() {
+    ParseError error = Parsers.parseInt("x").unwrapErrOrElseThrow();
+    assertThat(error.getStatusCode()).isEqualTo(400);
+    assertThat(error.getMessage())
+      .isEqualTo("Invalid int: INVALID_CHARACTER at position 0");
+  }
+
+  @Test
+  public void itThrowsForRangesOutsideTheInput() {
+    assertThatThrownBy(() -> Parsers.parseInt("12", 1, 3))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  private static <T> Result<T, ParseError> err(String type, Reason reason, int position) {
+    return Result.err(ParseError.of(type, reason, position));
+  }
+}
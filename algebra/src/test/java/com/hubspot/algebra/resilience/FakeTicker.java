@@ -0,0 +1,22 @@
+package com.hubspot.algebra.resilience;
+
+import com.google.common.base.Ticker;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A ticker that only moves when a test advances it.
+ */
+class FakeTicker extends Ticker {
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  @Override
+  public long read() {
+    return nanos.get();
+  }
+
+  void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+}
@@ -0,0 +1,190 @@
+package com.hubspot.algebra.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hubspot.algebra.HttpError;
+import com.hubspot.algebra.Result;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class ResultBulkheadTest {
+
+  private enum SampleError implements HttpError {
+    FAILED(500),
+    NOT_FOUND(404),
+    OVERLOADED(503);
+
+    private final int statusCode;
+
+    SampleError(int statusCode) {
+      this.statusCode = statusCode;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return statusCode;
+    }
+  }
+
+  private final FakeTicker ticker = new FakeTicker();
+  private final ResultBulkhead<SampleError> bulkhead = new ResultBulkhead<>(
+    policy().build(),
+    ticker
+  );
+
+  @Test
+  public void itRejectsCallsOverTheLimit() {
+    CompletableFuture<Result<String, SampleError>> first = new CompletableFuture<>();
+    CompletableFuture<Result<String, SampleError>> second = new CompletableFuture<>();
+    bulkhead.callAsync(() -> first);
+    bulkhead.callAsync(() -> second);
+    assertThat(bulkhead.getInFlightCount()).isEqualTo(2);
+
+    AtomicInteger calls = new AtomicInteger();
+    Result<String, SampleError> rejected = bulkhead.call(() -> {
+      calls.incrementAndGet();
+      return Result.ok("ok");
+    });
+
+    assertThat(rejected).isEqualTo(Result.err(SampleError.OVERLOADED));
+    assertThat(calls.get()).isEqualTo(0);
+    assertThat(bulkhead.getRejectedCount()).isEqualTo(1);
+
+    first.complete(Result.ok("ok"));
+    assertThat(bulkhead.getInFlightCount()).isEqualTo(1);
+    assertThat(bulkhead.call(() -> Result.ok("ok"))).isEqualTo(Result.ok("ok"));
+  }
+
+  @Test
+  public void itGrowsTheLimitWhileCallsSucceedAtCapacity() {
+    ResultBulkhead<SampleError> bulkhead = new ResultBulkhead<>(
+      policy().setInitialLimit(1).build(),
+      ticker
+    );
+
+    for (int i = 0; i < 10; i++) {
+      bulkhead.call(() -> Result.ok("ok"));
+    }
+
+    assertThat(bulkhead.getLimit()).isGreaterThan(1).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  public void itShrinksTheLimitOnFailuresAndSlowCalls() {
+    ResultBulkhead<SampleError> bulkhead = new ResultBulkhead<>(
+      policy().setInitialLimit(10).setBackoffRatio(0.5).build(),
+      ticker
+    );
+
+    bulkhead.call(() -> Result.err(SampleError.FAILED));
+    assertThat(bulkhead.getLimit()).isEqualTo(5);
+
+    bulkhead.call(() -> {
+      ticker.advance(Duration.ofSeconds(2));
+      return Result.ok("ok");
+    });
+    assertThat(bulkhead.getLimit()).isEqualTo(2);
+
+    bulkhead.call(() -> Result.err(SampleError.NOT_FOUND));
+    assertThat(bulkhead.getLimit()).isEqualTo(2);
+
+    for (int i = 0; i < 5; i++) {
+      bulkhead.call(() -> Result.err(SampleError.FAILED));
+    }
+    assertThat(bulkhead.getLimit()).isEqualTo(1);
+  }
+
+  @Test
+  public void itReleasesPermitsWhenTheSupplierThrows() {
+    assertThatThrownBy(() ->
+        bulkhead.call(() -> {
+          throw new IllegalStateException("boom");
+        })
+      )
+      .isInstanceOf(IllegalStateException.class);
+
+    assertThat(bulkhead.getInFlightCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void itReleasesPermitsWhenTheSupplierThrowsAnError() {
+    assertThatThrownBy(() ->
+        bulkhead.call(() -> {
+          throw new AssertionError("boom");
+        })
+      )
+      .isInstanceOf(AssertionError.class);
+
+    assertThat(bulkhead.getInFlightCount()).isEqualTo(0);
+    assertThat(bulkhead.getLimit()).isEqualTo(1);
+  }
+
+  @Test
+  public void itReleasesPermitsWhenTheFailurePredicateThrows() {
+    ResultBulkhead<SampleError> bulkhead = new ResultBulkhead<>(
+      policy()
+        .setFailurePredicate(err -> {
+          throw new IllegalStateException("boom");
+        })
+        .build(),
+      ticker
+    );
+
+    assertThatThrownBy(() -> bulkhead.call(() -> Result.err(SampleError.FAILED)))
+      .isInstanceOf(IllegalStateException.class);
+    assertThat(bulkhead.getInFlightCount()).isEqualTo(0);
+    assertThat(bulkhead.getLimit()).isEqualTo(1);
+
+    CompletableFuture<Result<String, SampleError>> future = bulkhead.callAsync(() ->
+      CompletableFuture.completedFuture(Result.err(SampleError.FAILED))
+    );
+    assertThat(future).isCompletedExceptionally();
+    assertThat(bulkhead.getInFlightCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void itReleasesPermitsWhenTheAsyncSupplierReturnsNull() {
+    CompletableFuture<Result<String, SampleError>> future = bulkhead.callAsync(() ->
+      null
+    );
+
+    assertThat(future).isCompletedExceptionally();
+    assertThat(bulkhead.getInFlightCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void itReleasesPermitsWhenTheStageCompletesWithNull() {
+    CompletableFuture<Result<String, SampleError>> future = bulkhead.callAsync(() ->
+      CompletableFuture.completedFuture(null)
+    );
+
+    assertThat(future).isCompletedWithValue(null);
+    assertThat(bulkhead.getInFlightCount()).isEqualTo(0);
+    assertThat(bulkhead.getLimit()).isEqualTo(1);
+  }
+
+  @Test
+  public void itDoesNotCallTheRejectionSupplierUntilACallIsRejected() {
+    AtomicInteger calls = new AtomicInteger();
+    policy()
+      .setRejectionErrorSupplier(() -> {
+        calls.incrementAndGet();
+        return SampleError.OVERLOADED;
+      })
+      .build();
+
+    assertThat(calls.get()).isEqualTo(0);
+  }
+
+  private static BulkheadPolicy.Builder<SampleError> policy() {
+    return BulkheadPolicy
+      .<SampleError>builder()
+      .setRejectionErrorSupplier(() -> SampleError.OVERLOADED)
+      .setFailurePredicate(err -> err != SampleError.NOT_FOUND)
+      .setInitialLimit(2)
+      .setLatencyThreshold(Duration.ofSeconds(1));
+  }
+}
@@ -0,0 +1,160 @@
+package com.hubspot.algebra.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hubspot.algebra.Result;
+import com.hubspot.algebra.resilience.ResultCircuitBreaker.State;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class ResultCircuitBreakerTest {
+
+  private enum SampleError {
+    FAILED,
+    IGNORED,
+    CIRCUIT_OPEN,
+  }
+
+  private final FakeTicker ticker = new FakeTicker();
+  private final ResultCircuitBreaker<SampleError> breaker = new ResultCircuitBreaker<>(
+    CircuitBreakerPolicy
+      .<SampleError>builder()
+      .setRejectionErrorSupplier(() -> SampleError.CIRCUIT_OPEN)
+      .setFailurePredicate(err -> err != SampleError.IGNORED)
+      .setFailureThreshold(2)
+      .setOpenDuration(Duration.ofSeconds(1))
+      .build(),
+    ticker
+  );
+
+  @Test
+  public void itOpensAfterConsecutiveFailures() {
+    breaker.call(() -> Result.err(SampleError.FAILED));
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+    breaker.call(() -> Result.err(SampleError.FAILED));
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThat(breaker.getOpenedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void itRejectsWithoutCallingWhileOpen() {
+    open();
+
+    AtomicInteger calls = new AtomicInteger();
+    Result<String, SampleError> result = breaker.call(() -> {
+      calls.incrementAndGet();
+      return Result.ok("ok");
+    });
+
+    assertThat(result).isEqualTo(Result.err(SampleError.CIRCUIT_OPEN));
+    assertThat(calls.get()).isEqualTo(0);
+    assertThat(breaker.getRejectedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void itClosesAfterSuccessfulTrial() {
+    open();
+    ticker.advance(Duration.ofSeconds(1));
+
+    assertThat(breaker.call(() -> Result.ok("ok"))).isEqualTo(Result.ok("ok"));
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  public void itReopensAfterFailedTrial() {
+    open();
+    ticker.advance(Duration.ofSeconds(1));
+
+    breaker.call(() -> Result.err(SampleError.FAILED));
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThat(breaker.getOpenedCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void itIgnoresErrsThatAreNotFailures() {
+    breaker.call(() -> Result.err(SampleError.FAILED));
+    breaker.call(() -> Result.err(SampleError.IGNORED));
+    breaker.call(() -> Result.err(SampleError.FAILED));
+
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  public void itReopensWhenTheTrialNeverCompletes() {
+    open();
+    ticker.advance(Duration.ofSeconds(1));
+
+    CompletableFuture<Result<String, SampleError>> trial = breaker.callAsync(
+      CompletableFuture::new
+    );
+    assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+    assertThat(breaker.call(() -> Result.ok("ok")))
+      .isEqualTo(Result.err(SampleError.CIRCUIT_OPEN));
+
+    ticker.advance(Duration.ofSeconds(1));
+    assertThat(breaker.call(() -> Result.ok("ok")))
+      .isEqualTo(Result.err(SampleError.CIRCUIT_OPEN));
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThat(trial).isNotDone();
+
+    ticker.advance(Duration.ofSeconds(1));
+    assertThat(breaker.call(() -> Result.ok("ok"))).isEqualTo(Result.ok("ok"));
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  public void itReopensWhenTheTrialThrowsAnError() {
+    open();
+    ticker.advance(Duration.ofSeconds(1));
+
+    assertThatThrownBy(() ->
+        breaker.call(() -> {
+          throw new LinkageError("broken trial");
+        })
+      )
+      .isInstanceOf(LinkageError.class);
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+  }
+
+  @Test
+  public void itCountsFailurePredicateExceptionsAsFailures() {
+    ResultCircuitBreaker<SampleError> throwing = new ResultCircuitBreaker<>(
+      CircuitBreakerPolicy
+        .<SampleError>builder()
+        .setRejectionErrorSupplier(() -> SampleError.CIRCUIT_OPEN)
+        .setFailurePredicate(err -> {
+          throw new IllegalStateException("broken predicate");
+        })
+        .setFailureThreshold(1)
+        .build(),
+      ticker
+    );
+
+    assertThatThrownBy(() -> throwing.call(() -> Result.err(SampleError.FAILED)))
+      .isInstanceOf(IllegalStateException.class);
+    assertThat(throwing.getState()).isEqualTo(State.OPEN);
+  }
+
+  @Test
+  public void itFailsAsyncCallsWhenTheSupplierThrows() {
+    IllegalStateException exception = new IllegalStateException("no connection");
+
+    CompletableFuture<Result<String, SampleError>> future = breaker.callAsync(() -> {
+      throw exception;
+    });
+
+    assertThat(future).isCompletedExceptionally();
+    assertThatThrownBy(() -> future.getNow(null)).hasCause(exception);
+    assertThat(breaker.callAsync(() -> null)).isCompletedExceptionally();
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+  }
+
+  private void open() {
+    breaker.call(() -> Result.err(SampleError.FAILED));
+    breaker.call(() -> Result.err(SampleError.FAILED));
+  }
+}
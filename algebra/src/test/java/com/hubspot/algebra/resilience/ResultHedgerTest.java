@@ -0,0 +1,222 @@
+package com.hubspot.algebra.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.hubspot.algebra.Result;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+public class ResultHedgerTest {
+
+  private enum SampleError {
+    NOT_FOUND,
+    UNAVAILABLE,
+  }
+
+  private static final Duration HEDGE_DELAY = Duration.ofMillis(1);
+
+  private final ScheduledExecutorService scheduler =
+    Executors.newSingleThreadScheduledExecutor();
+
+  @After
+  public void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void itDoesNotHedgeFastCalls() throws Exception {
+    ResultHedger<SampleError> hedger = hedger(
+      policy().setHedgeDelay(Duration.ofMinutes(1)).build()
+    );
+    AtomicInteger calls = new AtomicInteger();
+
+    Result<String, SampleError> result = hedger
+      .callAsync(() -> {
+        calls.incrementAndGet();
+        return CompletableFuture.completedFuture(
+          Result.<String, SampleError>ok("primary")
+        );
+      })
+      .get();
+
+    assertThat(result).isEqualTo(Result.ok("primary"));
+    assertThat(calls.get()).isEqualTo(1);
+    assertThat(hedger.getHedgeCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void itTakesTheFirstOkAndCancelsTheLoser() throws Exception {
+    ResultHedger<SampleError> hedger = hedger(policy().build());
+    CompletableFuture<Result<String, SampleError>> slow = new CompletableFuture<>();
+
+    Result<String, SampleError> result = hedger
+      .callAsync(() -> slow, () -> CompletableFuture.completedFuture(Result.ok("backup")))
+      .get(5, TimeUnit.SECONDS);
+
+    assertThat(result).isEqualTo(Result.ok("backup"));
+    assertThat(slow).isCancelled();
+    assertThat(hedger.getHedgeCount()).isEqualTo(1);
+    assertThat(hedger.getHedgeWinCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void itReturnsThePreferredErrWhenBothFail() throws Exception {
+    ResultHedger<SampleError> hedger = hedger(
+      policy().setErrComparator(Comparator.reverseOrder()).build()
+    );
+    CompletableFuture<Result<String, SampleError>> slow = new CompletableFuture<>();
+    CountDownLatch hedged = new CountDownLatch(1);
+
+    CompletableFuture<Result<String, SampleError>> result = hedger.callAsync(
+      () -> slow,
+      () -> {
+        hedged.countDown();
+        return CompletableFuture.completedFuture(Result.err(SampleError.NOT_FOUND));
+      }
+    );
+    assertThat(hedged.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(result).isNotDone();
+
+    slow.complete(Result.err(SampleError.UNAVAILABLE));
+    assertThat(result.get()).isEqualTo(Result.err(SampleError.UNAVAILABLE));
+  }
+
+  @Test
+  public void itCapsTheHedgeRate() throws Exception {
+    ResultHedger<SampleError> hedger = hedger(policy().setMaxHedgeRatio(0.5).build());
+
+    CountDownLatch paused = pauseScheduler();
+    for (int i = 0; i < 4; i++) {
+      hedger.callAsync(CompletableFuture::new, CompletableFuture::new);
+    }
+    paused.countDown();
+
+    awaitHedgeTimers();
+    assertThat(hedger.getCallCount()).isEqualTo(4);
+    assertThat(hedger.getHedgeCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void itCapsHedgeBurstsAfterCallsThatNeededNoHedge() throws Exception {
+    ResultHedger<SampleError> hedger = hedger(
+      policy().setMaxHedgeRatio(0.5).setMaxHedgeBurst(2).build()
+    );
+    for (int i = 0; i < 100; i++) {
+      hedger
+        .callAsync(() ->
+          CompletableFuture.completedFuture(Result.<String, SampleError>ok("fast"))
+        )
+        .get();
+    }
+
+    CountDownLatch paused = pauseScheduler();
+    for (int i = 0; i < 10; i++) {
+      hedger.callAsync(CompletableFuture::new, CompletableFuture::new);
+    }
+    paused.countDown();
+
+    awaitHedgeTimers();
+    assertThat(hedger.getCallCount()).isEqualTo(110);
+    assertThat(hedger.getHedgeCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void itDerivesTheDelayFromObservedLatencies() {
+    FakeTicker ticker = new FakeTicker();
+    ResultHedger<SampleError> hedger = new ResultHedger<>(
+      policy()
+        .setHedgeDelay(Duration.ofMinutes(1))
+        .setDelayPercentile(50)
+        .setLatencySampleSize(4)
+        .build(),
+      scheduler,
+      ticker
+    );
+
+    for (int millis = 10; millis <= 40; millis += 10) {
+      CompletableFuture<Result<String, SampleError>> pending = new CompletableFuture<>();
+      hedger.callAsync(() -> pending);
+      ticker.advance(Duration.ofMillis(millis));
+      pending.complete(Result.ok("ok"));
+    }
+
+    assertThat(hedger.getHedgeDelay()).isEqualTo(Duration.ofMillis(20));
+  }
+
+  @Test
+  public void itSamplesTheLatencyOfCancelledLosers() throws Exception {
+    FakeTicker ticker = new FakeTicker();
+    ResultHedger<SampleError> hedger = new ResultHedger<>(
+      policy().setDelayPercentile(50).setLatencySampleSize(2).build(),
+      scheduler,
+      ticker
+    );
+    CompletableFuture<Result<String, SampleError>> slow = new CompletableFuture<>();
+    CompletableFuture<Result<String, SampleError>> backup = new CompletableFuture<>();
+    CountDownLatch hedged = new CountDownLatch(1);
+
+    CompletableFuture<Result<String, SampleError>> result = hedger.callAsync(
+      () -> slow,
+      () -> {
+        hedged.countDown();
+        return backup;
+      }
+    );
+    assertThat(hedged.await(5, TimeUnit.SECONDS)).isTrue();
+    ticker.advance(Duration.ofMillis(30));
+    backup.complete(Result.ok("backup"));
+
+    assertThat(result.get()).isEqualTo(Result.ok("backup"));
+    assertThat(slow).isCancelled();
+    assertThat(hedger.getHedgeDelay()).isEqualTo(Duration.ofMillis(30));
+  }
+
+  @Test
+  public void itFailsTheCallWhenTheHedgeCannotBeScheduled() {
+    ScheduledExecutorService stopped = Executors.newSingleThreadScheduledExecutor();
+    stopped.shutdown();
+    ResultHedger<SampleError> hedger = new ResultHedger<>(policy().build(), stopped);
+    CompletableFuture<Result<String, SampleError>> primary = new CompletableFuture<>();
+
+    CompletableFuture<Result<String, SampleError>> result = hedger.callAsync(() ->
+      primary
+    );
+
+    assertThat(result).isCompletedExceptionally();
+    assertThat(primary).isCancelled();
+  }
+
+  // Holds the scheduler thread until the returned latch is counted down, so no hedge
+  // fires while the calls of a test are still being started.
+  private CountDownLatch pauseScheduler() {
+    CountDownLatch paused = new CountDownLatch(1);
+    scheduler.execute(() -> Uninterruptibles.awaitUninterruptibly(paused));
+    return paused;
+  }
+
+  // Delayed tasks on a single thread run in order of their trigger time, so once this
+  // one has run, every hedge timer of the calls started before it has fired.
+  private void awaitHedgeTimers() throws Exception {
+    scheduler.schedule(() -> {}, HEDGE_DELAY.toNanos(), TimeUnit.NANOSECONDS).get();
+  }
+
+  private ResultHedger<SampleError> hedger(HedgePolicy<SampleError> policy) {
+    return new ResultHedger<>(policy, scheduler);
+  }
+
+  private static HedgePolicy.Builder<SampleError> policy() {
+    return HedgePolicy
+      .<SampleError>builder()
+      .setHedgeDelay(HEDGE_DELAY)
+      .setMaxHedgeRatio(1);
+  }
+}
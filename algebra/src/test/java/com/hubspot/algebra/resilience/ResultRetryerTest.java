@@ -0,0 +1,208 @@
+package com.hubspot.algebra.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hubspot.algebra.HttpError;
+import com.hubspot.algebra.Result;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+public class ResultRetryerTest {
+
+  private enum SampleError implements HttpError {
+    RATE_LIMITED(429),
+    UNAVAILABLE(503),
+    NOT_FOUND(404);
+
+    private final int statusCode;
+
+    SampleError(int statusCode) {
+      this.statusCode = statusCode;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return statusCode;
+    }
+  }
+
+  private final ScheduledExecutorService scheduler =
+    Executors.newSingleThreadScheduledExecutor();
+  private final ResultRetryer<SampleError> retryer = new ResultRetryer<>(
+    RetryPolicy
+      .<SampleError>builder()
+      .setRetryableErrorPredicate(AbstractRetryPolicy::isRetryableHttpError)
+      .setMaxAttempts(3)
+      .setInitialBackoff(Duration.ofMillis(1))
+      .build(),
+    scheduler
+  );
+
+  @After
+  public void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void itRetriesRetryableErrorsUntilOk() {
+    AtomicInteger calls = new AtomicInteger();
+    Result<String, SampleError> result = retryer.call(() ->
+      calls.incrementAndGet() < 3 ? Result.err(SampleError.UNAVAILABLE) : Result.ok("ok")
+    );
+
+    assertThat(result).isEqualTo(Result.ok("ok"));
+    assertThat(calls.get()).isEqualTo(3);
+    assertThat(retryer.getAttemptCount()).isEqualTo(3);
+    assertThat(retryer.getRetryCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void itGivesUpAfterMaxAttempts() {
+    AtomicInteger calls = new AtomicInteger();
+    Result<String, SampleError> result = retryer.call(() -> {
+      calls.incrementAndGet();
+      return Result.err(SampleError.RATE_LIMITED);
+    });
+
+    assertThat(result).isEqualTo(Result.err(SampleError.RATE_LIMITED));
+    assertThat(calls.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void itDoesNotRetryNonRetryableErrors() {
+    AtomicInteger calls = new AtomicInteger();
+    Result<String, SampleError> result = retryer.call(() -> {
+      calls.incrementAndGet();
+      return Result.err(SampleError.NOT_FOUND);
+    });
+
+    assertThat(result).isEqualTo(Result.err(SampleError.NOT_FOUND));
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void itRetriesAsyncCalls() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    Result<String, SampleError> result = retryer
+      .callAsync(() ->
+        CompletableFuture.completedFuture(
+          calls.incrementAndGet() < 2
+            ? Result.<String, SampleError>err(SampleError.RATE_LIMITED)
+            : Result.<String, SampleError>ok("ok")
+        )
+      )
+      .get();
+
+    assertThat(result).isEqualTo(Result.ok("ok"));
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void itFailsAsyncCallsWhenRetryIsRejected() {
+    scheduler.shutdownNow();
+
+    CompletableFuture<Result<String, SampleError>> future = retryer.callAsync(() ->
+      CompletableFuture.completedFuture(Result.err(SampleError.UNAVAILABLE))
+    );
+
+    assertThat(future).isCompletedExceptionally();
+    assertThatThrownBy(() -> future.getNow(null))
+      .hasCauseInstanceOf(RejectedExecutionException.class);
+  }
+
+  @Test
+  public void itFailsAsyncCallsWhenRetryPredicateThrows() {
+    ResultRetryer<SampleError> throwing = new ResultRetryer<>(
+      RetryPolicy
+        .<SampleError>builder()
+        .setRetryableErrorPredicate(err -> {
+          throw new IllegalStateException("broken predicate");
+        })
+        .build(),
+      scheduler
+    );
+
+    CompletableFuture<Result<String, SampleError>> future = throwing.callAsync(() ->
+      CompletableFuture.completedFuture(Result.err(SampleError.UNAVAILABLE))
+    );
+
+    assertThat(future).isCompletedExceptionally();
+    assertThatThrownBy(() -> future.getNow(null))
+      .hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void itFailsAsyncCallsWhenARetryReturnsNull() {
+    AtomicInteger attempts = new AtomicInteger();
+
+    CompletableFuture<Result<String, SampleError>> future = retryer.callAsync(() ->
+      attempts.incrementAndGet() == 1
+        ? CompletableFuture.completedFuture(Result.err(SampleError.UNAVAILABLE))
+        : null
+    );
+
+    assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+      .isInstanceOf(ExecutionException.class)
+      .hasCauseInstanceOf(NullPointerException.class);
+    assertThat(attempts.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void itFailsAsyncCallsWhenARetryThrowsAnError() {
+    AtomicInteger attempts = new AtomicInteger();
+    LinkageError error = new LinkageError("broken retry");
+
+    CompletableFuture<Result<String, SampleError>> future = retryer.callAsync(() -> {
+      if (attempts.incrementAndGet() == 1) {
+        return CompletableFuture.completedFuture(Result.err(SampleError.UNAVAILABLE));
+      }
+      throw error;
+    });
+
+    assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+      .isInstanceOf(ExecutionException.class)
+      .hasCause(error);
+  }
+
+  @Test
+  public void itRetriesSyncCallsWithoutTheScheduler() {
+    scheduler.shutdownNow();
+    AtomicInteger attempts = new AtomicInteger();
+
+    Result<String, SampleError> result = retryer.call(() ->
+      attempts.incrementAndGet() < 3
+        ? Result.err(SampleError.UNAVAILABLE)
+        : Result.ok("ok")
+    );
+
+    assertThat(result).isEqualTo(Result.ok("ok"));
+    assertThat(attempts.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void itCapsBackoffs() {
+    ResultRetryer<SampleError> capped = new ResultRetryer<>(
+      RetryPolicy
+        .<SampleError>builder()
+        .setRetryableErrorPredicate(err -> true)
+        .setInitialBackoff(Duration.ofMillis(10))
+        .setMaxBackoff(Duration.ofMillis(50))
+        .setJitterFactor(0)
+        .build(),
+      scheduler
+    );
+
+    assertThat(capped.backoffNanos(1)).isEqualTo(Duration.ofMillis(10).toNanos());
+    assertThat(capped.backoffNanos(2)).isEqualTo(Duration.ofMillis(20).toNanos());
+    assertThat(capped.backoffNanos(10)).isEqualTo(Duration.ofMillis(50).toNanos());
+  }
+}
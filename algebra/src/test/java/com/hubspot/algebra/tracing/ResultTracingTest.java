@@ -0,0 +1,226 @@
+package com.hubspot.algebra.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.hubspot.algebra.HttpError;
+import com.hubspot.algebra.Result;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+
+public class ResultTracingTest {
+
+  private enum SampleError implements HttpError {
+    NOT_FOUND;
+
+    @Override
+    public int getStatusCode() {
+      return 404;
+    }
+  }
+
+  private final RecordingTracer tracer = new RecordingTracer();
+  private final ResultTracing tracing = new ResultTracing(tracer);
+
+  @Test
+  public void itAnnotatesOkSpans() {
+    Result<String, SampleError> result = tracing.traced("lookup", () -> Result.ok("a"));
+
+    assertThat(result).isEqualTo(Result.ok("a"));
+    assertThat(tracer.spans).hasSize(1);
+    RecordingSpan span = tracer.spans.get(0);
+    assertThat(span.name).isEqualTo("lookup");
+    assertThat(span.attributes)
+      .containsOnly(entry(ResultTracing.OUTCOME_ATTRIBUTE, "ok"));
+    assertThat(span.error).isNull();
+    assertThat(span.ended).isEqualTo(1);
+  }
+
+  @Test
+  public void itAnnotatesErrSpans() {
+    tracing.traced("lookup", () -> Result.err(SampleError.NOT_FOUND));
+
+    RecordingSpan span = tracer.spans.get(0);
+    assertThat(span.attributes)
+      .containsEntry(ResultTracing.OUTCOME_ATTRIBUTE, "err")
+      .containsEntry(ResultTracing.ERROR_CLASS_ATTRIBUTE, SampleError.class.getName())
+      .containsEntry(ResultTracing.STATUS_CODE_ATTRIBUTE, 404L);
+    assertThat(span.error).isEqualTo(SampleError.class.getName());
+    assertThat(span.ended).isEqualTo(1);
+  }
+
+  @Test
+  public void itDescribesErrSpansWithTheGivenDescriber() {
+    new ResultTracing(tracer, error -> ((SampleError) error).name())
+      .traced("lookup", () -> Result.err(SampleError.NOT_FOUND));
+
+    assertThat(tracer.spans.get(0).error).isEqualTo("NOT_FOUND");
+  }
+
+  @Test
+  public void itMakesTheSpanCurrentWhileTheSupplierRuns() {
+    tracing.traced(
+      "lookup",
+      () -> {
+        assertThat(tracer.current).isSameAs(tracer.spans.get(0));
+        return Result.ok("a");
+      }
+    );
+
+    assertThat(tracer.current).isNull();
+  }
+
+  @Test
+  public void itEndsSpansWhenTheSupplierThrows() {
+    IllegalStateException exception = new IllegalStateException("boom");
+
+    assertThatThrownBy(() ->
+        tracing.traced(
+          "lookup",
+          () -> {
+            throw exception;
+          }
+        )
+      )
+      .isSameAs(exception);
+
+    RecordingSpan span = tracer.spans.get(0);
+    assertThat(span.exception).isSameAs(exception);
+    assertThat(span.error).isEqualTo("boom");
+    assertThat(span.ended).isEqualTo(1);
+  }
+
+  @Test
+  public void itEndsAsyncSpansOnCompletion() throws Exception {
+    CompletableFuture<Result<String, SampleError>> pending = new CompletableFuture<>();
+    CompletableFuture<Result<String, SampleError>> traced = tracing.tracedAsync(
+      "lookup",
+      () -> pending
+    );
+
+    RecordingSpan span = tracer.spans.get(0);
+    assertThat(span.ended).isEqualTo(0);
+
+    pending.complete(Result.err(SampleError.NOT_FOUND));
+    assertThat(traced.get()).isEqualTo(Result.err(SampleError.NOT_FOUND));
+    assertThat(span.attributes).containsEntry(ResultTracing.OUTCOME_ATTRIBUTE, "err");
+    assertThat(span.ended).isEqualTo(1);
+  }
+
+  @Test
+  public void itRecordsAsyncFailures() {
+    IllegalStateException exception = new IllegalStateException("boom");
+    CompletableFuture<Result<String, SampleError>> failed = new CompletableFuture<>();
+    failed.completeExceptionally(exception);
+
+    assertThatThrownBy(() -> tracing.tracedAsync("lookup", () -> failed).get())
+      .isInstanceOf(ExecutionException.class)
+      .hasCause(exception);
+    assertThat(tracer.spans.get(0).exception).isSameAs(exception);
+    assertThat(tracer.spans.get(0).ended).isEqualTo(1);
+  }
+
+  @Test
+  public void itSkipsSpansWhenDisabled() throws Exception {
+    tracer.enabled = false;
+
+    assertThat(tracing.traced("lookup", () -> Result.ok("a"))).isEqualTo(Result.ok("a"));
+    assertThat(
+      tracing
+        .tracedAsync("lookup", () -> CompletableFuture.completedFuture(Result.ok("b")))
+        .get()
+    )
+      .isEqualTo(Result.ok("b"));
+    assertThat(ResultTracing.disabled().traced("lookup", () -> Result.ok("c")))
+      .isEqualTo(Result.ok("c"));
+    assertThat(tracer.spans).isEmpty();
+  }
+
+  @Test
+  public void itStartsNoopSpansFromTheDisabledTracer() {
+    ResultTracer disabledTracer = ResultTracing.disabled().getTracer();
+    ResultSpan span = disabledTracer.startSpan("lookup");
+
+    try (ResultSpan.Scope ignored = span.makeCurrent()) {
+      span.setAttribute(ResultTracing.OUTCOME_ATTRIBUTE, "ok");
+      span.setError("failed");
+      span.recordException(new IllegalStateException());
+    }
+    span.end();
+
+    assertThat(disabledTracer.isEnabled()).isFalse();
+    assertThat(disabledTracer.startSpan("other")).isSameAs(span);
+  }
+
+  private static class RecordingTracer implements ResultTracer {
+
+    private final List<RecordingSpan> spans = new ArrayList<>();
+    private boolean enabled = true;
+    private RecordingSpan current;
+
+    @Override
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    @Override
+    public ResultSpan startSpan(String name) {
+      RecordingSpan span = new RecordingSpan(this, name);
+      spans.add(span);
+      return span;
+    }
+  }
+
+  private static class RecordingSpan implements ResultSpan {
+
+    private final RecordingTracer tracer;
+    private final String name;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    private String error;
+    private Throwable exception;
+    private int ended;
+
+    private RecordingSpan(RecordingTracer tracer, String name) {
+      this.tracer = tracer;
+      this.name = name;
+    }
+
+    @Override
+    public Scope makeCurrent() {
+      RecordingSpan previous = tracer.current;
+      tracer.current = this;
+      return () -> tracer.current = previous;
+    }
+
+    @Override
+    public void setAttribute(String key, String value) {
+      attributes.put(key, value);
+    }
+
+    @Override
+    public void setAttribute(String key, long value) {
+      attributes.put(key, value);
+    }
+
+    @Override
+    public void setError(String description) {
+      error = description;
+    }
+
+    @Override
+    public void recordException(Throwable throwable) {
+      exception = throwable;
+    }
+
+    @Override
+    public void end() {
+      ended++;
+    }
+  }
+}